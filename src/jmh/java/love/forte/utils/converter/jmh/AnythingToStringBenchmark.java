@@ -0,0 +1,55 @@
+package love.forte.utils.converter.jmh;
+
+import love.forte.utils.converter.string.AnythingToStringConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AnythingToStringConverter} 对不同类型源对象的开销。
+ *
+ * @author ForteScarlet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnythingToStringBenchmark {
+
+    @Param({"string", "integer", "double", "int-array", "string-array"})
+    public String sourceKind;
+
+    private Object source;
+
+    @Setup
+    public void setup() {
+        switch (sourceKind) {
+            case "string":
+                source = BenchmarkCorpus.values(BenchmarkCorpus.ElementKind.STRING, 1)[0];
+                break;
+            case "integer":
+                source = Integer.parseInt(BenchmarkCorpus.values(BenchmarkCorpus.ElementKind.INT, 1)[0]);
+                break;
+            case "double":
+                source = Double.parseDouble(BenchmarkCorpus.values(BenchmarkCorpus.ElementKind.DOUBLE, 1)[0]);
+                break;
+            case "int-array":
+                final String[] values = BenchmarkCorpus.values(BenchmarkCorpus.ElementKind.INT, 64);
+                final int[] array = new int[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    array[i] = Integer.parseInt(values[i]);
+                }
+                source = array;
+                break;
+            default:
+                source = BenchmarkCorpus.values(BenchmarkCorpus.ElementKind.STRING, 64);
+        }
+    }
+
+    @Benchmark
+    public Object convert() {
+        return AnythingToStringConverter.INSTANCE.convert(source, String.class);
+    }
+}
@@ -0,0 +1,93 @@
+package love.forte.utils.converter.jmh;
+
+import java.util.Random;
+
+/**
+ * 基准测试所使用的输入内容生成器。
+ * <p>
+ * 所有内容均由固定的种子生成，因此同样的参数在每次运行时都会得到完全相同的输入，便于与基准结果进行对比。
+ *
+ * @author ForteScarlet
+ */
+public final class BenchmarkCorpus {
+    /**
+     * 默认的随机种子。
+     */
+    public static final long SEED = 114514L;
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * 元素类型。
+     */
+    public enum ElementKind {
+        BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING;
+
+        /**
+         * 生成一个此类型元素的字符串形式。
+         */
+        String next(Random random) {
+            switch (this) {
+                case BYTE:
+                    return String.valueOf((byte) random.nextInt());
+                case SHORT:
+                    return String.valueOf((short) random.nextInt());
+                case INT:
+                    return String.valueOf(random.nextInt());
+                case LONG:
+                    return String.valueOf(random.nextLong());
+                case FLOAT:
+                    return String.valueOf(random.nextFloat() * 1000);
+                case DOUBLE:
+                    return String.valueOf(random.nextDouble() * 100000);
+                case BOOLEAN:
+                    return String.valueOf(random.nextBoolean());
+                default:
+                    return Integer.toString(random.nextInt() & Integer.MAX_VALUE, Character.MAX_RADIX);
+            }
+        }
+    }
+
+    /**
+     * 生成 {@code count} 个单独的元素字符串。
+     *
+     * @param kind  元素类型
+     * @param count 数量
+     * @return 元素字符串
+     */
+    public static String[] values(ElementKind kind, int count) {
+        final Random random = new Random(SEED ^ kind.ordinal());
+        final String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = kind.next(random);
+        }
+        return values;
+    }
+
+    /**
+     * 生成一个包含 {@code count} 个元素、以逗号分隔的字符串。
+     * 分隔符的前后会随机地出现至多一个空格。
+     *
+     * @param kind  元素类型
+     * @param count 数量
+     * @return 分隔字符串
+     */
+    public static String delimited(ElementKind kind, int count) {
+        final Random random = new Random(SEED ^ kind.ordinal());
+        final StringBuilder builder = new StringBuilder(count * 12);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                if (random.nextBoolean()) {
+                    builder.append(' ');
+                }
+                builder.append(',');
+                if (random.nextBoolean()) {
+                    builder.append(' ');
+                }
+            }
+            builder.append(kind.next(random));
+        }
+        return builder.toString();
+    }
+}
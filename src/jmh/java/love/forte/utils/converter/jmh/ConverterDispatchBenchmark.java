@@ -0,0 +1,74 @@
+package love.forte.utils.converter.jmh;
+
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.NoSuchConverterException;
+import love.forte.utils.converter.SimpleConverterUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SimpleConverterUtil#convert(Object, java.lang.reflect.Type)} 的转化器定位开销。
+ * <p>
+ * {@code hit} 为可以匹配到转化器的情况，{@code miss} 为无法匹配到任何转化器的情况。
+ *
+ * @author ForteScarlet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterDispatchBenchmark {
+
+    private ConverterUtil converterUtil;
+    private final Object hitSource = "114514";
+    private final Object missSource = 114514;
+    private Object[] batchSources;
+
+    @Setup
+    public void setup() {
+        converterUtil = SimpleConverterUtil.createDefaultInstance();
+        batchSources = BenchmarkCorpus.values(BenchmarkCorpus.ElementKind.LONG, 1024);
+    }
+
+    @Benchmark
+    public Object hit() {
+        return converterUtil.convert(hitSource, Integer.class);
+    }
+
+    @Benchmark
+    public Object hitPrimitive() {
+        return converterUtil.convert(hitSource, int.class);
+    }
+
+    @Benchmark
+    public Object miss() {
+        try {
+            return converterUtil.convert(missSource, Thread.class);
+        } catch (NoSuchConverterException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object findMiss() {
+        return converterUtil.findConverter(Integer.class, Thread.class);
+    }
+
+    @Benchmark
+    public long[] batchLoop() {
+        final Object[] sources = batchSources;
+        final long[] results = new long[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            results[i] = converterUtil.<Long>convert(sources[i], long.class);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public long[] batchConvertAll() {
+        return converterUtil.convertAllToLong(batchSources);
+    }
+}
@@ -0,0 +1,68 @@
+package love.forte.utils.converter.jmh;
+
+import love.forte.utils.converter.string.StringToArrayConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringToArrayConverter} 在不同元素数量与元素类型下的开销。
+ *
+ * @author ForteScarlet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringToArrayBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    @Param({"int", "long", "double", "boolean", "java.lang.Integer", "java.lang.String"})
+    public String elementType;
+
+    private final StringToArrayConverter converter = new StringToArrayConverter();
+    private String source;
+    private Class<?> arrayType;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        final Class<?> elementClass;
+        final BenchmarkCorpus.ElementKind kind;
+        switch (elementType) {
+            case "int":
+                elementClass = int.class;
+                kind = BenchmarkCorpus.ElementKind.INT;
+                break;
+            case "long":
+                elementClass = long.class;
+                kind = BenchmarkCorpus.ElementKind.LONG;
+                break;
+            case "double":
+                elementClass = double.class;
+                kind = BenchmarkCorpus.ElementKind.DOUBLE;
+                break;
+            case "boolean":
+                elementClass = boolean.class;
+                kind = BenchmarkCorpus.ElementKind.BOOLEAN;
+                break;
+            case "java.lang.Integer":
+                elementClass = Integer.class;
+                kind = BenchmarkCorpus.ElementKind.INT;
+                break;
+            default:
+                elementClass = Class.forName(elementType);
+                kind = BenchmarkCorpus.ElementKind.STRING;
+        }
+        arrayType = java.lang.reflect.Array.newInstance(elementClass, 0).getClass();
+        source = BenchmarkCorpus.delimited(kind, size);
+    }
+
+    @Benchmark
+    public Object convert() {
+        return converter.convert(source, arrayType);
+    }
+}
@@ -0,0 +1,65 @@
+package love.forte.utils.converter.jmh;
+
+import love.forte.utils.converter.TypeUtil;
+import love.forte.utils.converter.string.StringToCollectionConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringToCollectionConverter} 在不同元素数量、元素类型与集合类型下的开销。
+ *
+ * @author ForteScarlet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringToCollectionBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    @Param({"INT", "LONG", "DOUBLE", "STRING"})
+    public BenchmarkCorpus.ElementKind elementKind;
+
+    @Param({"LIST", "SET"})
+    public String collectionType;
+
+    private final StringToCollectionConverter converter = new StringToCollectionConverter();
+    private String source;
+    private Type targetType;
+
+    @Setup
+    public void setup() {
+        final Class<?> elementClass;
+        switch (elementKind) {
+            case INT:
+                elementClass = Integer.class;
+                break;
+            case LONG:
+                elementClass = Long.class;
+                break;
+            case DOUBLE:
+                elementClass = Double.class;
+                break;
+            default:
+                elementClass = String.class;
+        }
+        targetType = "SET".equals(collectionType) ? TypeUtil.set(elementClass) : TypeUtil.list(elementClass);
+        source = BenchmarkCorpus.delimited(elementKind, size);
+    }
+
+    @Benchmark
+    public Object convert() {
+        return converter.convert(source, targetType);
+    }
+
+    @Benchmark
+    public long stream() {
+        return converter.stream(source, Object.class).count();
+    }
+}
@@ -0,0 +1,95 @@
+package love.forte.utils.converter.jmh;
+
+import love.forte.utils.converter.StringToNumberConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 各个 {@link StringToNumberConverter} 实现的解析开销。每次调用会解析 {@link #SIZE} 个元素。
+ *
+ * @author ForteScarlet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringToNumberBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({"BYTE", "SHORT", "INT", "LONG", "FLOAT", "DOUBLE", "BIG_DECIMAL", "BIG_INTEGER",
+            "ATOMIC_INTEGER", "ATOMIC_LONG", "LONG_ADDER", "DOUBLE_ADDER"})
+    public String converter;
+
+    private StringToNumberConverter<?> numberConverter;
+    private String[] values;
+
+    @Setup
+    public void setup() {
+        final BenchmarkCorpus.ElementKind kind;
+        switch (converter) {
+            case "BYTE":
+                numberConverter = StringToNumberConverter.ToByte.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.BYTE;
+                break;
+            case "SHORT":
+                numberConverter = StringToNumberConverter.ToShort.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.SHORT;
+                break;
+            case "INT":
+                numberConverter = StringToNumberConverter.ToInt.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.INT;
+                break;
+            case "LONG":
+                numberConverter = StringToNumberConverter.ToLong.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.LONG;
+                break;
+            case "FLOAT":
+                numberConverter = StringToNumberConverter.ToFloat.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.FLOAT;
+                break;
+            case "DOUBLE":
+                numberConverter = StringToNumberConverter.ToDouble.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.DOUBLE;
+                break;
+            case "BIG_DECIMAL":
+                numberConverter = StringToNumberConverter.ToBigDecimal.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.DOUBLE;
+                break;
+            case "BIG_INTEGER":
+                numberConverter = StringToNumberConverter.ToBigInteger.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.LONG;
+                break;
+            case "ATOMIC_INTEGER":
+                numberConverter = StringToNumberConverter.ToAtomicInteger.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.INT;
+                break;
+            case "ATOMIC_LONG":
+                numberConverter = StringToNumberConverter.ToAtomicLong.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.LONG;
+                break;
+            case "LONG_ADDER":
+                numberConverter = StringToNumberConverter.ToLongAdder.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.LONG;
+                break;
+            case "DOUBLE_ADDER":
+                numberConverter = StringToNumberConverter.ToDoubleAdder.INSTANCE;
+                kind = BenchmarkCorpus.ElementKind.DOUBLE;
+                break;
+            default:
+                throw new IllegalArgumentException(converter);
+        }
+        values = BenchmarkCorpus.values(kind, SIZE);
+    }
+
+    @Benchmark
+    public void convertNumber(Blackhole blackhole) {
+        final StringToNumberConverter<?> numberConverter = this.numberConverter;
+        for (String value : values) {
+            blackhole.consume(numberConverter.convertNumber(value));
+        }
+    }
+}
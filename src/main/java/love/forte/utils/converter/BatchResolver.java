@@ -0,0 +1,112 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 批量转化时使用的转化器解析器。
+ * <p>
+ * 对于同一个目标类型，每种 source 类型只会通过 {@link ConverterUtil#resolveConverter(Object, Type)} 解析一次，
+ * 之后的元素直接复用解析结果。连续出现的同类型元素只需要一次引用比较。
+ * <p>
+ * 此类不是线程安全的，每个批次（或每个并行的分片）应当使用各自的实例。
+ *
+ * @author ForteScarlet
+ */
+final class BatchResolver {
+    private final ConverterUtil converterUtil;
+    private final Type target;
+
+    private Class<?> lastSourceType;
+    private Converter lastConverter;
+
+    /**
+     * 当出现多种 source 类型时才会被初始化。
+     */
+    private Map<Class<?>, Converter> resolved;
+
+    BatchResolver(@NotNull ConverterUtil converterUtil, @NotNull Type target) {
+        this.converterUtil = converterUtil;
+        this.target = target;
+    }
+
+    /**
+     * 得到 {@code source} 所对应的转化器。
+     *
+     * @throws NoSuchConverterException 当没有适合的转化器时。
+     */
+    @NotNull
+    Converter resolve(@NotNull Object source) {
+        final Class<?> sourceType = source.getClass();
+        if (sourceType == lastSourceType) {
+            return lastConverter;
+        }
+
+        Converter converter = null;
+        if (lastSourceType != null) {
+            if (resolved == null) {
+                resolved = new HashMap<>(4);
+                resolved.put(lastSourceType, lastConverter);
+            } else {
+                converter = resolved.get(sourceType);
+            }
+        }
+
+        if (converter == null) {
+            converter = converterUtil.resolveConverter(source, target);
+            if (converter == null) {
+                throw new NoSuchConverterException(sourceType.getName(), target.getTypeName());
+            }
+            if (resolved != null) {
+                resolved.put(sourceType, converter);
+            }
+        }
+
+        lastSourceType = sourceType;
+        lastConverter = converter;
+        return converter;
+    }
+
+    <T> T convert(@NotNull Object source) {
+        return resolve(source).convert(source, target);
+    }
+
+    int convertToInt(@NotNull Object source) {
+        final Converter converter = resolve(source);
+        if (converter instanceof ToIntConverter && source instanceof CharSequence) {
+            return ((ToIntConverter) converter).convertToInt((CharSequence) source);
+        }
+        return converter.<Number>convert(source, target).intValue();
+    }
+
+    long convertToLong(@NotNull Object source) {
+        final Converter converter = resolve(source);
+        if (converter instanceof ToLongConverter && source instanceof CharSequence) {
+            return ((ToLongConverter) converter).convertToLong((CharSequence) source);
+        }
+        return converter.<Number>convert(source, target).longValue();
+    }
+
+    double convertToDouble(@NotNull Object source) {
+        final Converter converter = resolve(source);
+        if (converter instanceof ToDoubleConverter && source instanceof CharSequence) {
+            return ((ToDoubleConverter) converter).convertToDouble((CharSequence) source);
+        }
+        return converter.<Number>convert(source, target).doubleValue();
+    }
+
+    /**
+     * 检查批量转化的输入范围与输出范围。
+     */
+    static void checkRange(int sourceLength, int from, int to, int outputLength, int offset) {
+        if (from < 0 || from > to || to > sourceLength) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + sourceLength);
+        }
+        if (offset < 0 || offset > outputLength - (to - from)) {
+            throw new IndexOutOfBoundsException("Output range [" + offset + ", " + (offset + to - from) + ") out of bounds for length " + outputLength);
+        }
+    }
+}
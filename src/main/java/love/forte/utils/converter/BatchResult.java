@@ -0,0 +1,108 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量转化的结果。
+ * <p>
+ * 批量转化不会因为某个元素转化失败而中止，失败的元素会被记录在 {@link #getFailures()} 中，
+ * 其在结果中对应的位置保持为默认值（对象为 {@code null}，基础数据类型为 {@code 0} 或 {@code false}）。
+ *
+ * @param <R> 结果数组的类型，例如 {@code Object[]}、{@code long[]}。
+ * @author ForteScarlet
+ * @see ParallelBatchConverter
+ */
+public final class BatchResult<R> {
+    private final R results;
+    private final List<ElementFailure> failures;
+
+    BatchResult(@NotNull R results, @NotNull List<ElementFailure> failures) {
+        this.results = results;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * 转化结果，与输入的顺序一致。
+     *
+     * @return 结果数组
+     */
+    @NotNull
+    public R getResults() {
+        return results;
+    }
+
+    /**
+     * 转化失败的元素，按照元素的索引升序排列。
+     *
+     * @return 失败信息
+     */
+    @NotNull
+    public List<ElementFailure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * 是否所有元素均转化成功。
+     *
+     * @return 没有任何失败时为 {@code true}
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult(failures=" + failures + ")";
+    }
+
+    /**
+     * 单个元素的转化失败信息。
+     */
+    public static final class ElementFailure {
+        private final int index;
+        private final Object source;
+        private final RuntimeException cause;
+
+        ElementFailure(int index, Object source, @NotNull RuntimeException cause) {
+            this.index = index;
+            this.source = source;
+            this.cause = cause;
+        }
+
+        /**
+         * 元素在输入中的索引。
+         *
+         * @return index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 转化失败的元素。
+         *
+         * @return source
+         */
+        public Object getSource() {
+            return source;
+        }
+
+        /**
+         * 转化时出现的异常。
+         *
+         * @return cause
+         */
+        @NotNull
+        public RuntimeException getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "ElementFailure(index=" + index + ", source=" + source + ", cause=" + cause + ")";
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+
+/**
+ * 能够预先绑定 source 类型与目标类型的 {@link Converter 转化器}。
+ * <p>
+ * 在绑定时完成参数的检查，并得到一个直接调用具体转化逻辑的 {@link BoundConverter}。
+ *
+ * @author ForteScarlet
+ * @see ConverterUtil#bind(Class, Type)
+ */
+public interface BindableConverter extends Converter {
+
+    /**
+     * 绑定 source 类型与目标类型，得到对应的转化句柄。
+     *
+     * @param sourceType source 的类型
+     * @param target     目标类型
+     * @param <S>        source 类型
+     * @param <T>        目标类型
+     * @return 转化句柄
+     * @throws IllegalArgumentException 当 {@code sourceType} 或 {@code target} 为不支持的类型时。
+     */
+    <S, T> BoundConverter<S, T> bind(@NotNull Class<S> sourceType, @NotNull Type target);
+
+}
@@ -0,0 +1,32 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+
+/**
+ * 一个已经绑定了 source 类型与目标类型的转化器句柄。
+ * <p>
+ * 通过 {@link ConverterUtil#bind(Class, Type)} 得到。转化器的查询以及目标类型的检查都已经在绑定时完成，
+ * 因此句柄在每次转化时不会再进行任何调度。句柄是线程安全的，可以被保存（例如 {@code static final}）并重复使用。
+ *
+ * @param <S> source 类型
+ * @param <T> 目标类型
+ * @author ForteScarlet
+ * @see ConverterUtil#bind(Class, Type)
+ * @see BindableConverter
+ */
+@FunctionalInterface
+public interface BoundConverter<S, T> {
+
+    /**
+     * 将 source 转化为绑定时所提供的目标类型。
+     *
+     * @param source 预计被转化的目标对象
+     * @return 转化结果
+     * @throws NullPointerException 当参数出现null时。
+     * @throws ConvertException     当出现无法进行类型转化的情况时。
+     */
+    T convert(@NotNull S source);
+
+}
@@ -0,0 +1,74 @@
+package love.forte.utils.converter;
+
+/**
+ * 转化结果缓存的统计信息快照。
+ *
+ * @author ForteScarlet
+ * @see CachingConverterUtil#getStats()
+ * @see CachingConverter#getStats()
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * 命中次数。
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 未命中次数。不会被缓存的转化（例如目标类型为可变类型）不会被计入。
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 被淘汰的条目数量。
+     *
+     * @return 淘汰次数
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 当前缓存的条目数量。
+     *
+     * @return 条目数量
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 命中率。没有任何查询时为 {@code 1.0}。
+     *
+     * @return 命中率
+     */
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats(hitCount=" + hitCount + ", missCount=" + missCount
+                + ", evictionCount=" + evictionCount + ", size=" + size + ")";
+    }
+}
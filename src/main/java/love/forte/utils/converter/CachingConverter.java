@@ -0,0 +1,101 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * 记录转化结果的 {@link Converter} 装饰器。
+ * <p>
+ * 对于相同的 source 值（通过 {@code equals} 判断）与目标类型，只有第一次转化会交由被装饰的转化器处理，
+ * 之后会直接得到缓存的结果。缓存是有界的，并会根据访问频率淘汰条目。
+ * <p>
+ * 只有 source 与结果均为不可变类型（例如 {@link String}、数字的包装类型、{@link java.math.BigDecimal}、
+ * 枚举、{@code java.time} 中的类型等）、且目标类型为 {@link Class} 时才会被缓存，其他的转化会直接交由被装饰的转化器处理。
+ * {@link java.util.Date} 是可变的，但也会被缓存：缓存以及每次得到的都是一个新的副本。
+ * <p>
+ * 转化失败不会被缓存。此类是线程安全的。
+ *
+ * @author ForteScarlet
+ * @see CachingConverterUtil
+ */
+public final class CachingConverter implements Converter {
+    private final Converter delegate;
+    private final MemoizationCache cache;
+
+    CachingConverter(Converter delegate, MemoizationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * 构建一个装饰器。
+     *
+     * @param delegate    被装饰的转化器
+     * @param maximumSize 缓存的最大条目数
+     * @return {@link CachingConverter}
+     */
+    public static CachingConverter create(@NotNull Converter delegate, int maximumSize) {
+        return new CachingConverter(Objects.requireNonNull(delegate), new MemoizationCache(maximumSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        if (!MemoizationCache.isCacheableTarget(target) || !MemoizationCache.isCacheableSource(source)) {
+            return delegate.convert(source, target);
+        }
+
+        final Object cached = cache.get(source, target);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        final T result = delegate.convert(source, target);
+        if (result != null) {
+            cache.put(source, target, result);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> ConvertResult<T> tryConvert(@NotNull Object source, @NotNull Type target) {
+        if (!MemoizationCache.isCacheableTarget(target) || !MemoizationCache.isCacheableSource(source)) {
+            return delegate.tryConvert(source, target);
+        }
+
+        final Object cached = cache.get(source, target);
+        if (cached != null) {
+            return ConvertResult.success((T) cached);
+        }
+
+        final ConvertResult<T> result = delegate.tryConvert(source, target);
+        if (result.isSuccess()) {
+            final T value = result.getValue();
+            if (value != null) {
+                cache.put(source, target, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 得到被装饰的转化器。
+     *
+     * @return 转化器
+     */
+    public Converter getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 得到缓存当前的统计信息。
+     *
+     * @return 统计信息快照
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
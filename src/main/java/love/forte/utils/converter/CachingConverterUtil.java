@@ -0,0 +1,99 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 记录转化结果的 {@link ConverterUtil} 装饰器。
+ * <p>
+ * 通过 {@link #convert(Object, Type)}、{@link #tryConvert(Object, Type)} 以及 {@code convertAll} 系列函数进行的转化
+ * 会共享同一个有界缓存，缓存的规则见 {@link CachingConverter}。
+ * 适用于大量重复的输入，例如配置项、状态字符串、货币代码、时间戳等，以及开销较大的转化（例如 {@link java.math.BigDecimal}）。
+ * <p>
+ * {@link #findConverter(Class, Type)} 与 {@link #bind(Class, Type)} 得到的转化器不会经过缓存。
+ * <p>
+ * 此类是线程安全的。
+ *
+ * @author ForteScarlet
+ * @see CachingConverter
+ */
+public final class CachingConverterUtil implements ConverterUtil {
+    private final ConverterUtil delegate;
+    private final MemoizationCache cache;
+
+    /**
+     * 被装饰的转化器所对应的共享同一个缓存的 {@link CachingConverter}。
+     */
+    private final ConcurrentMap<Converter, CachingConverter> cachingConverters = new ConcurrentHashMap<>();
+
+    private CachingConverterUtil(ConverterUtil delegate, MemoizationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * 构建一个装饰器。
+     *
+     * @param delegate    被装饰的转化工具
+     * @param maximumSize 缓存的最大条目数
+     * @return {@link CachingConverterUtil}
+     */
+    public static CachingConverterUtil create(@NotNull ConverterUtil delegate, int maximumSize) {
+        return new CachingConverterUtil(Objects.requireNonNull(delegate), new MemoizationCache(maximumSize));
+    }
+
+    @Override
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        final Converter converter = resolveConverter(source, target);
+        if (converter == null) {
+            throw new NoSuchConverterException(source.getClass().getName(), target.getTypeName());
+        }
+
+        return converter.convert(source, target);
+    }
+
+    @Override
+    public @Nullable Converter findConverter(@NotNull Class<?> sourceType, @NotNull Type target) {
+        return delegate.findConverter(sourceType, target);
+    }
+
+    /**
+     * 得到被装饰的转化工具所解析的转化器，并包装为共享缓存的 {@link CachingConverter}。
+     */
+    @Override
+    public @Nullable Converter resolveConverter(@NotNull Object source, @NotNull Type target) {
+        final Converter converter = delegate.resolveConverter(source, target);
+        if (converter == null) {
+            return null;
+        }
+
+        final CachingConverter cachingConverter = cachingConverters.get(converter);
+        if (cachingConverter != null) {
+            return cachingConverter;
+        }
+        return cachingConverters.computeIfAbsent(converter, c -> new CachingConverter(c, cache));
+    }
+
+    /**
+     * 得到被装饰的转化工具。
+     *
+     * @return 转化工具
+     */
+    public ConverterUtil getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 得到缓存当前的统计信息。
+     *
+     * @return 统计信息快照
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
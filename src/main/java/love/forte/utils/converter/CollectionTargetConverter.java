@@ -6,7 +6,6 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.List;
 
 /**
  * 转化的结果目标为 {@link java.util.Collection} 的转化器。
@@ -38,7 +37,7 @@ public abstract class CollectionTargetConverter implements Converter {
 
     @SuppressWarnings("unchecked")
     protected <T> T convert0(@NotNull Object source, @NotNull Class<?> target) {
-        if (Collection.class.isAssignableFrom(target)) {
+        if (TypeMeta.of(target).getContainerKind() == TypeUtil.ContainerKind.COLLECTION) {
             return convert(source, (Class<Collection<?>>) target, null);
         }
 
@@ -51,12 +50,12 @@ public abstract class CollectionTargetConverter implements Converter {
         final Type rawType = target.getRawType();
         if (rawType instanceof Class) {
             Class<?> classTarget = (Class<?>) rawType;
-            if (!List.class.isAssignableFrom(classTarget)) {
+            if (TypeMeta.of(classTarget).getContainerKind() != TypeUtil.ContainerKind.COLLECTION) {
                 // target 中的 rawType 的泛型类型
-                throw ConverterExceptionUtil.targetIllegalArgument("generic type of raw type (Class) in 'target'", "java.util.List", classTarget);
+                throw ConverterExceptionUtil.targetIllegalArgument("generic type of raw type (Class) in 'target'", "java.util.Collection", classTarget);
             }
 
-            final Type[] actualTypeArguments = target.getActualTypeArguments();
+            final Type[] actualTypeArguments = GenericReferenceType.actualTypeArguments(target);
             final Type genericType;
             if (actualTypeArguments == null || actualTypeArguments.length == 0) {
                 genericType = null;
@@ -70,7 +69,7 @@ public abstract class CollectionTargetConverter implements Converter {
         }
 
 
-        throw ConverterExceptionUtil.targetIllegalArgument("Raw type of 'target'", "Class<java.util.List>", target);
+        throw ConverterExceptionUtil.targetIllegalArgument("Raw type of 'target'", "Class<java.util.Collection>", target);
 
     }
 
@@ -0,0 +1,153 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * 一次转化的结果，包括成功的结果或失败的信息。
+ * <p>
+ * 失败时只会记录失败的来源、目标类型与原因，描述信息会在调用 {@link #getMessage()} 时才会构建，
+ * 因此失败的结果不需要构建异常与异常信息。
+ *
+ * @param <T> 结果类型
+ * @author ForteScarlet
+ * @see ConverterUtil#tryConvert(Object, Type)
+ * @see Converter#tryConvert(Object, Type)
+ */
+public final class ConvertResult<T> {
+    private static final int MAX_SOURCE_DESCRIPTION_LENGTH = 64;
+
+    private final boolean success;
+    private final T value;
+    private final Object source;
+    private final Type target;
+    private final String reason;
+    private final RuntimeException cause;
+    private String message;
+
+    private ConvertResult(boolean success, T value, Object source, Type target, String reason, RuntimeException cause) {
+        this.success = success;
+        this.value = value;
+        this.source = source;
+        this.target = target;
+        this.reason = reason;
+        this.cause = cause;
+    }
+
+    /**
+     * 成功的结果。
+     *
+     * @param value 转化结果
+     * @param <T>   结果类型
+     * @return 结果
+     */
+    public static <T> ConvertResult<T> success(T value) {
+        return new ConvertResult<>(true, value, null, null, null, null);
+    }
+
+    /**
+     * 失败的结果。
+     *
+     * @param source 转化的目标对象
+     * @param target 目标类型
+     * @param reason 失败原因，应当为一个常量而不是拼接得到的字符串
+     * @param <T>    结果类型
+     * @return 结果
+     */
+    public static <T> ConvertResult<T> failure(@NotNull Object source, @NotNull Type target, @NotNull String reason) {
+        return new ConvertResult<>(false, null, source, target, Objects.requireNonNull(reason), null);
+    }
+
+    /**
+     * 由异常导致的失败的结果。
+     *
+     * @param source 转化的目标对象
+     * @param target 目标类型
+     * @param cause  失败时的异常
+     * @param <T>    结果类型
+     * @return 结果
+     */
+    public static <T> ConvertResult<T> failure(@NotNull Object source, @NotNull Type target, @NotNull RuntimeException cause) {
+        return new ConvertResult<>(false, null, source, target, null, Objects.requireNonNull(cause));
+    }
+
+    /**
+     * 是否转化成功。
+     *
+     * @return 成功时为 {@code true}
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * 得到转化结果。
+     *
+     * @return 转化结果
+     * @throws ConvertException 当转化失败时。
+     */
+    public T getValue() {
+        if (!success) {
+            throw cause == null ? new ConvertException(getMessage()) : new ConvertException(getMessage(), cause);
+        }
+        return value;
+    }
+
+    /**
+     * 得到转化结果，或当转化失败时得到 {@code defaultValue}。
+     *
+     * @param defaultValue 默认值
+     * @return 转化结果或默认值
+     */
+    public T getOrDefault(T defaultValue) {
+        return success ? value : defaultValue;
+    }
+
+    /**
+     * 失败时的描述信息。
+     *
+     * @return 描述信息，成功时为 {@code null}
+     */
+    @Nullable
+    public String getMessage() {
+        if (success) {
+            return null;
+        }
+        String message = this.message;
+        if (message == null) {
+            this.message = message = "Cannot convert " + describe(source) + " to '" + target.getTypeName() + "': "
+                    + (cause != null ? cause : reason);
+        }
+        return message;
+    }
+
+    /**
+     * 失败时的异常。只有通过异常得知失败时才会存在。
+     *
+     * @return 异常或 {@code null}
+     */
+    @Nullable
+    public RuntimeException getCause() {
+        return cause;
+    }
+
+    private static String describe(Object source) {
+        final String sourceType = source.getClass().getName();
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            if (charSequence.length() > MAX_SOURCE_DESCRIPTION_LENGTH) {
+                return "\"" + charSequence.subSequence(0, MAX_SOURCE_DESCRIPTION_LENGTH) + "...\" (" + sourceType + ")";
+            }
+            return "\"" + charSequence + "\" (" + sourceType + ")";
+        }
+        return "'" + sourceType + "'";
+    }
+
+    @Override
+    public String toString() {
+        return success ? "ConvertResult(value=" + value + ")" : "ConvertResult(" + getMessage() + ")";
+    }
+}
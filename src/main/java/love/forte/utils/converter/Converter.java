@@ -46,4 +46,26 @@ public interface Converter {
     default <T> T convert(@NotNull Object source, @NotNull Class<T> target) {
         return (T) convert(source, (Type) target);
     }
+
+    /**
+     * 尝试将一个目标对象 source 转化为期望的目标类型 target。转化失败时不会抛出异常，而是得到失败的结果。
+     * <p>
+     * 默认实现会捕获 {@link #convert(Object, Type)} 所抛出的 {@link RuntimeException}。
+     * 内置的实现中，{@link StringToNumberConverter} 系列、{@link love.forte.utils.converter.bytes.BytesToNumberConverter} 系列
+     * 与 {@link love.forte.utils.converter.string.StringToBooleanConverter} 会直接判断是否可以转化，失败时不会在内部构建异常；
+     * {@link love.forte.utils.converter.string.StringToTimeConverter} 仅对枚举名称、常见的 ISO-8601 格式与时间戳如此，
+     * 其他内容仍需要通过捕获异常判断。其余的实现均使用默认实现。
+     *
+     * @param source 预计被转化的目标对象
+     * @param target 预计被转化为的目标类型。
+     * @param <T>    结果类型。
+     * @return 转化结果
+     */
+    default <T> ConvertResult<T> tryConvert(@NotNull Object source, @NotNull Type target) {
+        try {
+            return ConvertResult.success(convert(source, target));
+        } catch (RuntimeException e) {
+            return ConvertResult.failure(source, target, e);
+        }
+    }
 }
@@ -1,8 +1,13 @@
 package love.forte.utils.converter;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 很好理解的"转化工具"类型。
@@ -54,7 +59,304 @@ public interface ConverterUtil {
         return convert(source, (Type) target);
     }
 
+    /**
+     * 尝试将一个目标对象 source 转化为期望的目标类型 target。
+     * <p>
+     * 当不存在合适的转化器或转化失败时不会抛出异常，而是得到失败的结果。
+     *
+     * @param source 预计被转化的目标对象
+     * @param target 预计被转化为的目标类型。
+     * @param <T>    结果类型
+     * @return 转化结果
+     * @see Converter#tryConvert(Object, Type)
+     */
+    default <T> ConvertResult<T> tryConvert(@NotNull Object source, @NotNull Type target) {
+        final Converter converter = resolveConverter(source, target);
+        if (converter == null) {
+            return ConvertResult.failure(source, target, "No such converter");
+        }
+
+        return converter.tryConvert(source, target);
+    }
+
+    /**
+     * 尝试将一个目标对象 source 转化为期望的目标类型 target，当不存在合适的转化器或转化失败时得到 {@code defaultValue}。
+     *
+     * @param source       预计被转化的目标对象
+     * @param target       预计被转化为的目标类型。
+     * @param defaultValue 失败时的默认值
+     * @param <T>          结果类型
+     * @return 转化结果或默认值
+     * @see #tryConvert(Object, Type)
+     */
+    default <T> T tryConvert(@NotNull Object source, @NotNull Type target, T defaultValue) {
+        return this.<T>tryConvert(source, target).getOrDefault(defaultValue);
+    }
+
+    /**
+     * 根据 source 的类型与目标类型查询所对应的 {@link Converter 转化器}。
+     * <p>
+     * 默认实现始终得到 {@code null}，即不支持仅通过类型进行查询。实现应当在可以查询时重写此函数。
+     *
+     * @param sourceType source 的类型
+     * @param target     目标类型
+     * @return 转化器，或者当不存在时得到null。
+     */
+    @Nullable
+    default Converter findConverter(@NotNull Class<?> sourceType, @NotNull Type target) {
+        return null;
+    }
+
+    /**
+     * 查询可以将 {@code source} 转化为目标类型的 {@link Converter 转化器}。
+     * <p>
+     * 与 {@link #findConverter(Class, Type)} 不同，此函数得到的转化器与 {@link #convert(Object, Type)} 所使用的一致，
+     * 即也会考虑需要 source 实例进行匹配的转化器。默认实现等同于 {@link #findConverter(Class, Type)}。
+     *
+     * @param source 预计被转化的目标对象
+     * @param target 目标类型
+     * @return 转化器，或者当不存在时得到null。
+     */
+    @Nullable
+    default Converter resolveConverter(@NotNull Object source, @NotNull Type target) {
+        return findConverter(source.getClass(), target);
+    }
+
+    /**
+     * 预先绑定 source 类型与目标类型，得到一个可以重复使用的 {@link BoundConverter 转化句柄}。
+     * <p>
+     * 转化器的查询会在绑定时完成，当不存在合适的转化器时会立即抛出 {@link NoSuchConverterException}。
+     * 如果查询到的转化器为 {@link BindableConverter}，则得到的句柄会跳过转化器内部对类型的检查与调度。
+     *
+     * @param sourceType source 的类型
+     * @param target     目标类型
+     * @param <S>        source 类型
+     * @param <T>        目标类型
+     * @return 转化句柄
+     * @throws NoSuchConverterException 当当前转化工具内部没有适合的 {@link Converter 转化器} 时。
+     * @throws IllegalArgumentException 当转化器不支持 {@code sourceType} 或 {@code target} 时。
+     */
+    default <S, T> BoundConverter<S, T> bind(@NotNull Class<S> sourceType, @NotNull Type target) {
+        final Converter converter = findConverter(sourceType, target);
+        if (converter == null) {
+            throw new NoSuchConverterException(sourceType.getName(), target.getTypeName());
+        }
+
+        if (converter instanceof BindableConverter) {
+            return ((BindableConverter) converter).bind(sourceType, target);
+        }
+
+        return source -> converter.convert(source, target);
+    }
+
+    /**
+     * 预先绑定 source 类型与目标类型，得到一个可以重复使用的 {@link BoundConverter 转化句柄}。
+     *
+     * @param sourceType source 的类型
+     * @param target     目标类型
+     * @param <S>        source 类型
+     * @param <T>        目标类型
+     * @return 转化句柄
+     * @throws NoSuchConverterException 当当前转化工具内部没有适合的 {@link Converter 转化器} 时。
+     * @throws IllegalArgumentException 当转化器不支持 {@code sourceType} 或 {@code target} 时。
+     * @see #bind(Class, Type)
+     */
+    default <S, T> BoundConverter<S, T> bind(@NotNull Class<S> sourceType, @NotNull Class<T> target) {
+        return bind(sourceType, (Type) target);
+    }
+
+    /**
+     * 查询 {@code sourceType} 到 {@code int} 的转化器，并得到其基础数据类型的转化形式 {@link ToIntConverter}。
+     *
+     * @param sourceType source 的类型
+     * @return {@link ToIntConverter}
+     * @throws NoSuchConverterException 当没有适合的转化器，或转化器不是 {@link ToIntConverter} 时。
+     */
+    default ToIntConverter bindInt(@NotNull Class<? extends CharSequence> sourceType) {
+        final Converter converter = findConverter(sourceType, int.class);
+        if (converter instanceof ToIntConverter) {
+            return (ToIntConverter) converter;
+        }
+
+        throw new NoSuchConverterException(sourceType.getName(), ToIntConverter.class.getName());
+    }
+
+    /**
+     * 查询 {@code sourceType} 到 {@code long} 的转化器，并得到其基础数据类型的转化形式 {@link ToLongConverter}。
+     *
+     * @param sourceType source 的类型
+     * @return {@link ToLongConverter}
+     * @throws NoSuchConverterException 当没有适合的转化器，或转化器不是 {@link ToLongConverter} 时。
+     */
+    default ToLongConverter bindLong(@NotNull Class<? extends CharSequence> sourceType) {
+        final Converter converter = findConverter(sourceType, long.class);
+        if (converter instanceof ToLongConverter) {
+            return (ToLongConverter) converter;
+        }
+
+        throw new NoSuchConverterException(sourceType.getName(), ToLongConverter.class.getName());
+    }
+
+    /**
+     * 查询 {@code sourceType} 到 {@code double} 的转化器，并得到其基础数据类型的转化形式 {@link ToDoubleConverter}。
+     *
+     * @param sourceType source 的类型
+     * @return {@link ToDoubleConverter}
+     * @throws NoSuchConverterException 当没有适合的转化器，或转化器不是 {@link ToDoubleConverter} 时。
+     */
+    default ToDoubleConverter bindDouble(@NotNull Class<? extends CharSequence> sourceType) {
+        final Converter converter = findConverter(sourceType, double.class);
+        if (converter instanceof ToDoubleConverter) {
+            return (ToDoubleConverter) converter;
+        }
+
+        throw new NoSuchConverterException(sourceType.getName(), ToDoubleConverter.class.getName());
+    }
+
+    //region 批量转化
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为目标类型。
+     * <p>
+     * 每种 source 类型只会通过 {@link #resolveConverter(Object, Type)} 解析一次转化器，而不是每个元素都进行一次查询。
+     * 当 {@code sources} 为 {@link Collection} 时，结果列表会被预先分配大小。
+     *
+     * @param sources 预计被转化的目标对象
+     * @param target  预计被转化为的目标类型。
+     * @param <T>     结果元素类型。
+     * @return 转化结果，与 {@code sources} 的迭代顺序一致。
+     * @throws NullPointerException     当参数或元素出现null时。
+     * @throws ConvertException         当出现无法进行类型转化的情况时。
+     * @throws NoSuchConverterException 当某个元素没有适合的 {@link Converter 转化器} 时。
+     * @see #convert(Object, Type)
+     */
+    default <T> List<T> convertAll(@NotNull Iterable<?> sources, @NotNull Type target) {
+        final List<T> results = sources instanceof Collection
+                ? new ArrayList<>(((Collection<?>) sources).size())
+                : new ArrayList<>();
+        final BatchResolver resolver = new BatchResolver(this, target);
+        for (Object source : sources) {
+            results.add(resolver.convert(source));
+        }
+        return results;
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为目标类型。
+     *
+     * @param sources 预计被转化的目标对象
+     * @param target  预计被转化为的目标类型。
+     * @param <T>     结果元素类型。
+     * @return 转化结果
+     * @see #convertAll(Iterable, Type)
+     */
+    default <T> List<T> convertAll(@NotNull Iterable<?> sources, @NotNull Class<T> target) {
+        return convertAll(sources, (Type) target);
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为目标类型，并得到对应类型的数组。
+     * 当 {@code target} 为基础数据类型时，得到的是其封装类型的数组，如果希望得到基础数据类型的数组，
+     * 参考 {@link #convertAllToInt(Object[])} 等函数。
+     *
+     * @param sources 预计被转化的目标对象
+     * @param target  预计被转化为的目标类型。
+     * @param <T>     结果元素类型。
+     * @return 转化结果
+     * @see #convertAll(Object[], int, int, Type, Object[], int)
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T[] convertAll(@NotNull Object[] sources, @NotNull Class<T> target) {
+        final Class<?> componentType = TypeMeta.of(target).getBoxedType();
+        final T[] results = (T[]) Array.newInstance(componentType, sources.length);
+        convertAll(sources, 0, sources.length, target, results, 0);
+        return results;
+    }
+
+    /**
+     * 将 {@code sources} 中 {@code [from, to)} 范围内的元素转化为目标类型，并依次写入 {@code output} 中从 {@code offset} 开始的位置。
+     *
+     * @param sources 预计被转化的目标对象
+     * @param from    起始索引（包含）
+     * @param to      结束索引（不包含）
+     * @param target  预计被转化为的目标类型。
+     * @param output  结果输出
+     * @param offset  结果输出的起始位置
+     * @throws NullPointerException      当参数或元素出现null时。
+     * @throws IndexOutOfBoundsException 当范围不合法或 {@code output} 的剩余空间不足时。
+     * @throws ArrayStoreException       当结果的类型与 {@code output} 的元素类型不一致时。
+     * @throws ConvertException          当出现无法进行类型转化的情况时。
+     * @throws NoSuchConverterException  当某个元素没有适合的 {@link Converter 转化器} 时。
+     */
+    default void convertAll(@NotNull Object[] sources, int from, int to, @NotNull Type target, @NotNull Object[] output, int offset) {
+        BatchResolver.checkRange(sources.length, from, to, output.length, offset);
+        final BatchResolver resolver = new BatchResolver(this, target);
+        for (int i = from; i < to; i++) {
+            output[offset++] = resolver.convert(sources[i]);
+        }
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为 {@code int}。
+     * <p>
+     * 当解析得到的转化器为 {@link ToIntConverter} 且元素为 {@link CharSequence} 时，转化过程中不会产生装箱。
+     *
+     * @param sources 预计被转化的目标对象
+     * @return 转化结果
+     * @throws NullPointerException     当参数或元素出现null时。
+     * @throws ConvertException         当出现无法进行类型转化的情况时。
+     * @throws NoSuchConverterException 当某个元素没有适合的 {@link Converter 转化器} 时。
+     */
+    default int[] convertAllToInt(@NotNull Object[] sources) {
+        final int[] results = new int[sources.length];
+        final BatchResolver resolver = new BatchResolver(this, int.class);
+        for (int i = 0; i < sources.length; i++) {
+            results[i] = resolver.convertToInt(sources[i]);
+        }
+        return results;
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为 {@code long}。
+     * <p>
+     * 当解析得到的转化器为 {@link ToLongConverter} 且元素为 {@link CharSequence} 时，转化过程中不会产生装箱。
+     *
+     * @param sources 预计被转化的目标对象
+     * @return 转化结果
+     * @throws NullPointerException     当参数或元素出现null时。
+     * @throws ConvertException         当出现无法进行类型转化的情况时。
+     * @throws NoSuchConverterException 当某个元素没有适合的 {@link Converter 转化器} 时。
+     */
+    default long[] convertAllToLong(@NotNull Object[] sources) {
+        final long[] results = new long[sources.length];
+        final BatchResolver resolver = new BatchResolver(this, long.class);
+        for (int i = 0; i < sources.length; i++) {
+            results[i] = resolver.convertToLong(sources[i]);
+        }
+        return results;
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为 {@code double}。
+     * <p>
+     * 当解析得到的转化器为 {@link ToDoubleConverter} 且元素为 {@link CharSequence} 时，转化过程中不会产生装箱。
+     *
+     * @param sources 预计被转化的目标对象
+     * @return 转化结果
+     * @throws NullPointerException     当参数或元素出现null时。
+     * @throws ConvertException         当出现无法进行类型转化的情况时。
+     * @throws NoSuchConverterException 当某个元素没有适合的 {@link Converter 转化器} 时。
+     */
+    default double[] convertAllToDouble(@NotNull Object[] sources) {
+        final double[] results = new double[sources.length];
+        final BatchResolver resolver = new BatchResolver(this, double.class);
+        for (int i = 0; i < sources.length; i++) {
+            results[i] = resolver.convertToDouble(sources[i]);
+        }
+        return results;
+    }
 
+    //endregion
 
 
 
@@ -67,6 +369,6 @@ class DefaultInstance {
     static final ConverterUtil DEFAULT_INSTANCE;
     static {
         // include default converters
-        DEFAULT_INSTANCE = SimpleConverterUtil.createInstance();
+        DEFAULT_INSTANCE = SimpleConverterUtil.createDefaultInstance();
     }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package love.forte.utils.converter;
+
+import java.math.BigInteger;
+
+/**
+ * 基于 Eisel–Lemire 算法，将十进制的有效数字 {@code w} 与指数 {@code q}（即 {@code w * 10^q}）转化为正确舍入的浮点数。
+ * <p>
+ * {@code w * 5^q} 通过预先计算的 128 位 {@code 5^q} 近似值相乘得到，当被截断的低位不足以确定舍入方向、
+ * 或结果为非正规数时，会得到 {@code NaN}，此时应交由 JDK 进行解析。因此只要得到的不是 {@code NaN}，
+ * 结果便与 {@link Double#parseDouble(String)}、{@link Float#parseFloat(String)} 完全一致。
+ *
+ * @author ForteScarlet
+ */
+final class EiselLemire {
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+
+    private static final int FLOAT_SMALLEST_POWER_OF_TEN = -64;
+    private static final int FLOAT_LARGEST_POWER_OF_TEN = 38;
+
+    /**
+     * {@code 5^q} 的 128 位近似值的高 64 位与低 64 位，以 {@code q - SMALLEST_POWER_OF_TEN} 为索引。
+     * 最高位总是为 1。{@code q >= 0} 时为截断的值，{@code q < 0} 时为 {@code 2^b / 5^-q} 向上取整后截断的值。
+     */
+    private static final long[] POWER_OF_FIVE_HIGH;
+    private static final long[] POWER_OF_FIVE_LOW;
+
+    /**
+     * {@code floor(log2(5^q))}，以 {@code q - SMALLEST_POWER_OF_TEN} 为索引。
+     */
+    private static final int[] FLOOR_LOG2_POWER_OF_FIVE;
+
+    static {
+        final int size = LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1;
+        POWER_OF_FIVE_HIGH = new long[size];
+        POWER_OF_FIVE_LOW = new long[size];
+        FLOOR_LOG2_POWER_OF_FIVE = new int[size];
+
+        final BigInteger five = BigInteger.valueOf(5);
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+            final int index = q - SMALLEST_POWER_OF_TEN;
+            final BigInteger power = five.pow(Math.abs(q));
+            BigInteger value;
+            if (q >= 0) {
+                FLOOR_LOG2_POWER_OF_FIVE[index] = power.bitLength() - 1;
+                final int shift = power.bitLength() - 128;
+                value = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+            } else {
+                // 5^-q 不是 2 的幂，因此 log2(5^-q) 不是整数
+                final int z = power.bitLength();
+                FLOOR_LOG2_POWER_OF_FIVE[index] = -z;
+                final int b = q >= -27 ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                if (value.bitLength() > 128) {
+                    value = value.shiftRight(value.bitLength() - 128);
+                }
+            }
+            POWER_OF_FIVE_HIGH[index] = value.shiftRight(64).longValue();
+            POWER_OF_FIVE_LOW[index] = value.longValue();
+        }
+    }
+
+    private EiselLemire() {
+    }
+
+    /**
+     * 计算 {@code w * 10^q} 的 {@code double} 值。
+     *
+     * @param w 有效数字，视为无符号数，不能为0
+     * @param q 十进制指数
+     * @return 结果，或无法确定时得到 {@code NaN}
+     */
+    static double toDouble(long w, int q) {
+        if (q < SMALLEST_POWER_OF_TEN) {
+            return 0.0;
+        }
+        if (q > LARGEST_POWER_OF_TEN) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final int index = q - SMALLEST_POWER_OF_TEN;
+        final int lz = Long.numberOfLeadingZeros(w);
+        final long normalized = w << lz;
+
+        final long factorHigh = POWER_OF_FIVE_HIGH[index];
+        long high = unsignedMultiplyHigh(normalized, factorHigh);
+        long low = normalized * factorHigh;
+        // 截断的位数为 64 - (52 + 3)，当这些位全部为 1 时，需要低 64 位的乘积来确定进位
+        if ((high & 0x1FFL) == 0x1FFL) {
+            final long secondHigh = unsignedMultiplyHigh(normalized, POWER_OF_FIVE_LOW[index]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+            if (low == -1L && (q < -27 || q > 55)) {
+                // 仍然无法确定舍入方向
+                return Double.NaN;
+            }
+        }
+
+        final int upperBit = (int) (high >>> 63);
+        final int shift = upperBit + 9;
+        long mantissa = high >>> shift;
+        int power2 = FLOOR_LOG2_POWER_OF_FIVE[index] + q + 1086 + upperBit - lz;
+        if (power2 <= 0) {
+            // 非正规数
+            return Double.NaN;
+        }
+
+        // 恰好位于两个可表示值的正中间时，向偶数舍入。只有在 q 属于 [-4, 23] 时才可能出现这种情况。
+        if ((low == 0 || low == 1) && q >= -4 && q <= 23 && (mantissa & 3) == 1 && (mantissa << shift) == high) {
+            mantissa &= ~1L;
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << 52)) {
+            mantissa = 1L << 52;
+            power2++;
+        }
+        mantissa &= ~(1L << 52);
+        if (power2 >= 0x7FF) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return Double.longBitsToDouble(mantissa | ((long) power2 << 52));
+    }
+
+    /**
+     * 计算 {@code w * 10^q} 的 {@code float} 值。
+     *
+     * @param w 有效数字，视为无符号数，不能为0
+     * @param q 十进制指数
+     * @return 结果（可以无损地转化为 {@code float}），或无法确定时得到 {@code NaN}
+     */
+    static double toFloat(long w, int q) {
+        if (q < FLOAT_SMALLEST_POWER_OF_TEN) {
+            return 0.0;
+        }
+        if (q > FLOAT_LARGEST_POWER_OF_TEN) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final int index = q - SMALLEST_POWER_OF_TEN;
+        final int lz = Long.numberOfLeadingZeros(w);
+        final long normalized = w << lz;
+
+        final long factorHigh = POWER_OF_FIVE_HIGH[index];
+        long high = unsignedMultiplyHigh(normalized, factorHigh);
+        long low = normalized * factorHigh;
+        // 截断的位数为 64 - (23 + 3)，当这些位全部为 1 时，需要低 64 位的乘积来确定进位
+        if ((high & 0x3FFFFFFFFFL) == 0x3FFFFFFFFFL) {
+            final long secondHigh = unsignedMultiplyHigh(normalized, POWER_OF_FIVE_LOW[index]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+            if (low == -1L && (q < -27 || q > 55)) {
+                // 仍然无法确定舍入方向
+                return Double.NaN;
+            }
+        }
+
+        final int upperBit = (int) (high >>> 63);
+        final int shift = upperBit + 38;
+        long mantissa = high >>> shift;
+        int power2 = FLOOR_LOG2_POWER_OF_FIVE[index] + q + 190 + upperBit - lz;
+        if (power2 <= 0) {
+            return Double.NaN;
+        }
+
+        if ((low == 0 || low == 1) && q >= -17 && q <= 10 && (mantissa & 3) == 1 && (mantissa << shift) == high) {
+            mantissa &= ~1L;
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << 23)) {
+            mantissa = 1L << 23;
+            power2++;
+        }
+        mantissa &= ~(1L << 23);
+        if (power2 >= 0xFF) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return Float.intBitsToFloat((int) (mantissa | ((long) power2 << 23)));
+    }
+
+    /**
+     * 两个无符号 64 位整数乘积的高 64 位。
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> 32;
+
+        final long p00 = x0 * y0;
+        final long p01 = x0 * y1;
+        final long p10 = x1 * y0;
+        final long p11 = x1 * y1;
+
+        final long middle = p10 + (p00 >>> 32) + (p01 & 0xFFFFFFFFL);
+        return p11 + (middle >>> 32) + (p01 >>> 32);
+    }
+}
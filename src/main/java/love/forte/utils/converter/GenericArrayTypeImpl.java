@@ -2,28 +2,80 @@ package love.forte.utils.converter;
 
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Type;
+import java.util.Objects;
 
 /**
  * 针对 {@link GenericArrayType} 的基础实现。
+ * <p>
+ * 实例是规范化的，只要实例仍被引用，元素类型相同的实例总是同一个，哈希值与类型名称会预先计算。
+ * 规范化的实例只通过弱引用记录，不会阻止类加载器被卸载。
  *
  * @author ForteScarlet
  *
  * @see TypeUtil#array(Type)
  */
 public final class GenericArrayTypeImpl implements GenericArrayType {
+    private static final WeakInterner<GenericArrayTypeImpl> INTERNED = new WeakInterner<>();
+
     private final Type genericComponentType;
 
-    GenericArrayTypeImpl(Type genericComponentType) {
+    /**
+     * 类型名称。规范化的实例在记录前即已构建，仅用于查询的实例不会构建。
+     */
+    private String typeName;
+
+    private GenericArrayTypeImpl(Type genericComponentType) {
         this.genericComponentType = genericComponentType;
     }
 
+    static GenericArrayTypeImpl of(Type genericComponentType) {
+        final GenericArrayTypeImpl existing = INTERNED.get(new GenericArrayTypeImpl(genericComponentType));
+        if (existing != null) {
+            return existing;
+        }
+
+        final GenericArrayTypeImpl type = new GenericArrayTypeImpl(genericComponentType);
+        type.typeName = type.buildTypeName();
+        return INTERNED.intern(type);
+    }
+
     @Override
     public Type getGenericComponentType() {
         return genericComponentType;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GenericArrayType)) {
+            return false;
+        }
+
+        return Objects.equals(genericComponentType, ((GenericArrayType) o).getGenericComponentType());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(genericComponentType);
+    }
+
+    @Override
+    public String getTypeName() {
+        String name = typeName;
+        if (name == null) {
+            typeName = name = buildTypeName();
+        }
+        return name;
+    }
+
     @Override
     public String toString() {
+        return getTypeName();
+    }
+
+    private String buildTypeName() {
         return genericComponentType.getTypeName() + "[]";
     }
 }
@@ -5,29 +5,44 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * 针对 {@link ParameterizedType} 的基础实现，用于提供一个 “伪” {@link ParameterizedType} 实例对象。
+ * <p>
+ * 实例是规范化的：只要实例仍被引用，结构相同的类型（与 JDK 中的 {@link ParameterizedType} 实现的判断规则一致）总是得到同一个实例，
+ * 并且哈希值与类型名称会预先计算，因此可以直接作为缓存的键使用。规范化的实例只通过弱引用记录，不会阻止类加载器被卸载。
  *
  * @author ForteScarlet 引用类型
  * @see #resolve(Class, Type, Type...)
  * @see TypeUtil
  */
 public final class GenericReferenceType implements ParameterizedType {
+    private static final WeakInterner<GenericReferenceType> INTERNED = new WeakInterner<>();
+
     final Type[] actualTypeArguments;
     private final Class<?> rawType;
     private final Type ownerType;
+    private final int hash;
+
+    /**
+     * 类型名称。规范化的实例在记录前即已构建，仅用于查询的实例不会构建。
+     */
+    private String typeName;
 
     private GenericReferenceType(Type[] actualTypeArguments, @NotNull Class<?> rawType, @Nullable Type ownerType) {
         this.actualTypeArguments = actualTypeArguments;
         this.rawType = rawType;
         this.ownerType = ownerType;
+        this.hash = Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
     }
 
 
     /**
      * 尝试通过提供的参数得到一个 {@link Type} 实例。
+     * <p>
+     * 与JDK一致，当 {@code ownerType} 为 {@code null} 时，会使用 {@code rawType} 的 {@link Class#getDeclaringClass() 外层类}。
      *
      * @param rawType             主要类型
      * @param ownerType           外层类型，可以为null
@@ -36,7 +51,29 @@ public final class GenericReferenceType implements ParameterizedType {
      */
     public static GenericReferenceType resolve(@NotNull Class<?> rawType, @Nullable Type ownerType, Type... actualTypeArguments) {
         Objects.requireNonNull(rawType);
-        return new GenericReferenceType(actualTypeArguments, rawType, ownerType);
+        for (Type argument : actualTypeArguments) {
+            Objects.requireNonNull(argument, "actualTypeArguments");
+        }
+
+        final Type owner = ownerType != null ? ownerType : rawType.getDeclaringClass();
+        // 仅用于查询，不会复制参数数组，也不会构建类型名称
+        final GenericReferenceType existing = INTERNED.get(new GenericReferenceType(actualTypeArguments, rawType, owner));
+        if (existing != null) {
+            return existing;
+        }
+
+        final GenericReferenceType type = new GenericReferenceType(actualTypeArguments.clone(), rawType, owner);
+        type.typeName = type.buildTypeName();
+        return INTERNED.intern(type);
+    }
+
+    /**
+     * 得到 {@link ParameterizedType} 的泛型参数。对于 {@link GenericReferenceType} 不会复制数组，因此不可修改得到的数组。
+     */
+    static Type[] actualTypeArguments(ParameterizedType type) {
+        return type instanceof GenericReferenceType
+                ? ((GenericReferenceType) type).actualTypeArguments
+                : type.getActualTypeArguments();
     }
 
 
@@ -79,21 +116,60 @@ public final class GenericReferenceType implements ParameterizedType {
     }
 
 
+    /**
+     * 与 {@link ParameterizedType} 进行结构上的比较，与JDK中的 {@link ParameterizedType} 实现的判断规则一致。
+     *
+     * @param o other
+     * @return 是否相同
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ParameterizedType)) {
+            return false;
+        }
+
+        final ParameterizedType that = (ParameterizedType) o;
+        if (that instanceof GenericReferenceType && hash != ((GenericReferenceType) that).hash) {
+            return false;
+        }
+
+        return Objects.equals(ownerType, that.getOwnerType())
+                && Objects.equals(rawType, that.getRawType())
+                && Arrays.equals(actualTypeArguments, actualTypeArguments(that));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String getTypeName() {
+        String name = typeName;
+        if (name == null) {
+            typeName = name = buildTypeName();
+        }
+        return name;
+    }
+
     @Override
     public String toString() {
+        return getTypeName();
+    }
+
+    private String buildTypeName() {
         StringBuilder sb = new StringBuilder();
 
         if (ownerType != null) {
-            if (ownerType instanceof Class) {
-                sb.append(((Class<?>) ownerType).getName());
-            } else {
-                sb.append(ownerType);
-            }
+            sb.append(ownerType.getTypeName());
 
             sb.append("$");
 
-            if (ownerType instanceof GenericReferenceType) {
-                sb.append(rawType.getName().replace(((GenericReferenceType) ownerType).rawType.getName() + "$", ""));
+            if (ownerType instanceof ParameterizedType && ((ParameterizedType) ownerType).getRawType() instanceof Class) {
+                sb.append(rawType.getName().replace(((Class<?>) ((ParameterizedType) ownerType).getRawType()).getName() + "$", ""));
             } else {
                 sb.append(rawType.getSimpleName());
             }
@@ -101,8 +177,7 @@ public final class GenericReferenceType implements ParameterizedType {
             sb.append(rawType.getName());
         }
 
-        if (actualTypeArguments != null &&
-                actualTypeArguments.length > 0) {
+        if (actualTypeArguments.length > 0) {
             sb.append("<");
             boolean first = true;
             for (Type t : actualTypeArguments) {
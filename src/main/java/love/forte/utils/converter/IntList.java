@@ -0,0 +1,303 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * 以 {@code int[]} 保存元素的 {@link java.util.List List&lt;Integer&gt;}。
+ * <p>
+ * 每个元素只占用 4 个字节，而不是一个 {@link Integer} 对象及其引用，适用于需要长期持有大量数字的场景。
+ * 通过 {@link #getInt(int)}、{@link #addInt(int)}、{@link #toIntArray()} 等函数可以在不装箱的情况下访问元素，
+ * 而 {@link java.util.List} 中的函数会对元素进行装箱或拆箱。不允许添加 {@code null}。
+ * <p>
+ * 可以作为字符串转化为集合时的目标类型，例如 {@code converterUtil.convert("1, 2, 3", IntList.class)}，
+ * 此时元素会被直接解析并写入数组。
+ * <p>
+ * 此类不是线程安全的。
+ *
+ * @author ForteScarlet
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+    private static final int[] EMPTY = {};
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * 构建一个空列表。
+     */
+    public IntList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * 构建一个具有初始容量的空列表。
+     *
+     * @param initialCapacity 初始容量
+     * @throws IllegalArgumentException 当初始容量为负数时
+     */
+    public IntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    private IntList(int[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * 构建一个包含指定元素的列表。数组会被复制。
+     *
+     * @param elements 元素
+     * @return 列表
+     */
+    public static IntList of(@NotNull int... elements) {
+        return new IntList(elements.clone(), elements.length);
+    }
+
+    /**
+     * 得到元素。
+     *
+     * @param index 索引
+     * @return 元素
+     * @throws IndexOutOfBoundsException 当索引越界时
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * 替换元素。
+     *
+     * @param index 索引
+     * @param value 新的元素
+     * @return 原本的元素
+     * @throws IndexOutOfBoundsException 当索引越界时
+     */
+    public int setInt(int index, int value) {
+        checkIndex(index);
+        final int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    /**
+     * 在末尾添加元素。
+     *
+     * @param value 元素
+     */
+    public void addInt(int value) {
+        modCount++;
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * 在指定位置插入元素。
+     *
+     * @param index 索引
+     * @param value 元素
+     * @throws IndexOutOfBoundsException 当索引越界时
+     */
+    public void addInt(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        modCount++;
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * 移除指定位置的元素。
+     *
+     * @param index 索引
+     * @return 被移除的元素
+     * @throws IndexOutOfBoundsException 当索引越界时
+     */
+    public int removeIntAt(int index) {
+        checkIndex(index);
+        modCount++;
+        final int old = elements[index];
+        final int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, moved);
+        }
+        size--;
+        return old;
+    }
+
+    /**
+     * 得到元素第一次出现的位置。
+     *
+     * @param value 元素
+     * @return 索引，不存在时为 {@code -1}
+     */
+    public int indexOfInt(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 是否包含元素。
+     *
+     * @param value 元素
+     * @return 是否包含
+     */
+    public boolean containsInt(int value) {
+        return indexOfInt(value) >= 0;
+    }
+
+    /**
+     * 得到包含所有元素的数组。
+     *
+     * @return 新的数组
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * 确保容量至少为 {@code minCapacity}。
+     *
+     * @param minCapacity 最小容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * 将容量缩减至当前的元素数量。
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            modCount++;
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        return setInt(index, element);
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        addInt(element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        addInt(index, element);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeIntAt(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From index: " + fromIndex + ", To index: " + toIndex);
+        }
+        modCount++;
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof IntList) {
+            final IntList that = (IntList) o;
+            if (size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (elements[i] != that.elements[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        final int oldCapacity = elements.length;
+        int newCapacity = oldCapacity == 0 ? DEFAULT_CAPACITY : oldCapacity + (oldCapacity >> 1);
+        if (newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        if (newCapacity < 0) {
+            throw new OutOfMemoryError("Required array length is too large");
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
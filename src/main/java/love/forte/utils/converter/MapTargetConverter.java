@@ -0,0 +1,90 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * 转化的结果目标为 {@link java.util.Map} 的转化器。
+ * 默认将会使用 {@link java.util.HashMap} 作为最终类型。
+ *
+ * @author ForteScarlet
+ * @see TypeUtil#map(Type, Type)
+ */
+public abstract class MapTargetConverter implements Converter {
+
+    /**
+     * 将 source 转化为目标的 Map 类型。{@code target} 必须保证为 Map 类型，且不存在泛型或恰好存在键与值两个泛型。
+     *
+     * @param source 预计被转化的目标对象
+     * @param target 预计被转化为的目标类型。
+     * @param <T>    目标类型
+     * @return converted value
+     */
+    @Override
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        if (target instanceof Class) {
+            return convert0(source, (Class<?>) target);
+        } else if (target instanceof ParameterizedType) {
+            return convert0(source, (ParameterizedType) target);
+        } else {
+            throw ConverterExceptionUtil.targetIllegalArgument("java.util.Map(by Class or ParameterizedType)", target);
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    protected <T> T convert0(@NotNull Object source, @NotNull Class<?> target) {
+        if (TypeMeta.of(target).getContainerKind() == TypeUtil.ContainerKind.MAP) {
+            return convert(source, (Class<Map<?, ?>>) target, null, null);
+        }
+
+        throw ConverterExceptionUtil.targetIllegalArgument("java.util.Map", target);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> T convert0(@NotNull Object source, @NotNull ParameterizedType target) {
+        final Type rawType = target.getRawType();
+        if (rawType instanceof Class) {
+            Class<?> classTarget = (Class<?>) rawType;
+            if (TypeMeta.of(classTarget).getContainerKind() != TypeUtil.ContainerKind.MAP) {
+                // target 中的 rawType 的泛型类型
+                throw ConverterExceptionUtil.targetIllegalArgument("generic type of raw type (Class) in 'target'", "java.util.Map", classTarget);
+            }
+
+            final Type[] actualTypeArguments = GenericReferenceType.actualTypeArguments(target);
+            if (actualTypeArguments == null || actualTypeArguments.length == 0) {
+                return convert(source, (Class<Map<?, ?>>) classTarget, null, null);
+            } else if (actualTypeArguments.length == 2) {
+                return convert(source, (Class<Map<?, ?>>) classTarget, actualTypeArguments[0], actualTypeArguments[1]);
+            }
+
+            throw ConverterExceptionUtil.targetIllegalArgument("Actual type arguments of 'target'", "Type[(size == 2)]", target);
+        }
+
+
+        throw ConverterExceptionUtil.targetIllegalArgument("Raw type of 'target'", "Class<java.util.Map>", target);
+
+    }
+
+
+    /**
+     * 将目标对象 source 转化为目标类型的Map的转化方法。
+     *
+     * @param source        转化目标
+     * @param targetMapType 目标类型。如果使用 {@code Map.class}, 则默认使用 {@link java.util.HashMap}。
+     *                      如果想要使用一个自定义的类型，需要保证此类型能够通过无参构建实例化，并且能够使用 {@link Map#put(Object, Object)} 来添加元素。
+     * @param keyType       键的类型。如果此类型为null，则由实现者自行决定所默认的类型。
+     * @param valueType     值的类型。如果此类型为null，则由实现者自行决定所默认的类型。
+     * @param <K>           键的类型。
+     * @param <V>           值的类型。
+     * @param <MT>          最终的Map类型。
+     * @return Map value.
+     */
+    public abstract <K, V, MT extends Map<K, V>> MT convert(@NotNull Object source, @NotNull Class<Map<?, ?>> targetMapType,
+                                                           @Nullable Type keyType, @Nullable Type valueType);
+}
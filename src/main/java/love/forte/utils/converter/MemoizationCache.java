@@ -0,0 +1,232 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Currency;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 以 {@code (source, target)} 为键记录转化结果的有界缓存。
+ * <p>
+ * 淘汰使用 GCLOCK：每个条目有一个上限为 {@link #MAX_FREQUENCY} 的访问频率，命中时增加，
+ * 需要淘汰时时钟指针依次扫过各个条目并将频率减一，淘汰第一个频率为0的条目。
+ * 因此只被访问过一次的条目会较早地被淘汰，而频繁访问的条目会被保留。
+ * <p>
+ * 查询不需要加锁，访问频率的更新是近似的；写入与淘汰在锁内进行。
+ * <p>
+ * 只有类型为不可变类型的 source 与结果才会被缓存，见 {@link #isCacheableSource(Object)}、{@link #isCacheableTarget(Type)}。
+ *
+ * @author ForteScarlet
+ */
+final class MemoizationCache {
+    private static final int MAX_FREQUENCY = 3;
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES;
+
+    static {
+        final Set<Class<?>> types = new HashSet<>();
+        types.add(String.class);
+        types.add(Boolean.class);
+        types.add(Character.class);
+        types.add(Byte.class);
+        types.add(Short.class);
+        types.add(Integer.class);
+        types.add(Long.class);
+        types.add(Float.class);
+        types.add(Double.class);
+        types.add(BigDecimal.class);
+        types.add(BigInteger.class);
+        types.add(UUID.class);
+        types.add(Currency.class);
+        types.add(Locale.class);
+        // java.time 中并非所有类型都是不可变或值相等的，例如 Clock，因此需要逐个列出
+        types.add(LocalDate.class);
+        types.add(LocalTime.class);
+        types.add(LocalDateTime.class);
+        types.add(OffsetDateTime.class);
+        types.add(OffsetTime.class);
+        types.add(ZonedDateTime.class);
+        types.add(Instant.class);
+        types.add(Duration.class);
+        types.add(Period.class);
+        types.add(Year.class);
+        types.add(YearMonth.class);
+        types.add(MonthDay.class);
+        types.add(ZoneOffset.class);
+        IMMUTABLE_TYPES = types;
+    }
+
+    private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            // 不包括子类，例如 BigDecimal 的子类可能是可变的
+            return IMMUTABLE_TYPES.contains(type) || type.isEnum()
+                    || (type.getSuperclass() != null && type.getSuperclass().isEnum());
+        }
+    };
+
+    private final ConcurrentHashMap<Key, Entry> entries;
+    private final Entry[] clock;
+    private int size;
+    private int hand;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    MemoizationCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive, but " + maximumSize);
+        }
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.clock = new Entry[maximumSize];
+    }
+
+    /**
+     * 判断 source 是否可以作为缓存的键，即是否为不可变类型。
+     */
+    static boolean isCacheableSource(Object source) {
+        return IMMUTABLE.get(source.getClass());
+    }
+
+    /**
+     * 判断目标类型的结果是否可能被缓存。只有 {@link Class} 类型的、不可变类型（或其基础数据类型）以及 {@link Date} 的结果会被缓存。
+     */
+    static boolean isCacheableTarget(Type target) {
+        if (!(target instanceof Class)) {
+            return false;
+        }
+        final Class<?> targetClass = (Class<?>) target;
+        return targetClass.isPrimitive() || targetClass == Date.class || IMMUTABLE.get(targetClass);
+    }
+
+    /**
+     * 查询缓存的结果。
+     *
+     * @return 结果，不存在时为 {@code null}
+     */
+    @Nullable
+    Object get(Object source, Type target) {
+        final Entry entry = entries.get(new Key(source, target));
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (entry.frequency < MAX_FREQUENCY) {
+            entry.frequency++;
+        }
+        hitCount.increment();
+        return copy(entry.value);
+    }
+
+    /**
+     * 记录转化结果。只有结果的实际类型为不可变类型或 {@link Date} 时才会被记录。
+     */
+    void put(Object source, Type target, Object value) {
+        final Class<?> valueType = value.getClass();
+        if (valueType != Date.class && !IMMUTABLE.get(valueType)) {
+            return;
+        }
+
+        final Key key = new Key(source, target);
+        synchronized (this) {
+            if (entries.containsKey(key)) {
+                return;
+            }
+            final int index = size < clock.length ? size++ : evict();
+            final Entry entry = new Entry(key, copy(value));
+            clock[index] = entry;
+            entries.put(key, entry);
+        }
+    }
+
+    private int evict() {
+        for (; ; ) {
+            final int index = hand;
+            hand = index + 1 == clock.length ? 0 : index + 1;
+            final Entry entry = clock[index];
+            if (entry.frequency == 0) {
+                entries.remove(entry.key, entry);
+                evictionCount.increment();
+                return index;
+            }
+            entry.frequency--;
+        }
+    }
+
+    private static Object copy(Object value) {
+        // Date 是可变的，缓存中的实例与返回的实例均为副本
+        return value.getClass() == Date.class ? ((Date) value).clone() : value;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+    }
+
+    private static final class Key {
+        private final Object source;
+        private final Type target;
+        private final int hash;
+
+        Key(Object source, Type target) {
+            this.source = source;
+            this.target = target;
+            this.hash = 31 * source.hashCode() + target.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash && target.equals(other.target)
+                    && source.getClass() == other.source.getClass() && source.equals(other.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final Object value;
+        private volatile int frequency;
+
+        Entry(Key key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package love.forte.utils.converter;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Type;
+
 /**
  * 转化目标为数字类型的转化器。
  *
@@ -11,13 +13,22 @@ public abstract class NumberConverter<N extends Number> extends ClassTargetConve
 
     @Override
     protected Object convertByClass(@NotNull Object source, @NotNull Class<?> target) {
-        final Class<N> expected = getExpected();
-
-        if (expected.equals(target)) {
+        if (isExpectedTarget(target)) {
             return convertNumber(source);
         }
 
-        return ConverterExceptionUtil.targetIllegalArgument(expected.toString(), source);
+        throw ConverterExceptionUtil.targetIllegalArgument(getExpected().toString(), target.toString());
+    }
+
+    /**
+     * 判断目标类型是否为当前转化器所预期的数字类型。
+     *
+     * @param target 目标类型
+     * @return 是否为预期类型
+     * @see #getExpected()
+     */
+    protected boolean isExpectedTarget(@NotNull Type target) {
+        return getExpected().equals(target);
     }
 
 
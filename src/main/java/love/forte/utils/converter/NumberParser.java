@@ -0,0 +1,671 @@
+package love.forte.utils.converter;
+
+import love.forte.utils.converter.bytes.AsciiByteSequence;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 内部使用的数字解析工具。
+ * <p>
+ * 直接从 {@link CharSequence} 的 {@code [start, end)} 范围中解析数字，而不需要先构建子字符串。
+ * 解析结果与抛出的异常均与使用 {@link Integer#parseInt(String)}、{@link Long#parseLong(String)}
+ * 等函数解析对应的子字符串时一致。
+ * <p>
+ * 整数会先根据有效数字的位数排除溢出的可能，再每次 8 位地解析 ASCII 数字，
+ * 对于包含其他字符（例如非 ASCII 的数字）或可能溢出的内容，会使用与 JDK 相同的逐字符解析。
+ * <p>
+ * 浮点数对于不超过 19 位有效数字的十进制内容会直接解析并得到正确舍入的结果（见 {@link EiselLemire}），
+ * 其他情况（例如有效数字过多、非正规数、十六进制、{@code NaN} 等）会交由 JDK 解析对应的子字符串。
+ * <p>
+ * {@code tryParseXxx} 系列函数在格式错误时会得到 {@code null}，且不会在内部构建或捕获异常。
+ *
+ * @author ForteScarlet
+ */
+@ApiStatus.Internal
+public final class NumberParser {
+    private static final int RADIX = 10;
+
+    private static final int MAX_INT_DIGITS = 10;
+    private static final int MAX_LONG_DIGITS = 19;
+    private static final long INT_NEGATIVE_LIMIT = -(long) Integer.MIN_VALUE;
+
+    /**
+     * {@link #parseAsciiDigits(CharSequence, int, int)} 遇到非 ASCII 数字字符时的结果。
+     * 作为无符号数时大于任何不超过 19 位的十进制数。
+     */
+    private static final long INVALID_DIGITS = -1L;
+
+    /**
+     * 不抛出异常的整数解析失败时的结果。由于成功时的结果总是小于等于0，因此不会与之冲突。
+     */
+    private static final int FAILURE = 1;
+
+    private static final int MAX_FAST_DIGITS = 19;
+    private static final int MAX_EXPLICIT_EXPONENT = 100000;
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    private static final int MAX_DOUBLE_POWER = 22;
+    private static final int MAX_FLOAT_POWER = 10;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private NumberParser() {
+    }
+
+    /**
+     * 解析 {@code byte}。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 解析结果
+     * @throws NumberFormatException     格式错误或超出范围
+     * @throws IndexOutOfBoundsException 范围不合法
+     * @see Byte#parseByte(String)
+     */
+    public static byte parseByte(@NotNull CharSequence source, int start, int end) {
+        final int value = parseInt(source, start, end);
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw outOfRange(source, start, end);
+        }
+        return (byte) value;
+    }
+
+    /**
+     * 解析 {@code short}。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 解析结果
+     * @throws NumberFormatException     格式错误或超出范围
+     * @throws IndexOutOfBoundsException 范围不合法
+     * @see Short#parseShort(String)
+     */
+    public static short parseShort(@NotNull CharSequence source, int start, int end) {
+        final int value = parseInt(source, start, end);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw outOfRange(source, start, end);
+        }
+        return (short) value;
+    }
+
+    /**
+     * 解析 {@code int}。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 解析结果
+     * @throws NumberFormatException     格式错误或超出范围
+     * @throws IndexOutOfBoundsException 范围不合法
+     * @see Integer#parseInt(String)
+     */
+    public static int parseInt(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        return applySign(source, start, parseNegatedInt(source, start, end, true));
+    }
+
+    /**
+     * 解析 {@code long}。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 解析结果
+     * @throws NumberFormatException     格式错误或超出范围
+     * @throws IndexOutOfBoundsException 范围不合法
+     * @see Long#parseLong(String)
+     */
+    public static long parseLong(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        return applySign(source, start, parseNegatedLong(source, start, end, true));
+    }
+
+    /**
+     * 解析 {@code double}。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 解析结果
+     * @throws NumberFormatException     格式错误
+     * @throws IndexOutOfBoundsException 范围不合法
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDouble(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        final double value = parseDecimalFast(source, start, end, false);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+        return Double.parseDouble(source.subSequence(start, end).toString());
+    }
+
+    /**
+     * 解析 {@code float}。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 解析结果
+     * @throws NumberFormatException     格式错误
+     * @throws IndexOutOfBoundsException 范围不合法
+     * @see Float#parseFloat(String)
+     */
+    public static float parseFloat(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        final double value = parseDecimalFast(source, start, end, true);
+        if (!Double.isNaN(value)) {
+            return (float) value;
+        }
+        return Float.parseFloat(source.subSequence(start, end).toString());
+    }
+
+    //region 不抛出异常的解析
+
+    /**
+     * 与 {@link #parseByte(CharSequence, int, int)} 相同，但是格式错误或超出范围时得到 {@code null}，且内部不会构建任何异常。
+     *
+     * @throws IndexOutOfBoundsException 范围不合法
+     */
+    @Nullable
+    public static Byte tryParseByte(@NotNull CharSequence source, int start, int end) {
+        final Integer value = tryParseInt(source, start, end);
+        return value == null || value < Byte.MIN_VALUE || value > Byte.MAX_VALUE ? null : value.byteValue();
+    }
+
+    /**
+     * 与 {@link #parseShort(CharSequence, int, int)} 相同，但是格式错误或超出范围时得到 {@code null}，且内部不会构建任何异常。
+     *
+     * @throws IndexOutOfBoundsException 范围不合法
+     */
+    @Nullable
+    public static Short tryParseShort(@NotNull CharSequence source, int start, int end) {
+        final Integer value = tryParseInt(source, start, end);
+        return value == null || value < Short.MIN_VALUE || value > Short.MAX_VALUE ? null : value.shortValue();
+    }
+
+    /**
+     * 与 {@link #parseInt(CharSequence, int, int)} 相同，但是格式错误或超出范围时得到 {@code null}，且内部不会构建任何异常。
+     *
+     * @throws IndexOutOfBoundsException 范围不合法
+     */
+    @Nullable
+    public static Integer tryParseInt(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        final int negated = parseNegatedInt(source, start, end, false);
+        return negated == FAILURE ? null : applySign(source, start, negated);
+    }
+
+    /**
+     * 与 {@link #parseLong(CharSequence, int, int)} 相同，但是格式错误或超出范围时得到 {@code null}，且内部不会构建任何异常。
+     *
+     * @throws IndexOutOfBoundsException 范围不合法
+     */
+    @Nullable
+    public static Long tryParseLong(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        final long negated = parseNegatedLong(source, start, end, false);
+        return negated == FAILURE ? null : applySign(source, start, negated);
+    }
+
+    /**
+     * 与 {@link #parseDouble(CharSequence, int, int)} 相同，但是格式错误时得到 {@code null}。
+     * 只有内容符合 {@link Double#valueOf(String)} 所描述的格式时才会交由 JDK 解析，因此内部不会构建任何异常。
+     *
+     * @throws IndexOutOfBoundsException 范围不合法
+     */
+    @Nullable
+    public static Double tryParseDouble(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        final double value = parseDecimalFast(source, start, end, false);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+        return isFloatingLiteral(source, start, end) ? Double.parseDouble(source.subSequence(start, end).toString()) : null;
+    }
+
+    /**
+     * 与 {@link #parseFloat(CharSequence, int, int)} 相同，但是格式错误时得到 {@code null}。
+     *
+     * @throws IndexOutOfBoundsException 范围不合法
+     * @see #tryParseDouble(CharSequence, int, int)
+     */
+    @Nullable
+    public static Float tryParseFloat(@NotNull CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        final double value = parseDecimalFast(source, start, end, true);
+        if (!Double.isNaN(value)) {
+            return (float) value;
+        }
+        return isFloatingLiteral(source, start, end) ? Float.parseFloat(source.subSequence(start, end).toString()) : null;
+    }
+
+    //endregion
+
+    private static int applySign(CharSequence source, int start, int negated) {
+        return source.charAt(start) == '-' ? negated : -negated;
+    }
+
+    private static long applySign(CharSequence source, int start, long negated) {
+        return source.charAt(start) == '-' ? negated : -negated;
+    }
+
+    /**
+     * 解析整数并得到其绝对值的相反数（即总是小于等于0），以便覆盖 {@link Integer#MIN_VALUE}。
+     *
+     * @param throwing 失败时是否抛出异常。为 {@code false} 时失败会得到 {@link #FAILURE}。
+     */
+    private static int parseNegatedInt(CharSequence source, int start, int end, boolean throwing) {
+        if (start == end) {
+            return fail(throwing, source, start, end);
+        }
+
+        int i = start;
+        final char firstChar = source.charAt(i);
+        final boolean negative = firstChar == '-';
+        if (negative || firstChar == '+') {
+            i++;
+        }
+        if (i < end) {
+            while (i < end - 1 && source.charAt(i) == '0') {
+                i++;
+            }
+            // 根据有效数字的位数排除溢出的可能，剩余的情况（包括格式错误、非 ASCII 数字等）交由完整的解析处理
+            if (end - i <= MAX_INT_DIGITS) {
+                final long magnitude = parseAsciiDigits(source, i, end);
+                if (magnitude != INVALID_DIGITS && magnitude <= (negative ? INT_NEGATIVE_LIMIT : Integer.MAX_VALUE)) {
+                    return (int) -magnitude;
+                }
+            }
+        }
+
+        // 与 Integer.parseInt 相同，以负数进行累积以覆盖 MIN_VALUE
+        i = start;
+        int limit = -Integer.MAX_VALUE;
+        if (firstChar < '0') {
+            if (negative) {
+                limit = Integer.MIN_VALUE;
+            } else if (firstChar != '+') {
+                return fail(throwing, source, start, end);
+            }
+
+            if (end - start == 1) {
+                return fail(throwing, source, start, end);
+            }
+            i++;
+        }
+
+        final int multmin = limit / RADIX;
+        int result = 0;
+        while (i < end) {
+            final int digit = Character.digit(source.charAt(i++), RADIX);
+            if (digit < 0 || result < multmin) {
+                return fail(throwing, source, start, end);
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                return fail(throwing, source, start, end);
+            }
+            result -= digit;
+        }
+
+        return result;
+    }
+
+    /**
+     * 解析整数并得到其绝对值的相反数（即总是小于等于0），以便覆盖 {@link Long#MIN_VALUE}。
+     *
+     * @param throwing 失败时是否抛出异常。为 {@code false} 时失败会得到 {@link #FAILURE}。
+     */
+    private static long parseNegatedLong(CharSequence source, int start, int end, boolean throwing) {
+        if (start == end) {
+            return fail(throwing, source, start, end);
+        }
+
+        int i = start;
+        final char firstChar = source.charAt(i);
+        final boolean negative = firstChar == '-';
+        if (negative || firstChar == '+') {
+            i++;
+        }
+        if (i < end) {
+            while (i < end - 1 && source.charAt(i) == '0') {
+                i++;
+            }
+            if (end - i <= MAX_LONG_DIGITS) {
+                final long magnitude = parseAsciiDigits(source, i, end);
+                // 作为无符号数比较，Long.MIN_VALUE 即为 2^63
+                if (negative ? Long.compareUnsigned(magnitude, Long.MIN_VALUE) <= 0 : magnitude >= 0) {
+                    return -magnitude;
+                }
+            }
+        }
+
+        i = start;
+        long limit = -Long.MAX_VALUE;
+        if (firstChar < '0') {
+            if (negative) {
+                limit = Long.MIN_VALUE;
+            } else if (firstChar != '+') {
+                return fail(throwing, source, start, end);
+            }
+
+            if (end - start == 1) {
+                return fail(throwing, source, start, end);
+            }
+            i++;
+        }
+
+        final long multmin = limit / RADIX;
+        long result = 0;
+        while (i < end) {
+            final int digit = Character.digit(source.charAt(i++), RADIX);
+            if (digit < 0 || result < multmin) {
+                return fail(throwing, source, start, end);
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                return fail(throwing, source, start, end);
+            }
+            result -= digit;
+        }
+
+        return result;
+    }
+
+    private static int fail(boolean throwing, CharSequence source, int start, int end) {
+        if (throwing) {
+            throw forInputString(source, start, end);
+        }
+        return FAILURE;
+    }
+
+    /**
+     * 判断内容是否符合 {@link Double#valueOf(String)} 所描述的格式，即 JDK 是否可以成功解析它。
+     * 包括两侧的空白字符、{@code NaN}、{@code Infinity}、十六进制以及 {@code f}、{@code d} 等后缀。
+     */
+    private static boolean isFloatingLiteral(CharSequence source, int start, int end) {
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+
+        int i = start;
+        char c = source.charAt(i);
+        if (c == '+' || c == '-') {
+            if (++i == end) {
+                return false;
+            }
+            c = source.charAt(i);
+        }
+
+        if (c == 'N') {
+            return isWord(source, i, end, "NaN");
+        }
+        if (c == 'I') {
+            return isWord(source, i, end, "Infinity");
+        }
+
+        final boolean hex = c == '0' && i + 1 < end && (source.charAt(i + 1) == 'x' || source.charAt(i + 1) == 'X');
+        if (hex) {
+            i += 2;
+        }
+
+        boolean anyDigit = false;
+        for (; i < end && isDigit(source.charAt(i), hex); i++) {
+            anyDigit = true;
+        }
+        if (i < end && source.charAt(i) == '.') {
+            for (i++; i < end && isDigit(source.charAt(i), hex); i++) {
+                anyDigit = true;
+            }
+        }
+        if (!anyDigit) {
+            return false;
+        }
+
+        // 十六进制的指数是必须的
+        if (i < end && (hex ? (source.charAt(i) == 'p' || source.charAt(i) == 'P') : (source.charAt(i) == 'e' || source.charAt(i) == 'E'))) {
+            i++;
+            if (i < end && (source.charAt(i) == '+' || source.charAt(i) == '-')) {
+                i++;
+            }
+            final int exponentStart = i;
+            while (i < end && isDigit(source.charAt(i), false)) {
+                i++;
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+        } else if (hex) {
+            return false;
+        }
+
+        if (i == end) {
+            return true;
+        }
+
+        c = source.charAt(i);
+        return i == end - 1 && (c == 'f' || c == 'F' || c == 'd' || c == 'D');
+    }
+
+    private static boolean isWord(CharSequence source, int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (source.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c, boolean hex) {
+        return (c >= '0' && c <= '9') || (hex && ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')));
+    }
+
+    /**
+     * 解析 {@code [start, end)} 范围内不超过 19 位的 ASCII 数字，每次处理 8 位（SWAR）。
+     *
+     * @return 解析结果（视为无符号数），或存在非 ASCII 数字字符时得到 {@link #INVALID_DIGITS}
+     */
+    private static long parseAsciiDigits(CharSequence source, int start, int end) {
+        int i = start;
+        long result = 0;
+        while (end - i >= 8) {
+            final long word = source instanceof AsciiByteSequence
+                    ? ((AsciiByteSequence) source).getLongLittleEndian(i)
+                    : readWord(source, i);
+            if (!isEightDigits(word)) {
+                return INVALID_DIGITS;
+            }
+            result = result * 100000000L + parseEightDigits(word);
+            i += 8;
+        }
+        for (; i < end; i++) {
+            final char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_DIGITS;
+            }
+            result = result * 10 + (c - '0');
+        }
+
+        return result;
+    }
+
+    /**
+     * 将 8 个字符按小端序放入一个 {@code long} 中，即第一个字符位于最低的字节。
+     * 超出单字节范围的字符会被视为 {@code 0xFF}，它不可能被识别为数字。
+     */
+    private static long readWord(CharSequence source, int index) {
+        long word = 0;
+        for (int k = 7; k >= 0; k--) {
+            final char c = source.charAt(index + k);
+            word = (word << 8) | (c > 0xFF ? 0xFF : c);
+        }
+        return word;
+    }
+
+    /**
+     * 判断 {@code word} 中的 8 个字节是否均为 {@code '0'} ~ {@code '9'}：
+     * 每个字节的高 4 位需要为 {@code 3}，且加上 {@code 6} 之后高 4 位仍然为 {@code 3}。
+     */
+    static boolean isEightDigits(long word) {
+        return ((word & 0xF0F0F0F0F0F0F0F0L)
+                | (((word + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) == 0x3333333333333333L;
+    }
+
+    /**
+     * 将 8 个小端序的 ASCII 数字转化为对应的数值。每一步将相邻的两组数字合并为一组，共 3 次乘法。
+     */
+    static int parseEightDigits(long word) {
+        word = ((word & 0x0F0F0F0F0F0F0F0FL) * 2561) >>> 8;
+        word = ((word & 0x00FF00FF00FF00FFL) * 6553601) >>> 16;
+        return (int) (((word & 0x0000FFFF0000FFFFL) * 42949672960001L) >>> 32);
+    }
+
+    /**
+     * 对于形如 {@code [+-]digits[.digits][(e|E)[+-]digits]} 的简单十进制内容，当有效数字 {@code w} 与十进制指数 {@code q}
+     * 满足 {@code w <= 2^53, |q| <= 22}（{@code float} 为 {@code w <= 2^24, |q| <= 10}）时，
+     * {@code w} 与 {@code 10^|q|} 均可以被精确表示，因此一次乘法或除法的结果即为正确舍入的结果（Clinger 快速路径）。
+     * 其他不超过 19 位有效数字的内容通过 {@link EiselLemire} 计算。
+     *
+     * @return 解析结果，当内容不满足上述条件或无法确定结果时得到 {@code NaN}，此时应交由 JDK 进行解析。
+     */
+    private static double parseDecimalFast(CharSequence source, int start, int end, boolean isFloat) {
+        int i = start;
+        if (i == end) {
+            return Double.NaN;
+        }
+
+        boolean negative = false;
+        char c = source.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++i == end) {
+                return Double.NaN;
+            }
+        }
+
+        // 最多 19 位有效数字，按无符号数处理时不会溢出
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+
+        for (; i < end && (c = source.charAt(i)) >= '0' && c <= '9'; i++) {
+            anyDigit = true;
+            if (mantissa != 0 || c != '0') {
+                if (++significantDigits > MAX_FAST_DIGITS) {
+                    return Double.NaN;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+            }
+        }
+
+        if (i < end && source.charAt(i) == '.') {
+            for (i++; i < end && (c = source.charAt(i)) >= '0' && c <= '9'; i++) {
+                anyDigit = true;
+                exponent--;
+                if (mantissa != 0 || c != '0') {
+                    if (++significantDigits > MAX_FAST_DIGITS) {
+                        return Double.NaN;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+            }
+        }
+
+        if (!anyDigit) {
+            return Double.NaN;
+        }
+
+        if (i < end && ((c = source.charAt(i)) == 'e' || c == 'E')) {
+            if (++i == end) {
+                return Double.NaN;
+            }
+            boolean negativeExponent = false;
+            c = source.charAt(i);
+            if (c == '-' || c == '+') {
+                negativeExponent = c == '-';
+                i++;
+            }
+            int explicitExponent = 0;
+            boolean anyExponentDigit = false;
+            for (; i < end && (c = source.charAt(i)) >= '0' && c <= '9'; i++) {
+                anyExponentDigit = true;
+                if (explicitExponent < MAX_EXPLICIT_EXPONENT) {
+                    explicitExponent = explicitExponent * 10 + (c - '0');
+                }
+            }
+            if (!anyExponentDigit) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (i != end) {
+            // 后缀（例如 'd'、'f'）、空白字符等
+            return Double.NaN;
+        }
+
+        final double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (isFloat) {
+            if (Long.compareUnsigned(mantissa, MAX_EXACT_FLOAT_MANTISSA) > 0 || exponent < -MAX_FLOAT_POWER || exponent > MAX_FLOAT_POWER) {
+                value = EiselLemire.toFloat(mantissa, exponent);
+            } else {
+                final float floatMantissa = (float) mantissa;
+                value = exponent >= 0 ? floatMantissa * FLOAT_POWERS_OF_TEN[exponent] : floatMantissa / FLOAT_POWERS_OF_TEN[-exponent];
+            }
+        } else {
+            if (Long.compareUnsigned(mantissa, MAX_EXACT_DOUBLE_MANTISSA) > 0 || exponent < -MAX_DOUBLE_POWER || exponent > MAX_DOUBLE_POWER) {
+                value = EiselLemire.toDouble(mantissa, exponent);
+            } else {
+                value = exponent >= 0 ? mantissa * DOUBLE_POWERS_OF_TEN[exponent] : mantissa / DOUBLE_POWERS_OF_TEN[-exponent];
+            }
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * 检查 {@code [start, end)} 是否为 {@code source} 中合法的范围。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @throws IndexOutOfBoundsException 范围不合法
+     */
+    public static void checkRange(@NotNull CharSequence source, int start, int end) {
+        final int length = source.length();
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+        }
+    }
+
+    private static NumberFormatException forInputString(CharSequence source, int start, int end) {
+        return new NumberFormatException("For input string: \"" + source.subSequence(start, end) + "\"");
+    }
+
+    private static NumberFormatException outOfRange(CharSequence source, int start, int end) {
+        return new NumberFormatException("Value out of range. Value:\"" + source.subSequence(start, end) + "\" Radix:" + RADIX);
+    }
+}
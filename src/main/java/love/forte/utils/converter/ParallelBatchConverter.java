@@ -0,0 +1,244 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 基于 fork/join 的并行批量转化器。
+ * <p>
+ * 当元素数量超过阈值时，输入会被不断二分为若干个分片并行转化，每个分片只会写入结果数组中与之对应的、互不重叠的区间，
+ * 因此结果的顺序与输入一致，且不需要额外的同步。每个分片使用各自的 {@link BatchResolver}，
+ * 即每个分片中每种 source 类型只会解析一次转化器。
+ * <p>
+ * 转化使用构建时提供的 {@link ConverterUtil}。某个元素转化失败时不会中止整个批次，
+ * 异常会被记录在 {@link BatchResult#getFailures()} 中。
+ * <p>
+ * 此类是线程安全的。
+ *
+ * @author ForteScarlet
+ * @see ConverterUtil#convertAll(Object[], int, int, Type, Object[], int)
+ */
+public final class ParallelBatchConverter {
+
+    /**
+     * 默认的分片阈值。
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    private final ConverterUtil converterUtil;
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    private ParallelBatchConverter(ConverterUtil converterUtil, int threshold, ForkJoinPool pool) {
+        this.converterUtil = converterUtil;
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * 使用默认阈值与 {@link ForkJoinPool#commonPool()} 构建实例。
+     *
+     * @param converterUtil 转化所使用的转化工具
+     * @return {@link ParallelBatchConverter}
+     */
+    public static ParallelBatchConverter create(@NotNull ConverterUtil converterUtil) {
+        return create(converterUtil, DEFAULT_THRESHOLD, null);
+    }
+
+    /**
+     * 构建实例。
+     *
+     * @param converterUtil 转化所使用的转化工具
+     * @param threshold     分片阈值。元素数量不超过此值的分片会直接在当前线程中转化。
+     * @param pool          执行转化的线程池，为null时使用 {@link ForkJoinPool#commonPool()}
+     * @return {@link ParallelBatchConverter}
+     * @throws IllegalArgumentException 当 {@code threshold} 小于1时
+     */
+    public static ParallelBatchConverter create(@NotNull ConverterUtil converterUtil, int threshold, @Nullable ForkJoinPool pool) {
+        Objects.requireNonNull(converterUtil, "converterUtil");
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive, but " + threshold);
+        }
+        return new ParallelBatchConverter(converterUtil, threshold, pool == null ? ForkJoinPool.commonPool() : pool);
+    }
+
+    public ConverterUtil getConverterUtil() {
+        return converterUtil;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为目标类型。
+     *
+     * @param sources 预计被转化的目标对象
+     * @param target  预计被转化为的目标类型。
+     * @return 转化结果
+     */
+    public BatchResult<Object[]> convertAll(@NotNull Object[] sources, @NotNull Type target) {
+        return convertAll(sources, target, new Object[sources.length]);
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为目标类型，并得到对应类型的数组。
+     * 当 {@code target} 为基础数据类型时，得到的是其封装类型的数组。
+     *
+     * @param sources 预计被转化的目标对象
+     * @param target  预计被转化为的目标类型。
+     * @param <T>     结果元素类型
+     * @return 转化结果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BatchResult<T[]> convertAll(@NotNull Object[] sources, @NotNull Class<T> target) {
+        final Class<?> componentType = TypeMeta.of(target).getBoxedType();
+        return convertAll(sources, (Type) target, (T[]) Array.newInstance(componentType, sources.length));
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为目标类型，并写入预先分配的 {@code output} 中。
+     *
+     * @param sources 预计被转化的目标对象
+     * @param target  预计被转化为的目标类型。
+     * @param output  结果输出，长度不能小于 {@code sources}
+     * @param <T>     结果元素类型
+     * @return 转化结果
+     * @throws IndexOutOfBoundsException 当 {@code output} 的长度不足时。
+     */
+    public <T> BatchResult<T[]> convertAll(@NotNull Object[] sources, @NotNull Type target, @NotNull T[] output) {
+        BatchResolver.checkRange(sources.length, 0, sources.length, output.length, 0);
+        return execute(sources, target, output, (resolver, index) -> output[index] = resolver.convert(sources[index]));
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为 {@code int}。
+     *
+     * @param sources 预计被转化的目标对象
+     * @return 转化结果
+     * @see ConverterUtil#convertAllToInt(Object[])
+     */
+    public BatchResult<int[]> convertAllToInt(@NotNull Object[] sources) {
+        final int[] output = new int[sources.length];
+        return execute(sources, int.class, output, (resolver, index) -> output[index] = resolver.convertToInt(sources[index]));
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为 {@code long}。
+     *
+     * @param sources 预计被转化的目标对象
+     * @return 转化结果
+     * @see ConverterUtil#convertAllToLong(Object[])
+     */
+    public BatchResult<long[]> convertAllToLong(@NotNull Object[] sources) {
+        final long[] output = new long[sources.length];
+        return execute(sources, long.class, output, (resolver, index) -> output[index] = resolver.convertToLong(sources[index]));
+    }
+
+    /**
+     * 将 {@code sources} 中的每个元素转化为 {@code double}。
+     *
+     * @param sources 预计被转化的目标对象
+     * @return 转化结果
+     * @see ConverterUtil#convertAllToDouble(Object[])
+     */
+    public BatchResult<double[]> convertAllToDouble(@NotNull Object[] sources) {
+        final double[] output = new double[sources.length];
+        return execute(sources, double.class, output, (resolver, index) -> output[index] = resolver.convertToDouble(sources[index]));
+    }
+
+    private <R> BatchResult<R> execute(Object[] sources, Type target, R output, ElementWriter writer) {
+        final SliceTask task = new SliceTask(converterUtil, target, sources, 0, sources.length, threshold, writer);
+        final List<BatchResult.ElementFailure> failures;
+        if (sources.length <= threshold) {
+            // 无需分片，直接在当前线程中转化
+            failures = task.compute();
+        } else {
+            failures = pool.invoke(task);
+        }
+        return new BatchResult<>(output, failures);
+    }
+
+    /**
+     * 转化并写入指定索引的元素。
+     */
+    @FunctionalInterface
+    private interface ElementWriter {
+        void write(BatchResolver resolver, int index);
+    }
+
+    /**
+     * 转化 {@code [from, to)} 范围内的元素，并得到此范围内按索引排序的失败信息。
+     */
+    private static final class SliceTask extends RecursiveTask<List<BatchResult.ElementFailure>> {
+        private static final long serialVersionUID = 1L;
+
+        private final ConverterUtil converterUtil;
+        private final Type target;
+        private final Object[] sources;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final ElementWriter writer;
+
+        SliceTask(ConverterUtil converterUtil, Type target, Object[] sources, int from, int to, int threshold, ElementWriter writer) {
+            this.converterUtil = converterUtil;
+            this.target = target;
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.writer = writer;
+        }
+
+        @Override
+        protected List<BatchResult.ElementFailure> compute() {
+            if (to - from <= threshold) {
+                return convertSlice();
+            }
+
+            final int middle = (from + to) >>> 1;
+            final SliceTask right = new SliceTask(converterUtil, target, sources, middle, to, threshold, writer);
+            right.fork();
+            final List<BatchResult.ElementFailure> leftFailures =
+                    new SliceTask(converterUtil, target, sources, from, middle, threshold, writer).compute();
+            final List<BatchResult.ElementFailure> rightFailures = right.join();
+
+            if (rightFailures.isEmpty()) {
+                return leftFailures;
+            }
+            if (leftFailures.isEmpty()) {
+                return rightFailures;
+            }
+            final List<BatchResult.ElementFailure> failures = new ArrayList<>(leftFailures.size() + rightFailures.size());
+            failures.addAll(leftFailures);
+            failures.addAll(rightFailures);
+            return failures;
+        }
+
+        private List<BatchResult.ElementFailure> convertSlice() {
+            final BatchResolver resolver = new BatchResolver(converterUtil, target);
+            List<BatchResult.ElementFailure> failures = null;
+            for (int i = from; i < to; i++) {
+                try {
+                    writer.write(resolver, i);
+                } catch (RuntimeException e) {
+                    if (failures == null) {
+                        failures = new ArrayList<>();
+                    }
+                    failures.add(new BatchResult.ElementFailure(i, sources[i], e));
+                }
+            }
+            return failures == null ? Collections.emptyList() : failures;
+        }
+    }
+}
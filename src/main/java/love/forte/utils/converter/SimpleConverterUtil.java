@@ -1,14 +1,40 @@
 package love.forte.utils.converter;
 
+import love.forte.utils.converter.bytes.BytesToNumberConverter;
+import love.forte.utils.converter.bytes.PathToArrayConverter;
+import love.forte.utils.converter.string.AnythingToStringConverter;
+import love.forte.utils.converter.string.ReaderToArrayConverter;
+import love.forte.utils.converter.string.ReaderToCollectionConverter;
+import love.forte.utils.converter.string.StringToArrayConverter;
+import love.forte.utils.converter.string.StringToBooleanConverter;
+import love.forte.utils.converter.string.StringToCollectionConverter;
+import love.forte.utils.converter.string.StringToMapConverter;
+import love.forte.utils.converter.string.StringToTimeConverter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.Reader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Collection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
@@ -18,7 +44,22 @@ import java.util.function.Supplier;
  * {@link SimpleConverterUtil} 在进行转化时会优先使用 {@code source} 的 {@code getClass()} 的
  * <b>类型名称</b>（即 {@code getTypeName()} ）作为类型的检测目标。当无匹配时才会考虑检测继承关系。
  * <p>
- * note: 此实现不是线程安全的。
+ * 转化器的查询顺序为：
+ * <ol>
+ *     <li>精准定位器中 {@code source} 的类型本身；</li>
+ *     <li>精准定位器中 {@code source} 的父类型，由近及远（不包括 {@link Object}）；</li>
+ *     <li>精准定位器中 {@code source} 实现的接口，按照广度优先、声明顺序（先本类、再父类）；</li>
+ *     <li>精准定位器中的 {@link Object}；</li>
+ *     <li>条件定位器。</li>
+ * </ol>
+ * 每个类型的继承结构只会被计算一次。
+ * <p>
+ * 定位器的匹配结果（包括无匹配的结果）会以 {@code (source.getClass(), target)} 为键进行缓存，
+ * 因此对于同一组类型的重复转化不会再进行类型名称的构建与查询。当任意定位器通过 {@code set} 或 {@code remove}
+ * 发生变更后，缓存会整体失效。
+ * <p>
+ * 此实现是线程安全的：定位器以不可变快照保存注册信息，查询时无需加锁，注册与移除会原子地发布新的快照。
+ * 因此同一个实例（例如 {@link ConverterUtil#getDefault()}）可以被多个线程共享。
  *
  * @author ForteScarlet
  */
@@ -26,9 +67,18 @@ public final class SimpleConverterUtil implements ConverterUtil {
     private final PrecisionConverterLocator precisionConverterLocator;
     private final CalculationConverterLocator calculationConverterLocator;
 
+    /**
+     * 解析缓存中代表 "无匹配转化器" 的值。
+     */
+    private static final Object NOT_FOUND = new Object();
+    private static final Object INSTANCE_DEPENDENT = new Object();
+
+    private volatile ResolutionCache resolutionCache;
+
     private SimpleConverterUtil(PrecisionConverterLocator precisionConverterLocator, CalculationConverterLocator calculationConverterLocator) {
         this.precisionConverterLocator = precisionConverterLocator;
         this.calculationConverterLocator = calculationConverterLocator;
+        this.resolutionCache = new ResolutionCache(precisionConverterLocator.modCount(), calculationConverterLocator.modCount());
     }
 
     /**
@@ -50,6 +100,98 @@ public final class SimpleConverterUtil implements ConverterUtil {
         return createInstance(new PrecisionConverterLocator(), new CalculationConverterLocator());
     }
 
+    /**
+     * 构建一个包含默认转化器的实例。
+     * <p>
+     * 默认转化器包括：
+     * <ul>
+     *     <li>{@link CharSequence} 到 {@link StringToNumberConverter 数字类型}（包括基础数据类型）</li>
+     *     <li>{@code byte[]} 或 {@link java.nio.ByteBuffer} 到 {@link Integer}、{@link Long}、{@link Double} 及其基础数据类型</li>
+     *     <li>{@link CharSequence} 到 {@link Boolean} 或 {@code boolean}</li>
+     *     <li>{@link CharSequence} 到 {@link StringToTimeConverter 时间相关的类型}</li>
+     *     <li>{@link CharSequence} 到数组</li>
+     *     <li>{@link CharSequence} 到 {@link java.util.Collection}</li>
+     *     <li>{@link CharSequence} 到 {@link java.util.Map}</li>
+     *     <li>{@link java.io.Reader} 或 {@link java.nio.channels.ReadableByteChannel} 到数组或 {@link java.util.Collection}</li>
+     *     <li>{@link java.nio.file.Path}、{@link java.io.File} 或 {@link java.nio.channels.FileChannel} 到 {@code int[]}、{@code long[]} 或 {@code double[]}</li>
+     *     <li>任意类型到 {@link String}</li>
+     * </ul>
+     *
+     * @return {@link SimpleConverterUtil}
+     * @see ConverterUtil#getDefault()
+     */
+    public static SimpleConverterUtil createDefaultInstance() {
+        final SimpleConverterUtil converterUtil = createInstance();
+        final PrecisionConverterLocator precision = converterUtil.precisionConverterLocator;
+        final CalculationConverterLocator calculation = converterUtil.calculationConverterLocator;
+        // 以 CharSequence 注册，String、StringBuilder 等均可通过继承结构匹配到
+        final String stringName = CharSequence.class.getName();
+
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToByte.INSTANCE, byte.class);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToShort.INSTANCE, short.class);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToInt.INSTANCE, int.class);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToLong.INSTANCE, long.class);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToDouble.INSTANCE, double.class);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToFloat.INSTANCE, float.class);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToBigDecimal.INSTANCE, null);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToBigInteger.INSTANCE, null);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToAtomicInteger.INSTANCE, null);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToAtomicLong.INSTANCE, null);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToLongAdder.INSTANCE, null);
+        setNumberConverter(precision, stringName, StringToNumberConverter.ToDoubleAdder.INSTANCE, null);
+
+        for (String bytesName : new String[]{byte[].class.getName(), ByteBuffer.class.getName()}) {
+            setNumberConverter(precision, bytesName, BytesToNumberConverter.ToInt.INSTANCE, int.class);
+            setNumberConverter(precision, bytesName, BytesToNumberConverter.ToLong.INSTANCE, long.class);
+            setNumberConverter(precision, bytesName, BytesToNumberConverter.ToDouble.INSTANCE, double.class);
+        }
+
+        precision.set(stringName, Boolean.class.getName(), StringToBooleanConverter.INSTANCE);
+        precision.set(stringName, boolean.class.getName(), StringToBooleanConverter.INSTANCE);
+
+        for (Class<?> timeType : StringToTimeConverter.INSTANCE.getSupportedTypes()) {
+            precision.set(stringName, timeType.getName(), StringToTimeConverter.INSTANCE);
+        }
+
+        precision.set(Object.class.getName(), String.class.getName(), AnythingToStringConverter.INSTANCE);
+
+        calculation.set("string-to-array", new StringToArrayConverter(() -> converterUtil),
+                CalculationConverterLocator.IndexHint.of(CharSequence.class, TypeUtil.ContainerKind.ARRAY), null);
+        calculation.set("string-to-collection", new StringToCollectionConverter(() -> converterUtil),
+                CalculationConverterLocator.IndexHint.of(CharSequence.class, TypeUtil.ContainerKind.COLLECTION), null);
+        calculation.set("string-to-map", new StringToMapConverter(() -> converterUtil),
+                CalculationConverterLocator.IndexHint.of(CharSequence.class, TypeUtil.ContainerKind.MAP), null);
+
+        final ReaderToArrayConverter readerToArray = new ReaderToArrayConverter(() -> converterUtil);
+        final ReaderToCollectionConverter readerToCollection = new ReaderToCollectionConverter(() -> converterUtil);
+        calculation.set("reader-to-array", readerToArray,
+                CalculationConverterLocator.IndexHint.of(Reader.class, TypeUtil.ContainerKind.ARRAY), null);
+        calculation.set("channel-to-array", readerToArray,
+                CalculationConverterLocator.IndexHint.of(ReadableByteChannel.class, TypeUtil.ContainerKind.ARRAY), null);
+        calculation.set("reader-to-collection", readerToCollection,
+                CalculationConverterLocator.IndexHint.of(Reader.class, TypeUtil.ContainerKind.COLLECTION), null);
+        calculation.set("channel-to-collection", readerToCollection,
+                CalculationConverterLocator.IndexHint.of(ReadableByteChannel.class, TypeUtil.ContainerKind.COLLECTION), null);
+
+        // 在继承结构中，FileChannel 会先于 ReadableByteChannel 被匹配
+        for (Class<?> fileType : new Class<?>[]{Path.class, File.class, FileChannel.class}) {
+            for (Class<?> arrayType : new Class<?>[]{int[].class, long[].class, double[].class}) {
+                calculation.set(fileType.getSimpleName().toLowerCase() + "-to-" + arrayType.getComponentType().getName() + "-array", PathToArrayConverter.INSTANCE,
+                        CalculationConverterLocator.IndexHint.of(fileType, arrayType, TypeUtil.ContainerKind.ARRAY), null);
+            }
+        }
+
+        return converterUtil;
+    }
+
+    private static void setNumberConverter(PrecisionConverterLocator precision, String sourceName,
+                                           NumberConverter<?> converter, @Nullable Class<?> primitiveType) {
+        precision.set(sourceName, converter.getExpected().getName(), converter);
+        if (primitiveType != null) {
+            precision.set(sourceName, primitiveType.getName(), converter);
+        }
+    }
+
 
     /**
      * 如果是 {@link java.lang.reflect.ParameterizedType} 类型，则会使用其 {@link ParameterizedType#getRawType()} 进行判断。
@@ -61,11 +203,7 @@ public final class SimpleConverterUtil implements ConverterUtil {
      */
     @Override
     public <T> T convert(@NotNull Object source, @NotNull Type target) {
-        // 优先通过精准定位器查询。
-        Converter converter = matchConverter(precisionConverterLocator, source, target);
-        if (converter == null) {
-            converter = matchConverter(precisionConverterLocator, source, target);
-        }
+        final Converter converter = resolveConverter(source, target);
 
         if (converter == null) {
             throw new NoSuchConverterException(source.getClass().getName(), target.getTypeName());
@@ -74,8 +212,70 @@ public final class SimpleConverterUtil implements ConverterUtil {
         return converter.convert(source, target);
     }
 
-    private Converter matchConverter(ConverterLocator locator, Object source, Type target) {
-        return locator.matchConverter(source, target);
+    /**
+     * 通过解析缓存得到 {@code source} 与 {@code target} 所对应的转化器。缓存未命中时依次通过精准定位器和条件定位器查询，
+     * 并将结果（包括无匹配的结果）记录在缓存中。
+     * <p>
+     * 如果结果需要由条件定位器中的某个 {@code checker} 根据 source 实例决定，则只会缓存这一事实，
+     * 之后的每次查询仍会通过条件定位器进行判断。
+     */
+    @Nullable
+    @Override
+    public Converter resolveConverter(@NotNull Object source, @NotNull Type target) {
+        final ConcurrentMap<Type, Object> resolved = currentResolutionCache().get(source.getClass());
+        final Object found = resolved.get(target);
+        if (found == INSTANCE_DEPENDENT) {
+            return calculationConverterLocator.matchConverter(source, target);
+        }
+        if (found != null) {
+            return found == NOT_FOUND ? null : (Converter) found;
+        }
+
+        Converter converter = precisionConverterLocator.matchConverter(source, target);
+        if (converter != null) {
+            resolved.putIfAbsent(target, converter);
+            return converter;
+        }
+
+        converter = calculationConverterLocator.matchConverter(source, target);
+        if (calculationConverterLocator.isInstanceDependent(source.getClass(), target)) {
+            resolved.putIfAbsent(target, INSTANCE_DEPENDENT);
+        } else {
+            resolved.putIfAbsent(target, converter == null ? NOT_FOUND : converter);
+        }
+        return converter;
+    }
+
+    /**
+     * 根据 source 的类型查询转化器。
+     * <p>
+     * 由于条件定位器中的条件需要根据 source 实例进行判断，因此此处只会匹配条件定位器中<b>没有提供条件、仅通过
+     * {@link CalculationConverterLocator.IndexHint 索引提示}</b> 进行匹配的转化器。
+     *
+     * @param sourceType source 的类型
+     * @param target     目标类型
+     * @return 转化器或null
+     */
+    @Override
+    public @Nullable Converter findConverter(@NotNull Class<?> sourceType, @NotNull Type target) {
+        final Converter converter = precisionConverterLocator.matchConverter(sourceType, target);
+        if (converter != null) {
+            return converter;
+        }
+
+        return calculationConverterLocator.matchConverter(sourceType, target);
+    }
+
+    private ResolutionCache currentResolutionCache() {
+        ResolutionCache cache = resolutionCache;
+        final int precisionModCount = precisionConverterLocator.modCount();
+        final int calculationModCount = calculationConverterLocator.modCount();
+        if (cache.precisionModCount != precisionModCount || cache.calculationModCount != calculationModCount) {
+            cache = new ResolutionCache(precisionModCount, calculationModCount);
+            resolutionCache = cache;
+        }
+
+        return cache;
     }
 
 
@@ -97,11 +297,32 @@ public final class SimpleConverterUtil implements ConverterUtil {
 
     /**
      * 转化定位器。定位器有两个实现类：精准的定位器 Precision，计算的定位器 Calculation
+     * <p>
+     * 定位器内部以<b>不可变快照</b>的形式保存注册信息：读取时直接访问当前快照而不需要加锁，
+     * {@code set} 与 {@code remove} 会在副本上完成修改后通过CAS原子地发布新的快照。
+     * 因此定位器可以在多线程间共享。
      */
     public static abstract class ConverterLocator {
+        private static final AtomicIntegerFieldUpdater<ConverterLocator> MOD_COUNT_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(ConverterLocator.class, "modCount");
+
+        private volatile int modCount;
+
         private ConverterLocator() {
         }
 
+        /**
+         * 定位器的修改计数。每次通过 {@code set} 或 {@code remove} 变更定位器后都会递增，用于判断解析缓存是否失效。
+         * 计数总是在新的快照发布之后才会递增。
+         */
+        int modCount() {
+            return modCount;
+        }
+
+        void markModified() {
+            MOD_COUNT_UPDATER.incrementAndGet(this);
+        }
+
         /**
          * 检测目标是否为可转化目标。
          *
@@ -119,87 +340,581 @@ public final class SimpleConverterUtil implements ConverterUtil {
      * 精准的定位器。
      */
     public static class PrecisionConverterLocator extends ConverterLocator {
-        private final Map<String, Map<String, Converter>> coordinates;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<PrecisionConverterLocator, Map> COORDINATES_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(PrecisionConverterLocator.class, Map.class, "coordinates");
+
+        /**
+         * 当前的注册信息快照。快照在发布后不会再被修改。
+         */
+        private volatile Map<String, Map<String, Converter>> coordinates;
         private final Supplier<Map<String, Converter>> mapSupplier;
 
+        /**
+         * 提供初始的注册信息与内层映射的构建函数。
+         *
+         * @param coordinates 初始的注册信息。会被复制为定位器的第一个快照，之后对此参数的修改不会影响定位器。
+         * @param mapSupplier 在发布新快照时用于构建内层映射的函数。
+         */
         public PrecisionConverterLocator(Map<String, Map<String, Converter>> coordinates, Supplier<Map<String, Converter>> mapSupplier) {
-            this.coordinates = coordinates;
             this.mapSupplier = mapSupplier;
+            final Map<String, Map<String, Converter>> initial = new LinkedHashMap<>(coordinates.size());
+            coordinates.forEach((sourceName, targets) -> {
+                final Map<String, Converter> copiedTargets = mapSupplier.get();
+                copiedTargets.putAll(targets);
+                initial.put(sourceName, copiedTargets);
+            });
+            this.coordinates = initial;
         }
 
         public PrecisionConverterLocator() {
-            this(new LinkedHashMap<>(), LinkedHashMap::new);
+            this(Collections.emptyMap(), LinkedHashMap::new);
         }
 
+        /**
+         * 依次根据 {@code source} 的类型本身及其继承结构中的类型名称进行查询。
+         *
+         * @param source     目标对象
+         * @param targetType 目标类型
+         * @return 转化器或null
+         * @see SimpleConverterUtil
+         */
         @Override
         public @Nullable Converter matchConverter(Object source, Type targetType) {
-            return coordinates.getOrDefault(source.getClass().getName(), Collections.emptyMap())
-                    .get(targetType.getTypeName());
+            return matchConverter(source.getClass(), targetType);
+        }
+
+        /**
+         * 依次根据 {@code sourceType} 本身及其继承结构中的类型名称进行查询。
+         *
+         * @param sourceType 目标对象的类型
+         * @param targetType 目标类型
+         * @return 转化器或null
+         * @see SimpleConverterUtil
+         */
+        public @Nullable Converter matchConverter(Class<?> sourceType, Type targetType) {
+            final Map<String, Map<String, Converter>> coordinates = this.coordinates;
+            final String targetName = targetType.getTypeName();
+            for (String sourceName : TypeHierarchy.of(sourceType).names) {
+                final Map<String, Converter> targets = coordinates.get(sourceName);
+                if (targets != null) {
+                    final Converter converter = targets.get(targetName);
+                    if (converter != null) {
+                        return converter;
+                    }
+                }
+            }
+
+            return null;
         }
 
         public Converter set(String sourceName, String targetName, Converter converter) {
-            final Map<String, Converter> map = coordinates.computeIfAbsent(sourceName, k -> mapSupplier.get());
-            return map.put(targetName, converter);
+            Objects.requireNonNull(converter);
+            for (; ; ) {
+                final Map<String, Map<String, Converter>> current = coordinates;
+                final Map<String, Map<String, Converter>> updated = new LinkedHashMap<>(current);
+                final Map<String, Converter> targets = mapSupplier.get();
+                targets.putAll(current.getOrDefault(sourceName, Collections.emptyMap()));
+                final Converter old = targets.put(targetName, converter);
+                updated.put(sourceName, targets);
+
+                if (COORDINATES_UPDATER.compareAndSet(this, current, updated)) {
+                    markModified();
+                    return old;
+                }
+            }
         }
 
         public Converter remove(String sourceName, String targetName) {
-            final Map<String, Converter> converterMap = coordinates.get(sourceName);
-            if (converterMap == null) {
-                return null;
-            }
+            for (; ; ) {
+                final Map<String, Map<String, Converter>> current = coordinates;
+                final Map<String, Converter> currentTargets = current.get(sourceName);
+                if (currentTargets == null || !currentTargets.containsKey(targetName)) {
+                    return null;
+                }
+
+                final Map<String, Map<String, Converter>> updated = new LinkedHashMap<>(current);
+                final Map<String, Converter> targets = mapSupplier.get();
+                targets.putAll(currentTargets);
+                final Converter removed = targets.remove(targetName);
+                if (targets.isEmpty()) {
+                    updated.remove(sourceName);
+                } else {
+                    updated.put(sourceName, targets);
+                }
 
-            return converterMap.remove(targetName);
+                if (COORDINATES_UPDATER.compareAndSet(this, current, updated)) {
+                    markModified();
+                    return removed;
+                }
+            }
         }
     }
 
     /**
      * 计算的定位器。
+     * <p>
+     * 在 {@link SimpleConverterUtil} 中，仅通过索引提示匹配的结果会以 {@code (source.getClass(), target)} 为键进行缓存；
+     * 当结果可能由某个 {@code checker} 决定时则不会缓存，每次都会根据 {@code source} 实例重新判断。
+     * <p>
+     * 注册时可以提供一个 {@link IndexHint 索引提示}，定位器会根据提示将条件分组，查询时只会对可能匹配的分组进行判断。
+     * 查询顺序为：
+     * <ol>
+     *     <li>提示了 source 类型的条件，按照 {@code source} 的继承结构由近及远；</li>
+     *     <li>提示了目标的 raw type 的条件；</li>
+     *     <li>提示了目标的 {@link TypeUtil.ContainerKind 容器类别} 的条件；</li>
+     *     <li>没有任何提示的条件。</li>
+     * </ol>
+     * 同一分组中的条件按照注册顺序进行判断。
      */
     public static class CalculationConverterLocator extends ConverterLocator {
-        private final Map<String, ConverterFactory> factories;
+        private static final AtomicReferenceFieldUpdater<CalculationConverterLocator, Registry> REGISTRY_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(CalculationConverterLocator.class, Registry.class, "registry");
 
+        /**
+         * 当前的注册信息快照。快照在发布后不会再被修改。
+         */
+        private volatile Registry registry;
+
+        /**
+         * 提供初始的注册信息。
+         *
+         * @param factories 初始的注册信息。会被复制为定位器的第一个快照，之后对此参数的修改不会影响定位器。
+         */
         public CalculationConverterLocator(Map<String, ConverterFactory> factories) {
-            this.factories = factories;
+            this.registry = new Registry(new LinkedHashMap<>(factories));
         }
 
         public CalculationConverterLocator() {
-            this(new LinkedHashMap<>());
+            this(Collections.emptyMap());
         }
 
         @Override
         public @Nullable Converter matchConverter(Object source, Type targetType) {
-            final Collection<ConverterFactory> values = factories.values();
-            for (ConverterFactory factory : values) {
-                if (factory.checker.test(source, targetType)) {
-                    return factory.converter;
+            final Registry registry = this.registry;
+            final Class<?> targetRawType = TypeUtil.rawClassOrNull(targetType);
+            final TypeUtil.ContainerKind targetKind = TypeUtil.ContainerKind.of(targetType);
+            Converter found;
+
+            if (!registry.bySourceType.isEmpty()) {
+                for (Class<?> sourceType : TypeHierarchy.of(source.getClass()).types) {
+                    found = match(registry.bySourceType.get(sourceType), source, targetType, targetRawType, targetKind);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+
+            if (targetRawType != null && !registry.byTargetRawType.isEmpty()) {
+                found = match(registry.byTargetRawType.get(targetRawType), source, targetType, targetRawType, targetKind);
+                if (found != null) {
+                    return found;
+                }
+            }
+
+            if (!registry.byTargetKind.isEmpty()) {
+                found = match(registry.byTargetKind.get(targetKind), source, targetType, targetRawType, targetKind);
+                if (found != null) {
+                    return found;
+                }
+            }
+
+            return match(registry.unhinted, source, targetType, targetRawType, targetKind);
+        }
+
+        /**
+         * 根据 source 的类型进行匹配。由于 {@code checker} 需要 source 实例，因此只会匹配没有提供 {@code checker}、
+         * 仅通过索引提示进行匹配的转化器。
+         *
+         * @param sourceType source 的类型
+         * @param targetType 目标类型
+         * @return 转化器或null
+         */
+        public @Nullable Converter matchConverter(Class<?> sourceType, Type targetType) {
+            final Registry registry = this.registry;
+            final Class<?> targetRawType = TypeUtil.rawClassOrNull(targetType);
+            final TypeUtil.ContainerKind targetKind = TypeUtil.ContainerKind.of(targetType);
+            Converter found;
+
+            if (!registry.bySourceType.isEmpty()) {
+                for (Class<?> type : TypeHierarchy.of(sourceType).types) {
+                    found = match(registry.bySourceType.get(type), sourceType, targetRawType, targetKind);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+
+            if (targetRawType != null) {
+                found = match(registry.byTargetRawType.get(targetRawType), sourceType, targetRawType, targetKind);
+                if (found != null) {
+                    return found;
+                }
+            }
+
+            return match(registry.byTargetKind.get(targetKind), sourceType, targetRawType, targetKind);
+        }
+
+        /**
+         * 判断对于 {@code sourceType} 类型的 source，匹配结果是否可能由某个 {@code checker} 根据 source 实例决定。
+         * 即按照查询顺序，在第一个仅通过索引提示即可匹配的转化器之前，是否存在索引提示匹配且提供了 {@code checker} 的条件。
+         *
+         * @param sourceType source 的类型
+         * @param targetType 目标类型
+         * @return 结果是否依赖于 source 实例
+         */
+        boolean isInstanceDependent(Class<?> sourceType, Type targetType) {
+            final Registry registry = this.registry;
+            final Class<?> targetRawType = TypeUtil.rawClassOrNull(targetType);
+            final TypeUtil.ContainerKind targetKind = TypeUtil.ContainerKind.of(targetType);
+            ConverterFactory found;
+
+            if (!registry.bySourceType.isEmpty()) {
+                for (Class<?> type : TypeHierarchy.of(sourceType).types) {
+                    found = firstHinted(registry.bySourceType.get(type), sourceType, targetRawType, targetKind);
+                    if (found != null) {
+                        return found.checker != null;
+                    }
+                }
+            }
+
+            if (targetRawType != null) {
+                found = firstHinted(registry.byTargetRawType.get(targetRawType), sourceType, targetRawType, targetKind);
+                if (found != null) {
+                    return found.checker != null;
+                }
+            }
+
+            found = firstHinted(registry.byTargetKind.get(targetKind), sourceType, targetRawType, targetKind);
+            if (found != null) {
+                return found.checker != null;
+            }
+
+            // 没有提示的条件均提供了 checker
+            return registry.unhinted.length > 0;
+        }
+
+        @Nullable
+        private static ConverterFactory firstHinted(@Nullable ConverterFactory[] factories, Class<?> sourceType,
+                                                    @Nullable Class<?> targetRawType, TypeUtil.ContainerKind targetKind) {
+            if (factories != null) {
+                for (ConverterFactory factory : factories) {
+                    if (factory.testHint(sourceType, targetRawType, targetKind)) {
+                        return factory;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        @Nullable
+        private static Converter match(@Nullable ConverterFactory[] factories, Class<?> sourceType,
+                                       @Nullable Class<?> targetRawType, TypeUtil.ContainerKind targetKind) {
+            if (factories != null) {
+                for (ConverterFactory factory : factories) {
+                    if (factory.test(sourceType, targetRawType, targetKind)) {
+                        return factory.converter;
+                    }
                 }
             }
 
             return null;
         }
 
+        @Nullable
+        private static Converter match(@Nullable ConverterFactory[] factories, Object source, Type targetType,
+                                       @Nullable Class<?> targetRawType, TypeUtil.ContainerKind targetKind) {
+            if (factories != null) {
+                for (ConverterFactory factory : factories) {
+                    if (factory.test(source, targetType, targetRawType, targetKind)) {
+                        return factory.converter;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * 注册一个没有索引提示的条件转化器。
+         *
+         * @param id        唯一ID
+         * @param converter 转化器
+         * @param checker   匹配条件
+         * @return 被替换的转化器或null
+         */
         public Converter set(String id, Converter converter, BiPredicate<Object, Type> checker) {
-            final ConverterFactory factory = new ConverterFactory(converter, checker);
-            final ConverterFactory foundFactory = factories.put(id, factory);
-            return foundFactory == null ? null : foundFactory.converter;
+            return set(id, converter, IndexHint.NONE, Objects.requireNonNull(checker));
+        }
+
+        /**
+         * 注册一个条件转化器，并提供其索引提示。
+         * 只有当提示中所有不为null的属性都满足后才会进一步判断 {@code checker}。
+         *
+         * @param id        唯一ID
+         * @param converter 转化器
+         * @param hint      索引提示
+         * @param checker   匹配条件。如果为null则代表仅根据提示进行匹配，此时提示不能为 {@link IndexHint#NONE}。
+         * @return 被替换的转化器或null
+         */
+        public Converter set(String id, Converter converter, IndexHint hint, @Nullable BiPredicate<Object, Type> checker) {
+            Objects.requireNonNull(hint);
+            if (checker == null && hint.isEmpty()) {
+                throw new IllegalArgumentException("The checker must not be null when the index hint is empty.");
+            }
+            final ConverterFactory factory = new ConverterFactory(Objects.requireNonNull(converter), hint, checker);
+            for (; ; ) {
+                final Registry current = registry;
+                final Map<String, ConverterFactory> updated = new LinkedHashMap<>(current.factories);
+                final ConverterFactory foundFactory = updated.put(id, factory);
+
+                if (REGISTRY_UPDATER.compareAndSet(this, current, new Registry(updated))) {
+                    markModified();
+                    return foundFactory == null ? null : foundFactory.converter;
+                }
+            }
         }
 
         public Converter remove(String id) {
-            final ConverterFactory removed = factories.remove(id);
-            return removed == null ? null : removed.converter;
+            for (; ; ) {
+                final Registry current = registry;
+                if (!current.factories.containsKey(id)) {
+                    return null;
+                }
+
+                final Map<String, ConverterFactory> updated = new LinkedHashMap<>(current.factories);
+                final ConverterFactory removed = updated.remove(id);
+
+                if (REGISTRY_UPDATER.compareAndSet(this, current, new Registry(updated))) {
+                    markModified();
+                    return removed.converter;
+                }
+            }
+        }
+
+        /**
+         * 条件转化器的索引提示。提示中的属性均可以为null，代表不限制。
+         */
+        public static final class IndexHint {
+            /**
+             * 没有任何提示。
+             */
+            public static final IndexHint NONE = new IndexHint(null, null, null);
+
+            private final Class<?> sourceType;
+            private final Class<?> targetRawType;
+            private final TypeUtil.ContainerKind targetKind;
+
+            private IndexHint(@Nullable Class<?> sourceType, @Nullable Class<?> targetRawType, @Nullable TypeUtil.ContainerKind targetKind) {
+                this.sourceType = sourceType;
+                this.targetRawType = targetRawType;
+                this.targetKind = targetKind;
+            }
+
+            /**
+             * 构建一个索引提示。
+             *
+             * @param sourceType    source 必须为此类型的实例。
+             * @param targetRawType 目标类型的 raw type 必须与之相同。
+             * @param targetKind    目标类型的容器类别必须与之相同。
+             * @return 索引提示
+             * @see TypeUtil#rawClassOrNull(Type)
+             * @see TypeUtil.ContainerKind#of(Type)
+             */
+            public static IndexHint of(@Nullable Class<?> sourceType, @Nullable Class<?> targetRawType, @Nullable TypeUtil.ContainerKind targetKind) {
+                if (sourceType == null && targetRawType == null && targetKind == null) {
+                    return NONE;
+                }
+                return new IndexHint(sourceType, targetRawType, targetKind);
+            }
+
+            /**
+             * 构建一个仅提示了 source 类型和目标容器类别的索引提示。
+             *
+             * @param sourceType source 必须为此类型的实例。
+             * @param targetKind 目标类型的容器类别必须与之相同。
+             * @return 索引提示
+             */
+            public static IndexHint of(@Nullable Class<?> sourceType, @Nullable TypeUtil.ContainerKind targetKind) {
+                return of(sourceType, null, targetKind);
+            }
+
+            @Nullable
+            public Class<?> getSourceType() {
+                return sourceType;
+            }
+
+            @Nullable
+            public Class<?> getTargetRawType() {
+                return targetRawType;
+            }
+
+            @Nullable
+            public TypeUtil.ContainerKind getTargetKind() {
+                return targetKind;
+            }
 
+            boolean isEmpty() {
+                return sourceType == null && targetRawType == null && targetKind == null;
+            }
         }
 
         private static class ConverterFactory {
             private final Converter converter;
+            private final IndexHint hint;
             private final BiPredicate<Object, Type> checker;
 
-            private ConverterFactory(Converter converter, BiPredicate<Object, Type> checker) {
+            private ConverterFactory(Converter converter, IndexHint hint, @Nullable BiPredicate<Object, Type> checker) {
                 this.converter = converter;
+                this.hint = hint;
                 this.checker = checker;
             }
+
+            private boolean test(Object source, Type targetType, @Nullable Class<?> targetRawType, TypeUtil.ContainerKind targetKind) {
+                if (hint.sourceType != null && !hint.sourceType.isInstance(source)) {
+                    return false;
+                }
+                if (hint.targetRawType != null && hint.targetRawType != targetRawType) {
+                    return false;
+                }
+                if (hint.targetKind != null && hint.targetKind != targetKind) {
+                    return false;
+                }
+
+                return checker == null || checker.test(source, targetType);
+            }
+
+            private boolean test(Class<?> sourceType, @Nullable Class<?> targetRawType, TypeUtil.ContainerKind targetKind) {
+                return checker == null && testHint(sourceType, targetRawType, targetKind);
+            }
+
+            private boolean testHint(Class<?> sourceType, @Nullable Class<?> targetRawType, TypeUtil.ContainerKind targetKind) {
+                if (hint.sourceType != null && !hint.sourceType.isAssignableFrom(sourceType)) {
+                    return false;
+                }
+                if (hint.targetRawType != null && hint.targetRawType != targetRawType) {
+                    return false;
+                }
+
+                return hint.targetKind == null || hint.targetKind == targetKind;
+            }
+        }
+
+        /**
+         * 条件定位器的注册信息快照，以及根据索引提示进行的分组。
+         * 每个条件只会出现在一个分组中，分组的优先级为：source 类型、目标 raw type、目标容器类别。
+         */
+        private static final class Registry {
+            private final Map<String, ConverterFactory> factories;
+            private final Map<Class<?>, ConverterFactory[]> bySourceType;
+            private final Map<Class<?>, ConverterFactory[]> byTargetRawType;
+            private final Map<TypeUtil.ContainerKind, ConverterFactory[]> byTargetKind;
+            private final ConverterFactory[] unhinted;
+
+            private Registry(Map<String, ConverterFactory> factories) {
+                final Map<Class<?>, List<ConverterFactory>> bySourceType = new HashMap<>();
+                final Map<Class<?>, List<ConverterFactory>> byTargetRawType = new HashMap<>();
+                final Map<TypeUtil.ContainerKind, List<ConverterFactory>> byTargetKind = new EnumMap<>(TypeUtil.ContainerKind.class);
+                final List<ConverterFactory> unhinted = new ArrayList<>();
+
+                for (ConverterFactory factory : factories.values()) {
+                    final IndexHint hint = factory.hint;
+                    if (hint.sourceType != null) {
+                        bySourceType.computeIfAbsent(hint.sourceType, k -> new ArrayList<>()).add(factory);
+                    } else if (hint.targetRawType != null) {
+                        byTargetRawType.computeIfAbsent(hint.targetRawType, k -> new ArrayList<>()).add(factory);
+                    } else if (hint.targetKind != null) {
+                        byTargetKind.computeIfAbsent(hint.targetKind, k -> new ArrayList<>()).add(factory);
+                    } else {
+                        unhinted.add(factory);
+                    }
+                }
+
+                this.factories = factories;
+                this.bySourceType = toArrays(bySourceType, new HashMap<>());
+                this.byTargetRawType = toArrays(byTargetRawType, new HashMap<>());
+                this.byTargetKind = toArrays(byTargetKind, new EnumMap<>(TypeUtil.ContainerKind.class));
+                this.unhinted = unhinted.toArray(new ConverterFactory[0]);
+            }
+
+            private static <K> Map<K, ConverterFactory[]> toArrays(Map<K, List<ConverterFactory>> lists, Map<K, ConverterFactory[]> target) {
+                lists.forEach((key, list) -> target.put(key, list.toArray(new ConverterFactory[0])));
+                return target;
+            }
+        }
+    }
+
+    /**
+     * 转化器的解析缓存。以 source 的类型作为第一层键，目标类型作为第二层键。
+     * <p>
+     * 缓存由实例自身持有，而不是通过 {@link ClassValue} 挂在 source 类型上：缓存的转化器可能引用当前实例，
+     * 挂在类型上会使实例在类型被卸载前始终可达。
+     * <p>
+     * 缓存记录了构建时各定位器的修改计数，当计数不一致时缓存即被视为失效。
+     */
+    private static final class ResolutionCache {
+        private final int precisionModCount;
+        private final int calculationModCount;
+        private final ConcurrentMap<Class<?>, ConcurrentMap<Type, Object>> resolved = new ConcurrentHashMap<>();
+
+        private ResolutionCache(int precisionModCount, int calculationModCount) {
+            this.precisionModCount = precisionModCount;
+            this.calculationModCount = calculationModCount;
+        }
+
+        private ConcurrentMap<Type, Object> get(Class<?> type) {
+            final ConcurrentMap<Type, Object> targets = resolved.get(type);
+            return targets != null ? targets : resolved.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
         }
     }
 
+    /**
+     * 一个类型的继承结构，按照查询转化器时的顺序排列。
+     *
+     * @see SimpleConverterUtil
+     */
+    private static final class TypeHierarchy {
+        private static final ClassValue<TypeHierarchy> HIERARCHIES = new ClassValue<TypeHierarchy>() {
+            @Override
+            protected TypeHierarchy computeValue(Class<?> type) {
+                return new TypeHierarchy(type);
+            }
+        };
+
+        private final Class<?>[] types;
+        private final String[] names;
+
+        private TypeHierarchy(Class<?> type) {
+            final Set<Class<?>> types = new LinkedHashSet<>();
+            final List<Class<?>> interfaceQueue = new ArrayList<>();
+
+            // 自身与父类
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                types.add(current);
+                Collections.addAll(interfaceQueue, current.getInterfaces());
+            }
+
+            // 接口，广度优先
+            for (int i = 0; i < interfaceQueue.size(); i++) {
+                final Class<?> anInterface = interfaceQueue.get(i);
+                if (types.add(anInterface)) {
+                    Collections.addAll(interfaceQueue, anInterface.getInterfaces());
+                }
+            }
+
+            types.add(Object.class);
+
+            this.types = types.toArray(new Class<?>[0]);
+            this.names = new String[this.types.length];
+            for (int i = 0; i < this.types.length; i++) {
+                this.names[i] = this.types[i].getName();
+            }
+        }
+
+        static TypeHierarchy of(Class<?> type) {
+            return HIERARCHIES.get(type);
+        }
+    }
 
 }
@@ -6,6 +6,9 @@ import java.lang.reflect.Type;
 
 /**
  * 以字符串作为源类型的转化器实现。
+ * <p>
+ * 除了 {@link String} 以外，也接受其他的 {@link CharSequence} 实现（例如 {@link StringBuilder}、{@link java.nio.CharBuffer}），
+ * 以及字符序列中的某一段范围。实现可以重写 {@link #convert(CharSequence, int, int, Type)} 来直接解析范围内的字符而避免构建子字符串。
  *
  * @author ForteScarlet
  * @see StringToNumberConverter
@@ -13,7 +16,7 @@ import java.lang.reflect.Type;
 public interface StringSourceConverter extends Converter {
 
     /**
-     * 提供一个转化目标和类型并尝试进行转化。{@code source} 必须为 {@link String 字符串} 类型，
+     * 提供一个转化目标和类型并尝试进行转化。{@code source} 必须为 {@link CharSequence 字符序列} 类型，
      * 否则将会抛出 {@link IllegalArgumentException} .
      *
      * @param source 预计被转化的目标对象
@@ -30,8 +33,38 @@ public interface StringSourceConverter extends Converter {
         if (source instanceof String) {
             return convert((String) source, target);
         }
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convert(charSequence, 0, charSequence.length(), target);
+        }
+
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source);
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为目标类型。
+     * <p>
+     * 默认实现会构建对应范围的子字符串并交由 {@link #convert(String, Type)} 处理，
+     * 实现可以重写此函数以直接解析范围内的字符。
+     *
+     * @param source 预计被转化的字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @param target 预计被转化为的目标类型。
+     * @param <T>    目标类型
+     * @return 转化结果
+     * @throws NullPointerException      当参数出现null时。
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     * @throws ConvertException          当出现无法进行类型转化的情况时。
+     * @throws IllegalArgumentException  当 {@code target} 为不支持的实现类型时。
+     * @throws ClassCastException        可能会由于种种原因而导致的类型转化异常。
+     */
+    default <T> T convert(@NotNull CharSequence source, int start, int end, @NotNull Type target) {
+        if (source instanceof String && start == 0 && end == source.length()) {
+            return convert((String) source, target);
+        }
 
-        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.String", source);
+        return convert(source.subSequence(start, end).toString(), target);
     }
 
     /**
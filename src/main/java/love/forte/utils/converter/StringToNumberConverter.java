@@ -1,6 +1,7 @@
 package love.forte.utils.converter;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -11,7 +12,7 @@ import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
- * 将字符串转化为数字的转化器。
+ * 将字符串（或其他字符序列）转化为数字的转化器。
  *
  *
  * @see ToByte
@@ -26,31 +27,111 @@ import java.util.concurrent.atomic.LongAdder;
  * @see ToAtomicLong
  * @see ToLongAdder
  * @see ToDoubleAdder
+ * @see ToIntConverter
+ * @see ToLongConverter
+ * @see ToDoubleConverter
  *
  * @author ForteScarlet
  */
 @SuppressWarnings("unused")
-public abstract class StringToNumberConverter<N extends Number> extends NumberConverter<N> implements StringSourceConverter {
+public abstract class StringToNumberConverter<N extends Number> extends NumberConverter<N> implements StringSourceConverter, BindableConverter {
+
+    @Override
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        if (source instanceof String) {
+            return convert((String) source, target);
+        }
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convert(charSequence, 0, charSequence.length(), target);
+        }
+
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source);
+    }
+
+    /**
+     * 尝试将字符序列转化为数字。内置的实现会直接判断内容的格式，因此格式错误时不会在内部构建异常。
+     *
+     * @see #tryConvertNumber(CharSequence, int, int)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> ConvertResult<T> tryConvert(@NotNull Object source, @NotNull Type target) {
+        if (!(source instanceof CharSequence)) {
+            return ConvertResult.failure(source, target, "The type of 'source' must be java.lang.CharSequence");
+        }
+        if (!isExpectedTarget(target)) {
+            return ConvertResult.failure(source, target, "Unsupported target type");
+        }
+
+        final CharSequence charSequence = (CharSequence) source;
+        final N number = tryConvertNumber(charSequence, 0, charSequence.length());
+        return number == null
+                ? ConvertResult.failure(source, target, "Illegal number format")
+                : ConvertResult.success((T) number);
+    }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T convert(@NotNull String source, @NotNull Type target) {
-        final Class<N> expected = getExpected();
-        if (expected.equals(target)) {
-            final Object converted = convertNumber(source);
-            return ((Class<T>) target).cast(converted);
+        if (isExpectedTarget(target)) {
+            return (T) convertNumber(source);
+        }
+
+        throw ConverterExceptionUtil.targetIllegalArgument("java.lang.Class<? extends Number>", target);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T convert(@NotNull CharSequence source, int start, int end, @NotNull Type target) {
+        if (isExpectedTarget(target)) {
+            return (T) convertNumber(source, start, end);
         }
 
         throw ConverterExceptionUtil.targetIllegalArgument("java.lang.Class<? extends Number>", target);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S, T> BoundConverter<S, T> bind(@NotNull Class<S> sourceType, @NotNull Type target) {
+        if (!CharSequence.class.isAssignableFrom(sourceType)) {
+            throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", sourceType.toString());
+        }
+        if (!isExpectedTarget(target)) {
+            throw ConverterExceptionUtil.targetIllegalArgument(getExpected().toString(), target.toString());
+        }
+
+        if (String.class.equals(sourceType)) {
+            return (BoundConverter<S, T>) bindNumber();
+        }
+
+        final BoundConverter<CharSequence, N> bound = source -> convertNumber(source, 0, source.length());
+        return (BoundConverter<S, T>) bound;
+    }
+
+    /**
+     * 得到一个直接调用 {@link #convertNumber(String)} 的转化句柄。
+     * <p>
+     * 内置的实现会各自重写此函数，使得每个句柄的调用点都只对应一个具体的实现类型。
+     *
+     * @return 转化句柄
+     * @see #bind(Class, Type)
+     */
+    protected BoundConverter<String, N> bindNumber() {
+        return this::convertNumber;
+    }
+
     @Override
     public N convertNumber(@NotNull Object source) {
         if (source instanceof String) {
             return convertNumber((String) source);
         }
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convertNumber(charSequence, 0, charSequence.length());
+        }
 
-        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.String", source);
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source);
     }
 
     /**
@@ -61,14 +142,57 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
      */
     public abstract N convertNumber(@NotNull String source);
 
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为一个目标数字类型。
+     * <p>
+     * 默认实现会构建对应范围的子字符串，整数类型的内置实现会直接解析范围内的字符。
+     *
+     * @param source 目标字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 转化后的数字类型。
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     */
+    public N convertNumber(@NotNull CharSequence source, int start, int end) {
+        return convertNumber(source.subSequence(start, end).toString());
+    }
+
+
+    /**
+     * 尝试将字符序列中 {@code [start, end)} 范围内的内容转化为一个目标数字类型。
+     * <p>
+     * 默认实现会捕获 {@link #convertNumber(CharSequence, int, int)} 抛出的 {@link NumberFormatException}，
+     * 除 {@link ToBigDecimal} 与 {@link ToBigInteger} 外的内置实现会直接判断内容的格式，不会在内部构建异常。
+     *
+     * @param source 目标字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 转化后的数字类型，或当内容格式错误、超出范围时得到 {@code null}。
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     */
+    @Nullable
+    public N tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+        try {
+            return convertNumber(source, start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
 
     //region 基础实现
 
     private static abstract class BaseStringToNumberConverter<N extends Number> extends StringToNumberConverter<N> {
         private final Class<N> expected;
+        private final Class<?> expectedPrimitive;
 
-        BaseStringToNumberConverter(Class<N> expected) {
+        BaseStringToNumberConverter(Class<N> expected, @Nullable Class<?> expectedPrimitive) {
             this.expected = expected;
+            this.expectedPrimitive = expectedPrimitive;
+        }
+
+        BaseStringToNumberConverter(Class<N> expected) {
+            this(expected, null);
         }
 
         @NotNull
@@ -76,6 +200,14 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
         public Class<N> getExpected() {
             return expected;
         }
+
+        /**
+         * 除了数字类型本身外，也接受其对应的基础数据类型。
+         */
+        @Override
+        protected boolean isExpectedTarget(@NotNull Type target) {
+            return expected == target || (expectedPrimitive != null && expectedPrimitive == target);
+        }
     }
 
     /**
@@ -85,13 +217,28 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
         public static final ToByte INSTANCE = new ToByte();
 
         private ToByte() {
-            super(Byte.class);
+            super(Byte.class, byte.class);
         }
 
 
         @Override
         public Byte convertNumber(@NotNull String source) {
-            return Byte.parseByte(source);
+            return NumberParser.parseByte(source, 0, source.length());
+        }
+
+        @Override
+        public Byte convertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.parseByte(source, start, end);
+        }
+
+        @Override
+        public Byte tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.tryParseByte(source, start, end);
+        }
+
+        @Override
+        protected BoundConverter<String, Byte> bindNumber() {
+            return this::convertNumber;
         }
     }
 
@@ -102,64 +249,154 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
         public static final ToShort INSTANCE = new ToShort();
 
         private ToShort() {
-            super(Short.class);
+            super(Short.class, short.class);
         }
 
 
         @Override
         public Short convertNumber(@NotNull String source) {
-            return Short.parseShort(source);
+            return NumberParser.parseShort(source, 0, source.length());
+        }
+
+        @Override
+        public Short convertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.parseShort(source, start, end);
+        }
+
+        @Override
+        public Short tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.tryParseShort(source, start, end);
+        }
+
+        @Override
+        protected BoundConverter<String, Short> bindNumber() {
+            return this::convertNumber;
         }
     }
 
     /**
      * {@link String} -> {@link Integer}
      */
-    public static final class ToInt extends BaseStringToNumberConverter<Integer> {
+    public static final class ToInt extends BaseStringToNumberConverter<Integer> implements ToIntConverter {
         public static final ToInt INSTANCE = new ToInt();
 
         private ToInt() {
-            super(Integer.class);
+            super(Integer.class, int.class);
         }
 
 
         @Override
         public Integer convertNumber(@NotNull String source) {
-            return Integer.parseInt(source);
+            return convertToInt(source);
+        }
+
+        @Override
+        public Integer convertNumber(@NotNull CharSequence source, int start, int end) {
+            return convertToInt(source, start, end);
+        }
+
+        @Override
+        public int convertToInt(@NotNull CharSequence source) {
+            return NumberParser.parseInt(source, 0, source.length());
+        }
+
+        @Override
+        public int convertToInt(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.parseInt(source, start, end);
+        }
+
+        @Override
+        public Integer tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.tryParseInt(source, start, end);
+        }
+
+        @Override
+        protected BoundConverter<String, Integer> bindNumber() {
+            return this::convertNumber;
         }
     }
 
     /**
      * {@link String} -> {@link Long}
      */
-    public static final class ToLong extends BaseStringToNumberConverter<Long> {
+    public static final class ToLong extends BaseStringToNumberConverter<Long> implements ToLongConverter {
         public static final ToLong INSTANCE = new ToLong();
 
         private ToLong() {
-            super(Long.class);
+            super(Long.class, long.class);
         }
 
 
         @Override
         public Long convertNumber(@NotNull String source) {
-            return Long.parseLong(source);
+            return convertToLong(source);
+        }
+
+        @Override
+        public Long convertNumber(@NotNull CharSequence source, int start, int end) {
+            return convertToLong(source, start, end);
+        }
+
+        @Override
+        public long convertToLong(@NotNull CharSequence source) {
+            return NumberParser.parseLong(source, 0, source.length());
+        }
+
+        @Override
+        public long convertToLong(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.parseLong(source, start, end);
+        }
+
+        @Override
+        public Long tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.tryParseLong(source, start, end);
+        }
+
+        @Override
+        protected BoundConverter<String, Long> bindNumber() {
+            return this::convertNumber;
         }
     }
 
     /**
      * {@link String} -> {@link Double}
      */
-    public static final class ToDouble extends BaseStringToNumberConverter<Double> {
+    public static final class ToDouble extends BaseStringToNumberConverter<Double> implements ToDoubleConverter {
         public static final ToDouble INSTANCE = new ToDouble();
 
         private ToDouble() {
-            super(Double.class);
+            super(Double.class, double.class);
         }
 
 
         @Override
         public Double convertNumber(@NotNull String source) {
-            return Double.parseDouble(source);
+            return convertToDouble(source);
+        }
+
+        @Override
+        public Double convertNumber(@NotNull CharSequence source, int start, int end) {
+            return convertToDouble(source, start, end);
+        }
+
+        @Override
+        public double convertToDouble(@NotNull CharSequence source) {
+            return NumberParser.parseDouble(source, 0, source.length());
+        }
+
+        @Override
+        public double convertToDouble(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.parseDouble(source, start, end);
+        }
+
+        @Override
+        public Double tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.tryParseDouble(source, start, end);
+        }
+
+        @Override
+        protected BoundConverter<String, Double> bindNumber() {
+            return this::convertNumber;
         }
     }
 
@@ -170,13 +407,53 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
         public static final ToFloat INSTANCE = new ToFloat();
 
         private ToFloat() {
-            super(Float.class);
+            super(Float.class, float.class);
         }
 
 
         @Override
         public Float convertNumber(@NotNull String source) {
-            return Float.parseFloat(source);
+            return convertToFloat(source);
+        }
+
+        @Override
+        public Float convertNumber(@NotNull CharSequence source, int start, int end) {
+            return convertToFloat(source, start, end);
+        }
+
+        /**
+         * 将字符序列转化为 {@code float}，结果与 {@link Float#parseFloat(String)} 一致。
+         *
+         * @param source 目标字符序列
+         * @return 转化结果
+         * @throws NumberFormatException 当 {@code source} 无法被转化为 {@code float} 时。
+         */
+        public float convertToFloat(@NotNull CharSequence source) {
+            return NumberParser.parseFloat(source, 0, source.length());
+        }
+
+        /**
+         * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@code float}。
+         *
+         * @param source 目标字符序列
+         * @param start  起始索引（包含）
+         * @param end    结束索引（不包含）
+         * @return 转化结果
+         * @throws NumberFormatException     当范围内的内容无法被转化为 {@code float} 时。
+         * @throws IndexOutOfBoundsException 当范围不合法时。
+         */
+        public float convertToFloat(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.parseFloat(source, start, end);
+        }
+
+        @Override
+        public Float tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            return NumberParser.tryParseFloat(source, start, end);
+        }
+
+        @Override
+        protected BoundConverter<String, Float> bindNumber() {
+            return this::convertNumber;
         }
     }
 
@@ -196,6 +473,11 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
         public BigDecimal convertNumber(@NotNull String source) {
             return new BigDecimal(source);
         }
+
+        @Override
+        protected BoundConverter<String, BigDecimal> bindNumber() {
+            return this::convertNumber;
+        }
     }
 
 
@@ -214,6 +496,11 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
         public BigInteger convertNumber(@NotNull String source) {
             return new BigInteger(source);
         }
+
+        @Override
+        protected BoundConverter<String, BigInteger> bindNumber() {
+            return this::convertNumber;
+        }
     }
 
 
@@ -230,7 +517,23 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
 
         @Override
         public AtomicInteger convertNumber(@NotNull String source) {
-            return new AtomicInteger(Integer.parseInt(source));
+            return new AtomicInteger(NumberParser.parseInt(source, 0, source.length()));
+        }
+
+        @Override
+        public AtomicInteger convertNumber(@NotNull CharSequence source, int start, int end) {
+            return new AtomicInteger(NumberParser.parseInt(source, start, end));
+        }
+
+        @Override
+        public AtomicInteger tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            final Integer value = NumberParser.tryParseInt(source, start, end);
+            return value == null ? null : new AtomicInteger(value);
+        }
+
+        @Override
+        protected BoundConverter<String, AtomicInteger> bindNumber() {
+            return this::convertNumber;
         }
     }
 
@@ -248,7 +551,23 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
 
         @Override
         public AtomicLong convertNumber(@NotNull String source) {
-            return new AtomicLong(Long.parseLong(source));
+            return new AtomicLong(NumberParser.parseLong(source, 0, source.length()));
+        }
+
+        @Override
+        public AtomicLong convertNumber(@NotNull CharSequence source, int start, int end) {
+            return new AtomicLong(NumberParser.parseLong(source, start, end));
+        }
+
+        @Override
+        public AtomicLong tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            final Long value = NumberParser.tryParseLong(source, start, end);
+            return value == null ? null : new AtomicLong(value);
+        }
+
+        @Override
+        protected BoundConverter<String, AtomicLong> bindNumber() {
+            return this::convertNumber;
         }
     }
 
@@ -265,11 +584,30 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
 
         @Override
         public LongAdder convertNumber(@NotNull String source) {
-            final long initial = Long.parseLong(source);
+            return toAdder(NumberParser.parseLong(source, 0, source.length()));
+        }
+
+        @Override
+        public LongAdder convertNumber(@NotNull CharSequence source, int start, int end) {
+            return toAdder(NumberParser.parseLong(source, start, end));
+        }
+
+        @Override
+        public LongAdder tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            final Long value = NumberParser.tryParseLong(source, start, end);
+            return value == null ? null : toAdder(value);
+        }
+
+        private static LongAdder toAdder(long initial) {
             final LongAdder adder = new LongAdder();
             adder.add(initial);
             return adder;
         }
+
+        @Override
+        protected BoundConverter<String, LongAdder> bindNumber() {
+            return this::convertNumber;
+        }
     }
 
     /**
@@ -285,11 +623,30 @@ public abstract class StringToNumberConverter<N extends Number> extends NumberCo
 
         @Override
         public DoubleAdder convertNumber(@NotNull String source) {
-            final double initial = Double.parseDouble(source);
+            return toAdder(NumberParser.parseDouble(source, 0, source.length()));
+        }
+
+        @Override
+        public DoubleAdder convertNumber(@NotNull CharSequence source, int start, int end) {
+            return toAdder(NumberParser.parseDouble(source, start, end));
+        }
+
+        @Override
+        public DoubleAdder tryConvertNumber(@NotNull CharSequence source, int start, int end) {
+            final Double value = NumberParser.tryParseDouble(source, start, end);
+            return value == null ? null : toAdder(value);
+        }
+
+        private static DoubleAdder toAdder(double initial) {
             final DoubleAdder adder = new DoubleAdder();
             adder.add(initial);
             return adder;
         }
+
+        @Override
+        protected BoundConverter<String, DoubleAdder> bindNumber() {
+            return this::convertNumber;
+        }
     }
 
 
@@ -0,0 +1,41 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 将字符序列转化为基础数据类型 {@code double} 的转化器，转化过程中不会产生装箱。
+ * <p>
+ * 内置的实现可以通过 {@link ConverterUtil#bindDouble(Class)} 得到。
+ *
+ * @author ForteScarlet
+ * @see StringToNumberConverter.ToDouble
+ */
+@FunctionalInterface
+public interface ToDoubleConverter {
+
+    /**
+     * 将字符序列转化为 {@code double}。
+     *
+     * @param source 目标字符序列
+     * @return 转化结果
+     * @throws NumberFormatException 当 {@code source} 无法被转化为 {@code double} 时。
+     */
+    double convertToDouble(@NotNull CharSequence source);
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@code double}。
+     * <p>
+     * 默认实现会构建对应范围的子序列，内置实现会直接解析范围内的字符。
+     *
+     * @param source 目标字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 转化结果
+     * @throws NumberFormatException     当范围内的内容无法被转化为 {@code double} 时。
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     */
+    default double convertToDouble(@NotNull CharSequence source, int start, int end) {
+        return convertToDouble(source.subSequence(start, end));
+    }
+
+}
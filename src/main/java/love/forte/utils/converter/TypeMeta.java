@@ -0,0 +1,258 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 一个 {@link Class} 在转化过程中常用的类型信息。
+ * <p>
+ * 每个类型的信息只会在第一次使用时通过 {@link ClassValue} 计算一次，
+ * 转化器应当通过 {@link #of(Class)} 得到这些信息，而不是在每次转化时重新判断。
+ *
+ * @author ForteScarlet
+ */
+public final class TypeMeta {
+    private static final ClassValue<TypeMeta> META = new ClassValue<TypeMeta>() {
+        @Override
+        protected TypeMeta computeValue(Class<?> type) {
+            return new TypeMeta(type);
+        }
+    };
+
+    private static final MethodType NO_ARG_CONSTRUCTOR_TYPE = MethodType.methodType(void.class);
+    private static final MethodType NO_ARG_FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType CAPACITY_CONSTRUCTOR_TYPE = MethodType.methodType(void.class, int.class);
+    private static final MethodType CAPACITY_FACTORY_TYPE = MethodType.methodType(Object.class, int.class);
+
+    private final Class<?> type;
+    @Nullable
+    private final TypeUtil.PrimitiveType primitiveType;
+    @Nullable
+    private final Class<?> componentType;
+    private final TypeUtil.ContainerKind containerKind;
+    private final boolean number;
+    @Nullable
+    private final StringToNumberConverter<?> numberConverter;
+    @Nullable
+    private final MethodHandle noArgConstructor;
+    @Nullable
+    private final MethodHandle capacityConstructor;
+
+    private TypeMeta(Class<?> type) {
+        this.type = type;
+        this.primitiveType = findPrimitiveType(type);
+        this.componentType = type.getComponentType();
+        this.containerKind = componentType != null ? TypeUtil.ContainerKind.ARRAY
+                : Collection.class.isAssignableFrom(type) ? TypeUtil.ContainerKind.COLLECTION
+                : Map.class.isAssignableFrom(type) ? TypeUtil.ContainerKind.MAP
+                : TypeUtil.ContainerKind.NONE;
+        this.number = Number.class.isAssignableFrom(getBoxedType());
+        this.numberConverter = findNumberConverter(primitiveType);
+        this.noArgConstructor = findNoArgConstructor(type);
+        this.capacityConstructor = containerKind == TypeUtil.ContainerKind.COLLECTION || containerKind == TypeUtil.ContainerKind.MAP
+                ? findConstructor(type, CAPACITY_CONSTRUCTOR_TYPE, CAPACITY_FACTORY_TYPE) : null;
+    }
+
+    /**
+     * 得到类型信息。
+     *
+     * @param type 类型
+     * @return 类型信息
+     */
+    @NotNull
+    public static TypeMeta of(@NotNull Class<?> type) {
+        return META.get(type);
+    }
+
+    @Nullable
+    private static TypeUtil.PrimitiveType findPrimitiveType(Class<?> type) {
+        for (TypeUtil.PrimitiveType value : TypeUtil.PrimitiveType.values()) {
+            if (value.getType() == type || value.getPrimitiveType() == type) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static StringToNumberConverter<?> findNumberConverter(@Nullable TypeUtil.PrimitiveType primitiveType) {
+        if (primitiveType == null) {
+            return null;
+        }
+        switch (primitiveType) {
+            case BYTE:
+                return StringToNumberConverter.ToByte.INSTANCE;
+            case SHORT:
+                return StringToNumberConverter.ToShort.INSTANCE;
+            case INT:
+                return StringToNumberConverter.ToInt.INSTANCE;
+            case LONG:
+                return StringToNumberConverter.ToLong.INSTANCE;
+            case DOUBLE:
+                return StringToNumberConverter.ToDouble.INSTANCE;
+            case FLOAT:
+                return StringToNumberConverter.ToFloat.INSTANCE;
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle findNoArgConstructor(Class<?> type) {
+        return findConstructor(type, NO_ARG_CONSTRUCTOR_TYPE, NO_ARG_FACTORY_TYPE);
+    }
+
+    @Nullable
+    private static MethodHandle findConstructor(Class<?> type, MethodType constructorType, MethodType factoryType) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, constructorType).asType(factoryType);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 得到对应的类型。
+     *
+     * @return 类型
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 当类型为基础数据类型或其封装类型时，得到对应的 {@link TypeUtil.PrimitiveType}。
+     *
+     * @return 基础数据类型，或 {@code null}
+     */
+    @Nullable
+    public TypeUtil.PrimitiveType getPrimitiveType() {
+        return primitiveType;
+    }
+
+    /**
+     * 得到封装类型。不是基础数据类型时为其自身。
+     *
+     * @return 封装类型
+     */
+    public Class<?> getBoxedType() {
+        return primitiveType != null ? primitiveType.getType() : type;
+    }
+
+    /**
+     * 得到数组的元素类型。
+     *
+     * @return 元素类型，不是数组时为 {@code null}
+     */
+    @Nullable
+    public Class<?> getComponentType() {
+        return componentType;
+    }
+
+    /**
+     * 得到容器类别。
+     *
+     * @return 容器类别
+     * @see TypeUtil.ContainerKind#of(java.lang.reflect.Type)
+     */
+    public TypeUtil.ContainerKind getContainerKind() {
+        return containerKind;
+    }
+
+    /**
+     * 是否为 {@link Number} 类型（包括数字的基础数据类型）。
+     *
+     * @return 是否为数字类型
+     */
+    public boolean isNumber() {
+        return number;
+    }
+
+    /**
+     * 得到字符串元素默认使用的数字转化器，即 {@code byte}、{@code short}、{@code int}、{@code long}、{@code float}、{@code double}
+     * 及其封装类型所对应的 {@link StringToNumberConverter}。
+     *
+     * @return 数字转化器，或 {@code null}
+     */
+    @Nullable
+    public StringToNumberConverter<?> getNumberConverter() {
+        return numberConverter;
+    }
+
+    /**
+     * 是否存在可以访问的公开无参构造。
+     *
+     * @return 是否可以通过 {@link #newInstance()} 实例化
+     */
+    public boolean hasNoArgConstructor() {
+        return noArgConstructor != null;
+    }
+
+    /**
+     * 通过公开的无参构造构建一个实例。
+     *
+     * @return 实例
+     * @throws ConvertException 不存在可以访问的无参构造，或构造时出现异常
+     */
+    public Object newInstance() {
+        if (noArgConstructor == null) {
+            throw new ConvertException("No accessible no-arg constructor in " + type);
+        }
+
+        try {
+            return (Object) noArgConstructor.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ConvertException("Cannot to create instance for " + type + ": " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * 集合或 Map 类型是否存在可以访问的公开 {@code (int)} 构造。非集合或 Map 类型始终为 {@code false}。
+     * <p>
+     * 此处只检查构造的签名：参数是否为初始容量（而不是例如 {@link java.util.concurrent.LinkedBlockingQueue} 的容量上限）需要由调用者判断。
+     *
+     * @return 是否可以通过 {@link #newInstance(int)} 实例化
+     */
+    public boolean hasCapacityConstructor() {
+        return capacityConstructor != null;
+    }
+
+    /**
+     * 通过集合或 Map 类型公开的 {@code (int)} 构造构建一个实例。
+     *
+     * @param capacity 传递给构造的初始容量
+     * @return 实例
+     * @throws ConvertException 不存在可以访问的 {@code (int)} 构造，或构造时出现异常
+     */
+    public Object newInstance(int capacity) {
+        if (capacityConstructor == null) {
+            throw new ConvertException("No accessible capacity constructor in " + type);
+        }
+
+        try {
+            return (Object) capacityConstructor.invokeExact(capacity);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ConvertException("Cannot to create instance for " + type + ": " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TypeMeta(" + type.getName() + ")";
+    }
+}
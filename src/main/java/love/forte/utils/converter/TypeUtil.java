@@ -3,7 +3,9 @@ package love.forte.utils.converter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
 
@@ -125,14 +127,16 @@ public final class TypeUtil {
             this.primitiveType = primitiveType;
         }
 
+        /**
+         * 得到基础数据类型或其封装类型所对应的枚举。
+         *
+         * @param type type
+         * @return 枚举，或 {@code null}
+         * @see TypeMeta#getPrimitiveType()
+         */
         @Nullable
         public static PrimitiveType findByType(Type type) {
-            for (PrimitiveType value : values()) {
-                if (value.type.equals(type) || value.primitiveType.equals(type)) {
-                    return value;
-                }
-            }
-            return null;
+            return type instanceof Class ? TypeMeta.of((Class<?>) type).getPrimitiveType() : null;
         }
 
 
@@ -149,6 +153,87 @@ public final class TypeUtil {
     }
 
 
+    /**
+     * 得到一个 {@link Type} 所对应的 {@link Class} 类型。
+     * <ul>
+     *     <li>{@link Class}: 其自身</li>
+     *     <li>{@link ParameterizedType}: 其 {@link ParameterizedType#getRawType() raw type}</li>
+     *     <li>{@link GenericArrayType}: 元素类型所对应的数组类型</li>
+     * </ul>
+     * 其他情况下返回null。
+     *
+     * @param type type
+     * @return class or null
+     */
+    @Nullable
+    public static Class<?> rawClassOrNull(@NotNull Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            final Type rawType = ((ParameterizedType) type).getRawType();
+            return rawType instanceof Class ? (Class<?>) rawType : null;
+        }
+        if (type instanceof GenericArrayType) {
+            final Class<?> componentClass = rawClassOrNull(((GenericArrayType) type).getGenericComponentType());
+            return componentClass == null ? null : Array.newInstance(componentClass, 0).getClass();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * 类型作为元素容器时的类别。
+     */
+    public enum ContainerKind {
+        /**
+         * 数组类型，包括 {@link GenericArrayType}。
+         */
+        ARRAY,
+        /**
+         * {@link Collection} 及其子类型。
+         */
+        COLLECTION,
+        /**
+         * {@link Map} 及其子类型。
+         */
+        MAP,
+        /**
+         * 不是元素容器。
+         */
+        NONE;
+
+        /**
+         * 判断一个类型的容器类别。{@link ParameterizedType} 以其 raw type 为准。
+         *
+         * @param type type
+         * @return container kind
+         */
+        @NotNull
+        public static ContainerKind of(@NotNull Type type) {
+            if (type instanceof GenericArrayType) {
+                return ARRAY;
+            }
+
+            final Class<?> rawClass = rawClassOrNull(type);
+            return rawClass == null ? NONE : TypeMeta.of(rawClass).getContainerKind();
+        }
+    }
+
+
+    /**
+     * 得到 {@link ParameterizedType} 的泛型参数的数量。
+     * <p>
+     * 与 {@code type.getActualTypeArguments().length} 相同，但对于 {@link GenericReferenceType} 不会复制泛型参数数组。
+     *
+     * @param type 类型
+     * @return 泛型参数的数量
+     */
+    public static int actualTypeArgumentCount(@NotNull ParameterizedType type) {
+        return GenericReferenceType.actualTypeArguments(type).length;
+    }
+
     //region collections
 
     /**
@@ -259,13 +344,14 @@ public final class TypeUtil {
 
     /**
      * 提供一个数组的泛型类型，得到对应的 {@link GenericArrayType} 实例。
+     * 对于相同的元素类型总是得到同一个实例。
      *
      * @param componentType 数组元素类型
      * @return {@link GenericArrayType}
      */
     public static GenericArrayType array(@NotNull Type componentType) {
         Objects.requireNonNull(componentType);
-        return new GenericArrayTypeImpl(componentType);
+        return GenericArrayTypeImpl.of(componentType);
     }
     //endregion
 
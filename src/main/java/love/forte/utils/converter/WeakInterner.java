@@ -0,0 +1,53 @@
+package love.forte.utils.converter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 通过弱引用记录规范化实例的容器。
+ * <p>
+ * 容器中的键与值均为弱引用，因此不会阻止实例被回收，也不会因为实例所引用的 {@link Class} 而导致其类加载器无法被卸载。
+ * 实例被回收后，之后再次规范化时会得到一个新的实例。
+ * <p>
+ * 此类是线程安全的。
+ *
+ * @param <T> 实例类型，需要根据结构实现 {@code equals} 与 {@code hashCode}
+ * @author ForteScarlet
+ */
+final class WeakInterner<T> {
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * 查询与 {@code key} 相等的规范化实例。
+     *
+     * @param key 用于查询的实例，不会被记录
+     * @return 规范化实例，不存在时为null
+     */
+    @Nullable
+    synchronized T get(@NotNull T key) {
+        final WeakReference<T> reference = instances.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * 得到与 {@code instance} 相等的规范化实例，不存在时记录并返回 {@code instance}。
+     *
+     * @param instance 实例
+     * @return 规范化实例
+     */
+    @NotNull
+    synchronized T intern(@NotNull T instance) {
+        final WeakReference<T> reference = instances.get(instance);
+        final T existing = reference == null ? null : reference.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        instances.put(instance, new WeakReference<>(instance));
+        return instance;
+    }
+}
@@ -0,0 +1,89 @@
+package love.forte.utils.converter.bytes;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 将 {@link ByteBuffer} 中的一段字节按单字节字符（{@code byte & 0xFF}）视为 {@link CharSequence}，
+ * 以便直接复用基于 {@link CharSequence} 范围的解析逻辑，而不需要对字节进行解码。
+ * <p>
+ * 只有在内容全部为 ASCII 时，{@link #charAt(int)} 的结果才与解码后的字符一致。
+ * {@link #toString()} 会将对应范围按 UTF-8 解码，因此异常信息等场景中得到的内容与解码后的字符串一致。
+ * <p>
+ * 使用绝对位置读取，不会修改 {@link ByteBuffer} 的 position 等状态。
+ *
+ * @author ForteScarlet
+ */
+@ApiStatus.Internal
+public final class AsciiByteSequence implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    /**
+     * @param buffer 字节缓冲区
+     * @param offset 在缓冲区中的绝对起始位置
+     * @param length 长度
+     */
+    public AsciiByteSequence(@NotNull ByteBuffer buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > buffer.capacity() - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") out of bounds for capacity " + buffer.capacity());
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @NotNull
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+        }
+        return new AsciiByteSequence(buffer, offset + start, end - start);
+    }
+
+    /**
+     * 以小端序读取从 {@code index} 开始的 8 个字节，即 {@code index} 处的字节位于最低位。
+     */
+    public long getLongLittleEndian(int index) {
+        final long word = buffer.getLong(offset + index);
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? word : Long.reverseBytes(word);
+    }
+
+    /**
+     * 判断 {@code [start, end)} 范围内的内容是否全部为 ASCII。
+     */
+    public boolean isAscii(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(offset + i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package love.forte.utils.converter.bytes;
+
+import love.forte.utils.converter.NumberParser;
+import love.forte.utils.converter.StringToNumberConverter;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 直接从字节中解析数字。
+ * <p>
+ * 解析通过 {@link AsciiByteSequence} 复用 {@link StringToNumberConverter} 系列的范围解析，
+ * 当内容全部为 ASCII 时不会构建任何字符串。
+ * 非 ASCII 的字节不可能被识别为数字，因此包含非 ASCII 内容的范围必然解析失败，
+ * 此时会将其按 UTF-8 解码后再交由字符串的解析重新处理，以保证异常与解析解码后的字符串时一致。
+ * <p>
+ * {@code tryParseXxx} 系列函数在格式错误时得到 {@code null}，不会在内部构建异常。
+ *
+ * @author ForteScarlet
+ */
+@ApiStatus.Internal
+public final class ByteNumberParser {
+    private ByteNumberParser() {
+    }
+
+    public static int parseInt(@NotNull AsciiByteSequence source, int start, int end) {
+        try {
+            return StringToNumberConverter.ToInt.INSTANCE.convertToInt(source, start, end);
+        } catch (NumberFormatException e) {
+            if (source.isAscii(start, end)) {
+                throw e;
+            }
+            return StringToNumberConverter.ToInt.INSTANCE.convertToInt(source.subSequence(start, end).toString());
+        }
+    }
+
+    public static long parseLong(@NotNull AsciiByteSequence source, int start, int end) {
+        try {
+            return StringToNumberConverter.ToLong.INSTANCE.convertToLong(source, start, end);
+        } catch (NumberFormatException e) {
+            if (source.isAscii(start, end)) {
+                throw e;
+            }
+            return StringToNumberConverter.ToLong.INSTANCE.convertToLong(source.subSequence(start, end).toString());
+        }
+    }
+
+    public static double parseDouble(@NotNull AsciiByteSequence source, int start, int end) {
+        try {
+            return StringToNumberConverter.ToDouble.INSTANCE.convertToDouble(source, start, end);
+        } catch (NumberFormatException e) {
+            if (source.isAscii(start, end)) {
+                throw e;
+            }
+            return StringToNumberConverter.ToDouble.INSTANCE.convertToDouble(source.subSequence(start, end).toString());
+        }
+    }
+
+    @Nullable
+    public static Integer tryParseInt(@NotNull AsciiByteSequence source, int start, int end) {
+        final Integer value = NumberParser.tryParseInt(source, start, end);
+        if (value != null || source.isAscii(start, end)) {
+            return value;
+        }
+        final String decoded = source.subSequence(start, end).toString();
+        return NumberParser.tryParseInt(decoded, 0, decoded.length());
+    }
+
+    @Nullable
+    public static Long tryParseLong(@NotNull AsciiByteSequence source, int start, int end) {
+        final Long value = NumberParser.tryParseLong(source, start, end);
+        if (value != null || source.isAscii(start, end)) {
+            return value;
+        }
+        final String decoded = source.subSequence(start, end).toString();
+        return NumberParser.tryParseLong(decoded, 0, decoded.length());
+    }
+
+    @Nullable
+    public static Double tryParseDouble(@NotNull AsciiByteSequence source, int start, int end) {
+        final Double value = NumberParser.tryParseDouble(source, start, end);
+        if (value != null || source.isAscii(start, end)) {
+            return value;
+        }
+        final String decoded = source.subSequence(start, end).toString();
+        return NumberParser.tryParseDouble(decoded, 0, decoded.length());
+    }
+}
@@ -0,0 +1,309 @@
+package love.forte.utils.converter.bytes;
+
+import love.forte.utils.converter.ConvertResult;
+import love.forte.utils.converter.ConverterExceptionUtil;
+import love.forte.utils.converter.NumberConverter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * 将 {@code byte[]} 或 {@link ByteBuffer} 中的 ASCII（或 UTF-8）数字内容直接转化为数字的转化器。
+ * <p>
+ * 解析直接读取字节，不会对内容进行解码，也不会构建字符串。
+ * 解析结果、溢出以及异常均与使用 {@link Integer#parseInt(String)}、{@link Long#parseLong(String)}、
+ * {@link Double#parseDouble(String)} 解析按 UTF-8 解码后的字符串时一致。
+ * <p>
+ * 同时支持堆内与直接内存的 {@link ByteBuffer}。作为转化来源时，{@link ByteBuffer} 中 {@code [position, limit)} 范围内的内容会被解析，
+ * 解析不会修改 {@link ByteBuffer} 的 position 等状态。
+ *
+ * @author ForteScarlet
+ * @see ToInt
+ * @see ToLong
+ * @see ToDouble
+ */
+public abstract class BytesToNumberConverter<N extends Number> extends NumberConverter<N> {
+    private final Class<N> expected;
+    private final Class<?> expectedPrimitive;
+
+    BytesToNumberConverter(Class<N> expected, Class<?> expectedPrimitive) {
+        this.expected = expected;
+        this.expectedPrimitive = expectedPrimitive;
+    }
+
+    @NotNull
+    @Override
+    public Class<N> getExpected() {
+        return expected;
+    }
+
+    /**
+     * 除了数字类型本身外，也接受其对应的基础数据类型。
+     */
+    @Override
+    protected boolean isExpectedTarget(@NotNull Type target) {
+        return expected == target || expectedPrimitive == target;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        if (isExpectedTarget(target)) {
+            return (T) convertNumber(source);
+        }
+
+        throw ConverterExceptionUtil.targetIllegalArgument(getExpected().toString(), target.toString());
+    }
+
+    /**
+     * 尝试将 {@code byte[]} 或 {@link ByteBuffer} 转化为数字，格式错误时不会在内部构建异常。
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> ConvertResult<T> tryConvert(@NotNull Object source, @NotNull Type target) {
+        final AsciiByteSequence sequence;
+        if (source instanceof byte[]) {
+            final byte[] bytes = (byte[]) source;
+            sequence = sequence(bytes, 0, bytes.length);
+        } else if (source instanceof ByteBuffer) {
+            final ByteBuffer buffer = (ByteBuffer) source;
+            sequence = sequence(buffer, buffer.position(), buffer.remaining());
+        } else {
+            return ConvertResult.failure(source, target, "The type of 'source' must be byte[] or java.nio.ByteBuffer");
+        }
+        if (!isExpectedTarget(target)) {
+            return ConvertResult.failure(source, target, "Unsupported target type");
+        }
+
+        final N number = tryConvertNumber(sequence);
+        return number == null
+                ? ConvertResult.failure(source, target, "Illegal number format")
+                : ConvertResult.success((T) number);
+    }
+
+    @Override
+    public N convertNumber(@NotNull Object source) {
+        if (source instanceof byte[]) {
+            final byte[] bytes = (byte[]) source;
+            return convertNumber(bytes, 0, bytes.length);
+        }
+        if (source instanceof ByteBuffer) {
+            final ByteBuffer buffer = (ByteBuffer) source;
+            return convertNumber(buffer, buffer.position(), buffer.remaining());
+        }
+
+        throw ConverterExceptionUtil.sourceIllegalArgument("byte[] or java.nio.ByteBuffer", source);
+    }
+
+    /**
+     * 将字节数组中 {@code [offset, offset + length)} 范围内的内容转化为一个目标数字类型。
+     *
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 转化后的数字类型。
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     * @throws NumberFormatException     当内容不是合法的数字时。
+     */
+    public N convertNumber(@NotNull byte[] bytes, int offset, int length) {
+        return convertNumber(sequence(bytes, offset, length));
+    }
+
+    /**
+     * 将 {@link ByteBuffer} 中绝对位置 {@code [offset, offset + length)} 范围内的内容转化为一个目标数字类型。
+     *
+     * @param buffer 字节缓冲区
+     * @param offset 绝对起始位置
+     * @param length 长度
+     * @return 转化后的数字类型。
+     * @throws IndexOutOfBoundsException 当范围超出 {@code [0, limit)} 时。
+     * @throws NumberFormatException     当内容不是合法的数字时。
+     */
+    public N convertNumber(@NotNull ByteBuffer buffer, int offset, int length) {
+        return convertNumber(sequence(buffer, offset, length));
+    }
+
+    abstract N convertNumber(AsciiByteSequence sequence);
+
+    @Nullable
+    abstract N tryConvertNumber(AsciiByteSequence sequence);
+
+    static AsciiByteSequence sequence(byte[] bytes, int offset, int length) {
+        checkRange(offset, length, bytes.length);
+        return new AsciiByteSequence(ByteBuffer.wrap(bytes), offset, length);
+    }
+
+    static AsciiByteSequence sequence(ByteBuffer buffer, int offset, int length) {
+        checkRange(offset, length, buffer.limit());
+        return new AsciiByteSequence(buffer, offset, length);
+    }
+
+    private static void checkRange(int offset, int length, int limit) {
+        if (offset < 0 || length < 0 || offset > limit - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + limit);
+        }
+    }
+
+
+    //region 基础实现
+
+    /**
+     * {@code byte[]}、{@link ByteBuffer} -> {@link Integer}
+     */
+    public static final class ToInt extends BytesToNumberConverter<Integer> {
+        public static final ToInt INSTANCE = new ToInt();
+
+        private ToInt() {
+            super(Integer.class, int.class);
+        }
+
+        @Override
+        Integer convertNumber(AsciiByteSequence sequence) {
+            return ByteNumberParser.parseInt(sequence, 0, sequence.length());
+        }
+
+        @Override
+        Integer tryConvertNumber(AsciiByteSequence sequence) {
+            return ByteNumberParser.tryParseInt(sequence, 0, sequence.length());
+        }
+
+        /**
+         * 将字节数组中 {@code [offset, offset + length)} 范围内的内容转化为 {@code int}，不会进行装箱。
+         *
+         * @param bytes  字节数组
+         * @param offset 起始位置
+         * @param length 长度
+         * @return 转化结果
+         * @throws IndexOutOfBoundsException 当范围不合法时。
+         * @throws NumberFormatException     当内容不是合法的数字时。
+         * @see #convertNumber(byte[], int, int)
+         */
+        public int convertToInt(@NotNull byte[] bytes, int offset, int length) {
+            return ByteNumberParser.parseInt(sequence(bytes, offset, length), 0, length);
+        }
+
+        /**
+         * 将 {@link ByteBuffer} 中绝对位置 {@code [offset, offset + length)} 范围内的内容转化为 {@code int}，不会进行装箱，
+         * 也不会修改 {@link ByteBuffer} 的 position 等状态。
+         *
+         * @param buffer 字节缓冲区
+         * @param offset 绝对起始位置
+         * @param length 长度
+         * @return 转化结果
+         * @throws IndexOutOfBoundsException 当范围超出 {@code [0, limit)} 时。
+         * @throws NumberFormatException     当内容不是合法的数字时。
+         * @see #convertNumber(ByteBuffer, int, int)
+         */
+        public int convertToInt(@NotNull ByteBuffer buffer, int offset, int length) {
+            return ByteNumberParser.parseInt(sequence(buffer, offset, length), 0, length);
+        }
+    }
+
+    /**
+     * {@code byte[]}、{@link ByteBuffer} -> {@link Long}
+     */
+    public static final class ToLong extends BytesToNumberConverter<Long> {
+        public static final ToLong INSTANCE = new ToLong();
+
+        private ToLong() {
+            super(Long.class, long.class);
+        }
+
+        @Override
+        Long convertNumber(AsciiByteSequence sequence) {
+            return ByteNumberParser.parseLong(sequence, 0, sequence.length());
+        }
+
+        @Override
+        Long tryConvertNumber(AsciiByteSequence sequence) {
+            return ByteNumberParser.tryParseLong(sequence, 0, sequence.length());
+        }
+
+        /**
+         * 将字节数组中 {@code [offset, offset + length)} 范围内的内容转化为 {@code long}，不会进行装箱。
+         *
+         * @param bytes  字节数组
+         * @param offset 起始位置
+         * @param length 长度
+         * @return 转化结果
+         * @throws IndexOutOfBoundsException 当范围不合法时。
+         * @throws NumberFormatException     当内容不是合法的数字时。
+         * @see #convertNumber(byte[], int, int)
+         */
+        public long convertToLong(@NotNull byte[] bytes, int offset, int length) {
+            return ByteNumberParser.parseLong(sequence(bytes, offset, length), 0, length);
+        }
+
+        /**
+         * 将 {@link ByteBuffer} 中绝对位置 {@code [offset, offset + length)} 范围内的内容转化为 {@code long}，不会进行装箱，
+         * 也不会修改 {@link ByteBuffer} 的 position 等状态。
+         *
+         * @param buffer 字节缓冲区
+         * @param offset 绝对起始位置
+         * @param length 长度
+         * @return 转化结果
+         * @throws IndexOutOfBoundsException 当范围超出 {@code [0, limit)} 时。
+         * @throws NumberFormatException     当内容不是合法的数字时。
+         * @see #convertNumber(ByteBuffer, int, int)
+         */
+        public long convertToLong(@NotNull ByteBuffer buffer, int offset, int length) {
+            return ByteNumberParser.parseLong(sequence(buffer, offset, length), 0, length);
+        }
+    }
+
+    /**
+     * {@code byte[]}、{@link ByteBuffer} -> {@link Double}
+     */
+    public static final class ToDouble extends BytesToNumberConverter<Double> {
+        public static final ToDouble INSTANCE = new ToDouble();
+
+        private ToDouble() {
+            super(Double.class, double.class);
+        }
+
+        @Override
+        Double convertNumber(AsciiByteSequence sequence) {
+            return ByteNumberParser.parseDouble(sequence, 0, sequence.length());
+        }
+
+        @Override
+        Double tryConvertNumber(AsciiByteSequence sequence) {
+            return ByteNumberParser.tryParseDouble(sequence, 0, sequence.length());
+        }
+
+        /**
+         * 将字节数组中 {@code [offset, offset + length)} 范围内的内容转化为 {@code double}，不会进行装箱。
+         *
+         * @param bytes  字节数组
+         * @param offset 起始位置
+         * @param length 长度
+         * @return 转化结果
+         * @throws IndexOutOfBoundsException 当范围不合法时。
+         * @throws NumberFormatException     当内容不是合法的数字时。
+         * @see #convertNumber(byte[], int, int)
+         */
+        public double convertToDouble(@NotNull byte[] bytes, int offset, int length) {
+            return ByteNumberParser.parseDouble(sequence(bytes, offset, length), 0, length);
+        }
+
+        /**
+         * 将 {@link ByteBuffer} 中绝对位置 {@code [offset, offset + length)} 范围内的内容转化为 {@code double}，不会进行装箱，
+         * 也不会修改 {@link ByteBuffer} 的 position 等状态。
+         *
+         * @param buffer 字节缓冲区
+         * @param offset 绝对起始位置
+         * @param length 长度
+         * @return 转化结果
+         * @throws IndexOutOfBoundsException 当范围超出 {@code [0, limit)} 时。
+         * @throws NumberFormatException     当内容不是合法的数字时。
+         * @see #convertNumber(ByteBuffer, int, int)
+         */
+        public double convertToDouble(@NotNull ByteBuffer buffer, int offset, int length) {
+            return ByteNumberParser.parseDouble(sequence(buffer, offset, length), 0, length);
+        }
+    }
+
+    //endregion
+}
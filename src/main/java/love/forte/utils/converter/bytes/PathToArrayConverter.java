@@ -0,0 +1,317 @@
+package love.forte.utils.converter.bytes;
+
+import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.Converter;
+import love.forte.utils.converter.ConverterExceptionUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 将文件中的数字内容转化为 {@code int[]}、{@code long[]} 或 {@code double[]} 的转化器。
+ * <p>
+ * 来源可以是 {@link Path}、{@link File} 或 {@link FileChannel}。文件会通过 {@link MappedByteBuffer} 分段映射，
+ * 并直接在映射的字节上解析 ASCII 数字，不会将内容解码为字符或字符串。
+ * 元素的解析复用 {@link love.forte.utils.converter.StringToNumberConverter} 系列，
+ * 因此对于每一个元素，解析结果与异常均与解析对应的字符串时一致。
+ * <p>
+ * 元素之间使用 {@code ','} 或换行分隔，元素两侧的空格、制表符与 {@code '\r'} 会被忽略，
+ * 空的元素（例如空行或末尾的分隔符）会被跳过。
+ * <p>
+ * 当来源为 {@link FileChannel} 时，会从其起始位置读取到结尾，且不会关闭它，也不会修改其 position。
+ *
+ * @author ForteScarlet
+ */
+public class PathToArrayConverter implements Converter {
+    public static final PathToArrayConverter INSTANCE = new PathToArrayConverter();
+
+    /**
+     * 默认的单次映射大小。
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+
+    private final int windowSize;
+
+    /**
+     * @param windowSize 单次映射的最大字节数，同时也是单个元素的最大长度
+     */
+    public PathToArrayConverter(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive, but " + windowSize);
+        }
+        this.windowSize = windowSize;
+    }
+
+    public PathToArrayConverter() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * 将文件中的内容转化为数组。
+     *
+     * @param source {@link Path}、{@link File} 或 {@link FileChannel}
+     * @param target {@code int[]}、{@code long[]} 或 {@code double[]}
+     * @return 数组结果
+     * @throws ConvertException 读取出现异常时
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        Type targetType = target;
+        if (targetType instanceof ParameterizedType) {
+            targetType = ((ParameterizedType) targetType).getRawType();
+        }
+
+        final Sink sink = Sink.of(targetType);
+        if (sink == null) {
+            throw ConverterExceptionUtil.targetIllegalArgument("int[], long[] or double[]", target.toString());
+        }
+
+        if (source instanceof FileChannel) {
+            read((FileChannel) source, sink);
+            return (T) sink.toArray();
+        }
+
+        final Path path;
+        if (source instanceof Path) {
+            path = (Path) source;
+        } else if (source instanceof File) {
+            path = ((File) source).toPath();
+        } else {
+            throw ConverterExceptionUtil.sourceIllegalArgument("java.nio.file.Path, java.io.File or java.nio.channels.FileChannel", source);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            read(channel, sink);
+        } catch (IOException e) {
+            throw new ConvertException("Read source failed: " + e.getLocalizedMessage(), e);
+        }
+        return (T) sink.toArray();
+    }
+
+    public int[] convertToIntArray(@NotNull FileChannel channel) {
+        final IntSink sink = new IntSink();
+        read(channel, sink);
+        return sink.toArray();
+    }
+
+    public long[] convertToLongArray(@NotNull FileChannel channel) {
+        final LongSink sink = new LongSink();
+        read(channel, sink);
+        return sink.toArray();
+    }
+
+    public double[] convertToDoubleArray(@NotNull FileChannel channel) {
+        final DoubleSink sink = new DoubleSink();
+        read(channel, sink);
+        return sink.toArray();
+    }
+
+    private void read(FileChannel channel, Sink sink) {
+        try {
+            final long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                final int mappedSize = (int) Math.min(windowSize, size - position);
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+                final boolean last = position + mappedSize == size;
+                position += readWindow(new AsciiByteSequence(buffer, 0, mappedSize), last, position, sink);
+            }
+        } catch (IOException e) {
+            throw new ConvertException("Read source failed: " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * 解析一个映射区间。非最后一个区间时只解析到最后一个分隔符，剩余的内容留给下一个区间。
+     *
+     * @return 已消费的字节数
+     */
+    private static int readWindow(AsciiByteSequence window, boolean last, long position, Sink sink) {
+        int limit = window.length();
+        if (!last) {
+            limit = lastDelimiter(window) + 1;
+            if (limit == 0) {
+                throw new ConvertException("Element at position " + position + " exceeds the window size " + window.length());
+            }
+        }
+
+        int tokenStart = 0;
+        for (int i = 0; i < limit; i++) {
+            if (isDelimiter(window.charAt(i))) {
+                accept(window, tokenStart, i, sink);
+                tokenStart = i + 1;
+            }
+        }
+        if (tokenStart < limit) {
+            accept(window, tokenStart, limit, sink);
+        }
+        return limit;
+    }
+
+    private static void accept(AsciiByteSequence window, int start, int end, Sink sink) {
+        while (start < end && isBlank(window.charAt(start))) {
+            start++;
+        }
+        while (end > start && isBlank(window.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end) {
+            sink.accept(window, start, end);
+        }
+    }
+
+    private static int lastDelimiter(AsciiByteSequence window) {
+        for (int i = window.length() - 1; i >= 0; i--) {
+            if (isDelimiter(window.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == ',' || c == '\n';
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+
+    /**
+     * 将元素直接解析并写入分块的数组。块的大小从 {@link #INITIAL_CAPACITY} 开始倍增，达到 {@link #MAX_CHUNK} 后保持不变，
+     * 写满的块不会再被复制，直到 {@link #toArray()} 时一次性拼接为结果数组。
+     */
+    private static abstract class Sink {
+        static final int INITIAL_CAPACITY = 1024;
+        static final int MAX_CHUNK = 1 << 20;
+        private final List<Object> fullChunks = new ArrayList<>();
+        private int fullSize;
+        int index;
+
+        @Nullable
+        static Sink of(Type target) {
+            if (target == int[].class) {
+                return new IntSink();
+            }
+            if (target == long[].class) {
+                return new LongSink();
+            }
+            if (target == double[].class) {
+                return new DoubleSink();
+            }
+            return null;
+        }
+
+        /**
+         * 保存已写满的当前块，并得到下一个块的大小。
+         */
+        final int nextChunk(Object chunk, int capacity) {
+            fullChunks.add(chunk);
+            fullSize += capacity;
+            return Math.min(capacity << 1, MAX_CHUNK);
+        }
+
+        /**
+         * 将所有块拼接到 {@code result} 中。{@code result} 的长度应为 {@link #size()}。
+         */
+        final <A> A concat(A current, A result) {
+            int position = 0;
+            for (Object chunk : fullChunks) {
+                final int length = Array.getLength(chunk);
+                System.arraycopy(chunk, 0, result, position, length);
+                position += length;
+            }
+            System.arraycopy(current, 0, result, position, index);
+            return result;
+        }
+
+        final int size() {
+            return fullSize + index;
+        }
+
+        final boolean isSingleChunk() {
+            return fullChunks.isEmpty();
+        }
+
+        abstract void accept(AsciiByteSequence source, int start, int end);
+
+        abstract Object toArray();
+    }
+
+    private static final class IntSink extends Sink {
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        @Override
+        void accept(AsciiByteSequence source, int start, int end) {
+            if (index == values.length) {
+                values = new int[nextChunk(values, values.length)];
+                index = 0;
+            }
+            values[index++] = ByteNumberParser.parseInt(source, start, end);
+        }
+
+        @Override
+        int[] toArray() {
+            if (isSingleChunk()) {
+                return index == values.length ? values : Arrays.copyOf(values, index);
+            }
+            return concat(values, new int[size()]);
+        }
+    }
+
+    private static final class LongSink extends Sink {
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        @Override
+        void accept(AsciiByteSequence source, int start, int end) {
+            if (index == values.length) {
+                values = new long[nextChunk(values, values.length)];
+                index = 0;
+            }
+            values[index++] = ByteNumberParser.parseLong(source, start, end);
+        }
+
+        @Override
+        long[] toArray() {
+            if (isSingleChunk()) {
+                return index == values.length ? values : Arrays.copyOf(values, index);
+            }
+            return concat(values, new long[size()]);
+        }
+    }
+
+    private static final class DoubleSink extends Sink {
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        @Override
+        void accept(AsciiByteSequence source, int start, int end) {
+            if (index == values.length) {
+                values = new double[nextChunk(values, values.length)];
+                index = 0;
+            }
+            values[index++] = ByteNumberParser.parseDouble(source, start, end);
+        }
+
+        @Override
+        double[] toArray() {
+            if (isSingleChunk()) {
+                return index == values.length ? values : Arrays.copyOf(values, index);
+            }
+            return concat(values, new double[size()]);
+        }
+    }
+}
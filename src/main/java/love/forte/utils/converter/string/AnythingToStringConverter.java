@@ -1,13 +1,14 @@
 package love.forte.utils.converter.string;
 
-import love.forte.utils.converter.Converter;
+import love.forte.utils.converter.BindableConverter;
+import love.forte.utils.converter.BoundConverter;
 import love.forte.utils.converter.ConverterExceptionUtil;
+import love.forte.utils.converter.TypeUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
 import java.util.StringJoiner;
 
 /**
@@ -16,7 +17,7 @@ import java.util.StringJoiner;
  *
  * @author ForteScarlet
  */
-public class AnythingToStringConverter implements Converter {
+public class AnythingToStringConverter implements BindableConverter {
     public static final AnythingToStringConverter INSTANCE = new AnythingToStringConverter();
     private AnythingToStringConverter(){}
 
@@ -29,9 +30,8 @@ public class AnythingToStringConverter implements Converter {
 
         if (target instanceof ParameterizedType) {
             final ParameterizedType parameterizedTarget = (ParameterizedType) target;
-            final Type[] actualTypeArguments = parameterizedTarget.getActualTypeArguments();
-            if (actualTypeArguments.length <= 0) {
-                throw ConverterExceptionUtil.targetIllegalArgument("'Actual type arguments in 'target'", "empty", Arrays.toString(actualTypeArguments));
+            if (TypeUtil.actualTypeArgumentCount(parameterizedTarget) <= 0) {
+                throw ConverterExceptionUtil.targetIllegalArgument("'Actual type arguments in 'target'", "empty", "[]");
             }
 
             final Type rawType = parameterizedTarget.getRawType();
@@ -47,6 +47,18 @@ public class AnythingToStringConverter implements Converter {
     }
 
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S, T> BoundConverter<S, T> bind(@NotNull Class<S> sourceType, @NotNull Type target) {
+        if (!String.class.equals(target)) {
+            throw ConverterExceptionUtil.targetIllegalArgument("java.lang.String", target.toString());
+        }
+
+        final BoundConverter<Object, String> bound = this::convertToString;
+        return (BoundConverter<S, T>) bound;
+    }
+
+
     public String convertToString(Object source) {
         if (source == null) {
             return "null";
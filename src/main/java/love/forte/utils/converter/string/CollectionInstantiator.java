@@ -0,0 +1,246 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.ConverterExceptionUtil;
+import love.forte.utils.converter.DoubleList;
+import love.forte.utils.converter.IntList;
+import love.forte.utils.converter.LongList;
+import love.forte.utils.converter.TypeMeta;
+import love.forte.utils.converter.TypeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractQueue;
+import java.util.AbstractSequentialList;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * 集合类型的实例化策略。每个集合类型的策略只会在第一次使用时确定一次。
+ * <p>
+ * 常见的集合类型会直接构建（并尽可能根据元素数量预先分配容量），例如：
+ * <ul>
+ *     <li>{@link List}、{@link Collection}、{@link ArrayList}：{@link ArrayList}</li>
+ *     <li>{@link Set}、{@link HashSet}、{@link LinkedHashSet}：对应的实现，容量足以容纳所有元素而不需要重新哈希</li>
+ *     <li>{@link SortedSet}、{@link NavigableSet}、{@link TreeSet}：{@link TreeSet}</li>
+ *     <li>{@link Queue}、{@link Deque}、{@link ArrayDeque}：{@link ArrayDeque}</li>
+ *     <li>{@link EnumSet}：通过元素类型构建的 {@link EnumSet}</li>
+ *     <li>{@link IntList}、{@link LongList}、{@link DoubleList}：元素类型需要为对应的数字类型或 {@code null}</li>
+ *     <li>{@link CopyOnWriteArrayList}：元素全部添加后一次性构建</li>
+ *     <li>{@link Collections} 中 {@code unmodifiableXxx} 与 {@code emptyXxx} 的类型：元素全部添加后通过对应的 {@code unmodifiableXxx} 包装</li>
+ * </ul>
+ * 其他类型中，{@link ArrayList}、{@link ArrayDeque}、{@link Vector} 与 {@link HashSet} 的子类型如果存在公开的 {@code (int)} 构造，
+ * 则以预期的元素数量（{@link HashSet} 的子类型为足以容纳所有元素的容量）作为参数实例化；其余类型的 {@code (int)} 参数不一定是初始容量
+ * （例如 {@link java.util.concurrent.LinkedBlockingQueue} 的容量上限），因此统一通过缓存的公开无参构造句柄实例化。{@code List.of(..)} 等结果的实现类型不会被特殊处理，需要不可变的结果时应使用公开的接口类型。
+ *
+ * @author ForteScarlet
+ * @see TypeMeta#newInstance()
+ * @see TypeMeta#newInstance(int)
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class CollectionInstantiator {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final Map<Class<?>, CollectionInstantiator> KNOWN = new HashMap<>();
+
+    static {
+        final CollectionInstantiator arrayList = sized((size, elementType) -> size < 0 ? new ArrayList<>() : new ArrayList<>(size));
+        for (Class<?> type : new Class<?>[]{List.class, Collection.class, AbstractList.class, AbstractCollection.class, ArrayList.class}) {
+            KNOWN.put(type, arrayList);
+        }
+        final CollectionInstantiator hashSet = sized((size, elementType) -> size < 0 ? new HashSet<>() : new HashSet<>(hashCapacity(size)));
+        for (Class<?> type : new Class<?>[]{Set.class, AbstractSet.class, HashSet.class}) {
+            KNOWN.put(type, hashSet);
+        }
+        KNOWN.put(LinkedHashSet.class, sized((size, elementType) -> size < 0 ? new LinkedHashSet<>() : new LinkedHashSet<>(hashCapacity(size))));
+        final CollectionInstantiator treeSet = unsized((size, elementType) -> new TreeSet<>());
+        for (Class<?> type : new Class<?>[]{SortedSet.class, NavigableSet.class, TreeSet.class}) {
+            KNOWN.put(type, treeSet);
+        }
+        final CollectionInstantiator arrayDeque = sized((size, elementType) -> size < 0 ? new ArrayDeque<>() : new ArrayDeque<>(size));
+        for (Class<?> type : new Class<?>[]{Queue.class, Deque.class, ArrayDeque.class}) {
+            KNOWN.put(type, arrayDeque);
+        }
+        final CollectionInstantiator linkedList = unsized((size, elementType) -> new LinkedList<>());
+        KNOWN.put(LinkedList.class, linkedList);
+        KNOWN.put(AbstractSequentialList.class, linkedList);
+        KNOWN.put(Vector.class, sized((size, elementType) -> size < 0 ? new Vector<>() : new Vector<>(size)));
+        final CollectionInstantiator priorityQueue = sized((size, elementType) -> size < 1 ? new PriorityQueue<>() : new PriorityQueue<>(size));
+        KNOWN.put(PriorityQueue.class, priorityQueue);
+        KNOWN.put(AbstractQueue.class, priorityQueue);
+        KNOWN.put(EnumSet.class, unsized(CollectionInstantiator::newEnumSet));
+        KNOWN.put(IntList.class, sized((size, elementType) -> {
+            checkElementType(IntList.class, TypeUtil.PrimitiveType.INT, elementType);
+            return (Collection) (size < 0 ? new IntList() : new IntList(size));
+        }));
+        KNOWN.put(LongList.class, sized((size, elementType) -> {
+            checkElementType(LongList.class, TypeUtil.PrimitiveType.LONG, elementType);
+            return (Collection) (size < 0 ? new LongList() : new LongList(size));
+        }));
+        KNOWN.put(DoubleList.class, sized((size, elementType) -> {
+            checkElementType(DoubleList.class, TypeUtil.PrimitiveType.DOUBLE, elementType);
+            return (Collection) (size < 0 ? new DoubleList() : new DoubleList(size));
+        }));
+        KNOWN.put(CopyOnWriteArrayList.class, new CollectionInstantiator(true, arrayList.creator, CopyOnWriteArrayList::new));
+
+        final CollectionInstantiator unmodifiableList = new CollectionInstantiator(true, arrayList.creator,
+                collection -> Collections.unmodifiableList((List<Object>) collection));
+        KNOWN.put(Collections.unmodifiableList(new ArrayList<>()).getClass(), unmodifiableList);
+        KNOWN.put(Collections.unmodifiableList(new LinkedList<>()).getClass(), unmodifiableList);
+        KNOWN.put(Collections.emptyList().getClass(), unmodifiableList);
+        final CollectionInstantiator linkedHashSet = KNOWN.get(LinkedHashSet.class);
+        final CollectionInstantiator unmodifiableSet = new CollectionInstantiator(true, linkedHashSet.creator,
+                collection -> Collections.unmodifiableSet((Set<Object>) collection));
+        KNOWN.put(Collections.unmodifiableSet(new HashSet<>()).getClass(), unmodifiableSet);
+        KNOWN.put(Collections.emptySet().getClass(), unmodifiableSet);
+        KNOWN.put(Collections.unmodifiableCollection(new ArrayList<>()).getClass(), new CollectionInstantiator(true, arrayList.creator,
+                Collections::unmodifiableCollection));
+    }
+
+    private static final ClassValue<CollectionInstantiator> INSTANTIATORS = new ClassValue<CollectionInstantiator>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected CollectionInstantiator computeValue(Class<?> type) {
+            final CollectionInstantiator known = KNOWN.get(type);
+            if (known != null) {
+                return known;
+            }
+
+            final TypeMeta meta = TypeMeta.of(type);
+            final IntUnaryOperator capacity = initialCapacity(type);
+            if (capacity != null && meta.hasCapacityConstructor()) {
+                final boolean noArg = meta.hasNoArgConstructor();
+                return sized((size, elementType) -> (Collection<Object>) (size >= 0 ? meta.newInstance(capacity.applyAsInt(size))
+                        : noArg ? meta.newInstance() : meta.newInstance(0)));
+            }
+            if (meta.hasNoArgConstructor()) {
+                return unsized((size, elementType) -> (Collection<Object>) meta.newInstance());
+            }
+            return unsized((size, elementType) -> {
+                throw new ConvertException("Cannot to create instance for collection type " + type + ": no accessible no-arg or capacity constructor");
+            });
+        }
+    };
+
+    private final boolean sizeAware;
+    private final Creator creator;
+    @Nullable
+    private final UnaryOperator<Collection<Object>> finisher;
+
+    private CollectionInstantiator(boolean sizeAware, Creator creator, @Nullable UnaryOperator<Collection<Object>> finisher) {
+        this.sizeAware = sizeAware;
+        this.creator = creator;
+        this.finisher = finisher;
+    }
+
+    private static CollectionInstantiator sized(Creator creator) {
+        return new CollectionInstantiator(true, creator, null);
+    }
+
+    private static CollectionInstantiator unsized(Creator creator) {
+        return new CollectionInstantiator(false, creator, null);
+    }
+
+    /**
+     * 得到集合类型的实例化策略。
+     *
+     * @param collectionType 集合类型
+     * @return 实例化策略
+     */
+    static CollectionInstantiator of(@NotNull Class<?> collectionType) {
+        return INSTANTIATORS.get(collectionType);
+    }
+
+    /**
+     * 是否会使用预期的元素数量。为 {@code false} 时调用者不需要预先计算元素数量。
+     */
+    boolean isSizeAware() {
+        return sizeAware;
+    }
+
+    /**
+     * 构建一个用于添加元素的集合。
+     *
+     * @param expectedSize 预期的元素数量，未知时为 {@code -1}
+     * @param elementType  元素类型，未知时为 {@code null}
+     * @return 集合
+     * @throws ConvertException 无法实例化时
+     */
+    Collection<Object> newCollection(int expectedSize, @Nullable Class<?> elementType) {
+        return creator.create(expectedSize, elementType);
+    }
+
+    /**
+     * 在元素全部添加后得到最终的结果。
+     *
+     * @param collection 通过 {@link #newCollection(int, Class)} 构建并添加了元素的集合
+     * @return 结果
+     */
+    Collection<?> finish(Collection<Object> collection) {
+        return finisher == null ? collection : finisher.apply(collection);
+    }
+
+    /**
+     * 足以容纳 {@code size} 个元素而不需要重新哈希的初始容量。
+     */
+    private static int hashCapacity(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (size / LOAD_FACTOR) + 1);
+    }
+
+    /**
+     * 已知 {@code (int)} 构造参数为初始容量的类型，由预期的元素数量得到该参数的方式；其他类型为 {@code null}。
+     */
+    @Nullable
+    private static IntUnaryOperator initialCapacity(Class<?> type) {
+        if (HashSet.class.isAssignableFrom(type)) {
+            return CollectionInstantiator::hashCapacity;
+        }
+        if (ArrayList.class.isAssignableFrom(type) || ArrayDeque.class.isAssignableFrom(type) || Vector.class.isAssignableFrom(type)) {
+            return IntUnaryOperator.identity();
+        }
+        return null;
+    }
+
+    private static void checkElementType(Class<?> listType, TypeUtil.PrimitiveType primitiveType, @Nullable Class<?> elementType) {
+        if (elementType != null && TypeMeta.of(elementType).getPrimitiveType() != primitiveType) {
+            throw ConverterExceptionUtil.targetIllegalArgument("'Element type' of " + listType.getName(),
+                    primitiveType.getPrimitiveType().getName() + " or " + primitiveType.getType().getName(), elementType);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Collection<Object> newEnumSet(int expectedSize, @Nullable Class<?> elementType) {
+        if (elementType == null || !elementType.isEnum()) {
+            throw new ConvertException("Element type of java.util.EnumSet must be an enum type, but " + elementType);
+        }
+        return (Collection) EnumSet.noneOf((Class<Enum>) elementType);
+    }
+
+    @FunctionalInterface
+    private interface Creator {
+        Collection<Object> create(int expectedSize, @Nullable Class<?> elementType);
+    }
+}
@@ -0,0 +1,188 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.NumberParser;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 以逗号({@code ,}) 作为分隔符、逐个定位字符序列中元素范围的扫描器。
+ * <p>
+ * 扫描结果与 {@code Pattern.compile(" ?, ?").split(source)} 完全一致：
+ * <ul>
+ *     <li>逗号前后分别允许 <b>至多一个</b> 空格，且此空格不属于元素内容；</li>
+ *     <li>末尾连续的空元素会被忽略；</li>
+ *     <li>当不存在任何分隔符时，整个内容（包括空内容）作为唯一的元素。</li>
+ * </ul>
+ * 扫描过程不使用正则、不构建任何字符串，只会记录当前元素的起止索引。
+ * 对于空元素，需要向后查找是否仍然存在非空元素以确定它是否属于末尾的空元素，查找结果会被记录以避免重复扫描。
+ * <p>
+ * 此类不是线程安全的。
+ *
+ * @author ForteScarlet
+ */
+final class DelimitedTokenizer {
+    private static final char DELIMITER = ',';
+    private static final char SPACE = ' ';
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+
+    /**
+     * 下一个元素的起始位置。当扫描结束后为 {@code end + 1}。
+     */
+    private int position;
+
+    /**
+     * 是否已经匹配到过分隔符。
+     */
+    private boolean delimited;
+
+    /**
+     * 已知的下一个非空元素的起始位置，在此之前的空元素均不属于末尾的空元素。
+     */
+    private int confirmedUntil;
+
+    private int tokenStart;
+    private int tokenEnd;
+
+    DelimitedTokenizer(@NotNull CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        reset();
+    }
+
+    DelimitedTokenizer(@NotNull CharSequence source) {
+        this(source, 0, source.length());
+    }
+
+    /**
+     * 回到起始位置以重新扫描。
+     */
+    void reset() {
+        position = start;
+        delimited = false;
+        confirmedUntil = start;
+        tokenStart = start;
+        tokenEnd = start;
+    }
+
+    /**
+     * 定位下一个元素。
+     *
+     * @return 如果存在下一个元素则返回 {@code true}，此时可以通过 {@link #tokenStart()} 与 {@link #tokenEnd()} 得到其范围。
+     */
+    boolean next() {
+        final int from = position;
+        if (from > end) {
+            return false;
+        }
+
+        final int delimiter = indexOfDelimiter(from);
+        if (delimiter < 0) {
+            position = end + 1;
+            if (from == end && delimited) {
+                // 末尾的空元素
+                return false;
+            }
+            tokenStart = from;
+            tokenEnd = end;
+            return true;
+        }
+
+        delimited = true;
+        tokenStart = from;
+        tokenEnd = tokenEndBefore(from, delimiter);
+        position = positionAfter(delimiter);
+
+        if (tokenStart == tokenEnd && tokenStart >= confirmedUntil && !findNonEmptyAhead()) {
+            position = end + 1;
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 统计剩余元素的数量，并回到起始位置。
+     *
+     * @return 元素数量
+     */
+    int count() {
+        int count = 0;
+        while (next()) {
+            count++;
+        }
+        reset();
+        return count;
+    }
+
+    int tokenStart() {
+        return tokenStart;
+    }
+
+    int tokenEnd() {
+        return tokenEnd;
+    }
+
+    @NotNull
+    CharSequence source() {
+        return source;
+    }
+
+    /**
+     * 当前元素的字符串形式。
+     */
+    @NotNull
+    String token() {
+        if (source instanceof String) {
+            return ((String) source).substring(tokenStart, tokenEnd);
+        }
+        return source.subSequence(tokenStart, tokenEnd).toString();
+    }
+
+    private boolean findNonEmptyAhead() {
+        int from = position;
+        while (true) {
+            final int delimiter = indexOfDelimiter(from);
+            if (delimiter < 0) {
+                if (from < end) {
+                    confirmedUntil = from;
+                    return true;
+                }
+                return false;
+            }
+            if (tokenEndBefore(from, delimiter) > from) {
+                confirmedUntil = from;
+                return true;
+            }
+            from = positionAfter(delimiter);
+        }
+    }
+
+    private int indexOfDelimiter(int from) {
+        final CharSequence source = this.source;
+        if (source instanceof String) {
+            final int index = ((String) source).indexOf(DELIMITER, from);
+            return index < end ? index : -1;
+        }
+
+        for (int i = from; i < end; i++) {
+            if (source.charAt(i) == DELIMITER) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int tokenEndBefore(int from, int delimiter) {
+        return delimiter > from && source.charAt(delimiter - 1) == SPACE ? delimiter - 1 : delimiter;
+    }
+
+    private int positionAfter(int delimiter) {
+        final int next = delimiter + 1;
+        return next < end && source.charAt(next) == SPACE ? next + 1 : next;
+    }
+
+}
@@ -0,0 +1,272 @@
+package love.forte.utils.converter.string;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ISO-8601 中常见格式的解析器，不需要 {@link java.time.format.DateTimeFormatter} 的解析上下文。
+ * <p>
+ * 只处理四位数的年份、{@code Z} 或 {@code ±HH:MM} 的时区偏移等最常见的形式，
+ * 对于其他形式或不合法的值均会得到 {@code null}，此时应交由 {@link java.time.format.DateTimeFormatter} 处理，
+ * 因此只要得到的不是 {@code null}，结果便与对应的 {@code parse} 函数一致。
+ *
+ * @author ForteScarlet
+ */
+final class IsoTimeParser {
+    private static final int LOCAL_DATE_LENGTH = 10;
+    private static final int MIN_LOCAL_TIME_LENGTH = 5;
+    private static final int MIN_LOCAL_TIME_WITH_SECONDS_LENGTH = 8;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int[] NANO_SCALES = {
+            0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private IsoTimeParser() {
+    }
+
+    /**
+     * 解析 {@code yyyy-MM-dd}。
+     */
+    @Nullable
+    static LocalDate parseLocalDate(CharSequence source, int start, int end) {
+        if (end - start != LOCAL_DATE_LENGTH) {
+            return null;
+        }
+
+        final int year = fourDigits(source, start);
+        if (year < 0 || source.charAt(start + 4) != '-' || source.charAt(start + 7) != '-') {
+            return null;
+        }
+        final int month = twoDigits(source, start + 5);
+        final int day = twoDigits(source, start + 8);
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * 解析 {@code HH:mm}、{@code HH:mm:ss} 或 {@code HH:mm:ss.S}（1到9位小数）。
+     */
+    @Nullable
+    static LocalTime parseLocalTime(CharSequence source, int start, int end) {
+        final int length = end - start;
+        if (length < MIN_LOCAL_TIME_LENGTH) {
+            return null;
+        }
+
+        final int hour = twoDigits(source, start);
+        final int minute = twoDigits(source, start + 3);
+        if (hour < 0 || hour > 23 || source.charAt(start + 2) != ':' || minute < 0 || minute > 59) {
+            return null;
+        }
+        if (length == MIN_LOCAL_TIME_LENGTH) {
+            return LocalTime.of(hour, minute);
+        }
+
+        if (length < 8 || source.charAt(start + 5) != ':') {
+            return null;
+        }
+        final int second = twoDigits(source, start + 6);
+        if (second < 0 || second > 59) {
+            return null;
+        }
+        if (length == 8) {
+            return LocalTime.of(hour, minute, second);
+        }
+
+        final int fractionDigits = length - 9;
+        if (source.charAt(start + 8) != '.' || fractionDigits < 1 || fractionDigits > MAX_FRACTION_DIGITS) {
+            return null;
+        }
+        int fraction = 0;
+        for (int i = start + 9; i < end; i++) {
+            final int digit = digit(source.charAt(i));
+            if (digit < 0) {
+                return null;
+            }
+            fraction = fraction * 10 + digit;
+        }
+
+        return LocalTime.of(hour, minute, second, fraction * NANO_SCALES[fractionDigits]);
+    }
+
+    /**
+     * 解析 {@code yyyy-MM-ddTHH:mm[:ss[.S]]}。
+     */
+    @Nullable
+    static LocalDateTime parseLocalDateTime(CharSequence source, int start, int end) {
+        if (end - start < LOCAL_DATE_LENGTH + 1 + MIN_LOCAL_TIME_LENGTH) {
+            return null;
+        }
+        final char separator = source.charAt(start + LOCAL_DATE_LENGTH);
+        if (separator != 'T' && separator != 't') {
+            return null;
+        }
+
+        final LocalDate date = parseLocalDate(source, start, start + LOCAL_DATE_LENGTH);
+        if (date == null) {
+            return null;
+        }
+        final LocalTime time = parseLocalTime(source, start + LOCAL_DATE_LENGTH + 1, end);
+        return time == null ? null : LocalDateTime.of(date, time);
+    }
+
+    /**
+     * 解析 {@code yyyy-MM-ddTHH:mm[:ss[.S]]} 后跟随 {@code Z} 或 {@code ±HH:MM} 的内容。
+     */
+    @Nullable
+    static OffsetDateTime parseOffsetDateTime(CharSequence source, int start, int end) {
+        return parseOffsetDateTime(source, start, end, MIN_LOCAL_TIME_LENGTH);
+    }
+
+    /**
+     * 解析 {@code yyyy-MM-ddTHH:mm:ss[.S]} 后跟随 {@code Z} 或 {@code ±HH:MM} 的内容。
+     * <p>
+     * 与 {@link #parseOffsetDateTime(CharSequence, int, int)} 不同，秒是必须的，
+     * 与 {@link java.time.format.DateTimeFormatter#ISO_INSTANT} 一致。
+     */
+    @Nullable
+    static Instant parseInstant(CharSequence source, int start, int end) {
+        final OffsetDateTime dateTime = parseOffsetDateTime(source, start, end, MIN_LOCAL_TIME_WITH_SECONDS_LENGTH);
+        return dateTime == null ? null : dateTime.toInstant();
+    }
+
+    @Nullable
+    private static OffsetDateTime parseOffsetDateTime(CharSequence source, int start, int end, int minTimeLength) {
+        int offsetStart = start + LOCAL_DATE_LENGTH + 1 + minTimeLength;
+        while (offsetStart < end && !isOffsetStart(source.charAt(offsetStart))) {
+            offsetStart++;
+        }
+        if (offsetStart >= end) {
+            return null;
+        }
+
+        final ZoneOffset offset = parseOffset(source, offsetStart, end);
+        if (offset == null) {
+            return null;
+        }
+        final LocalDateTime dateTime = parseLocalDateTime(source, start, offsetStart);
+        return dateTime == null ? null : OffsetDateTime.of(dateTime, offset);
+    }
+
+    /**
+     * 解析 {@code Z} 或 {@code ±HH:MM}。
+     */
+    @Nullable
+    static ZoneOffset parseOffset(CharSequence source, int start, int end) {
+        final int length = end - start;
+        final char first = source.charAt(start);
+        if (length == 1) {
+            return first == 'Z' || first == 'z' ? ZoneOffset.UTC : null;
+        }
+        if (length != 6 || (first != '+' && first != '-') || source.charAt(start + 3) != ':') {
+            return null;
+        }
+
+        final int hours = twoDigits(source, start + 1);
+        final int minutes = twoDigits(source, start + 4);
+        if (hours < 0 || hours > 17 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+        final int totalSeconds = (hours * 60 + minutes) * 60;
+        return ZoneOffset.ofTotalSeconds(first == '-' ? -totalSeconds : totalSeconds);
+    }
+
+    /**
+     * 解析以 {@code unit} 为单位的时间戳，可以以 {@code -} 开头，也可以带有小数，小数的精度不能超过纳秒。
+     * 例如单位为毫秒时，{@code 1641063845678} 与 {@code 1641063845678.5} 均可以被解析。
+     *
+     * @param unit 时间戳的单位，只能为 {@link TimeUnit#SECONDS} 或更精细的单位
+     */
+    @Nullable
+    static Instant parseEpoch(CharSequence source, int start, int end, TimeUnit unit) {
+        if (start >= end) {
+            return null;
+        }
+        final boolean negative = source.charAt(start) == '-';
+        int index = negative ? start + 1 : start;
+
+        final int integerStart = index;
+        long integer = 0;
+        while (index < end) {
+            final int digit = digit(source.charAt(index));
+            if (digit < 0) {
+                break;
+            }
+            if (integer > (Long.MAX_VALUE - digit) / 10) {
+                return null;
+            }
+            integer = integer * 10 + digit;
+            index++;
+        }
+        if (index == integerStart) {
+            return null;
+        }
+
+        final long unitsPerSecond = unit.convert(1, TimeUnit.SECONDS);
+        final long nanosPerUnit = unit.toNanos(1);
+        final long seconds = integer / unitsPerSecond;
+        long nanos = integer % unitsPerSecond * nanosPerUnit;
+        if (seconds > Instant.MAX.getEpochSecond()) {
+            return null;
+        }
+
+        if (index < end) {
+            final int fractionDigits = end - index - 1;
+            if (source.charAt(index) != '.' || fractionDigits < 1 || fractionDigits > MAX_FRACTION_DIGITS) {
+                return null;
+            }
+            long fractionScale = nanosPerUnit;
+            int fraction = 0;
+            for (int i = index + 1; i < end; i++) {
+                final int digit = digit(source.charAt(i));
+                if (digit < 0 || fractionScale < 10) {
+                    // 不是数字，或超过了纳秒的精度
+                    return null;
+                }
+                fraction = fraction * 10 + digit;
+                fractionScale /= 10;
+            }
+            nanos += fraction * fractionScale;
+        }
+
+        return negative ? Instant.ofEpochSecond(-seconds, -nanos) : Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    private static boolean isOffsetStart(char c) {
+        return c == 'Z' || c == 'z' || c == '+' || c == '-';
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    /**
+     * @return 两位数字的值，不是数字时为负数
+     */
+    private static int twoDigits(CharSequence source, int index) {
+        final int high = digit(source.charAt(index));
+        final int low = digit(source.charAt(index + 1));
+        return high < 0 || low < 0 ? -1 : high * 10 + low;
+    }
+
+    /**
+     * @return 四位数字的值，不是数字时为负数
+     */
+    private static int fourDigits(CharSequence source, int index) {
+        final int high = twoDigits(source, index);
+        final int low = twoDigits(source, index + 2);
+        return high < 0 || low < 0 ? -1 : high * 100 + low;
+    }
+}
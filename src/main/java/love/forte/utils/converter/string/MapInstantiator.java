@@ -0,0 +1,192 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.TypeMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Map 类型的实例化策略。每个 Map 类型的策略只会在第一次使用时确定一次。
+ * <p>
+ * 常见的 Map 类型会直接构建（并尽可能根据元素数量预先分配容量），例如：
+ * <ul>
+ *     <li>{@link Map}、{@link HashMap}：{@link HashMap}，容量足以容纳所有元素而不需要重新哈希</li>
+ *     <li>{@link LinkedHashMap}：{@link LinkedHashMap}，同上</li>
+ *     <li>{@link SortedMap}、{@link NavigableMap}、{@link TreeMap}：{@link TreeMap}</li>
+ *     <li>{@link ConcurrentMap}、{@link ConcurrentHashMap}：{@link ConcurrentHashMap}</li>
+ *     <li>{@link ConcurrentNavigableMap}、{@link ConcurrentSkipListMap}：{@link ConcurrentSkipListMap}</li>
+ *     <li>{@link EnumMap}：通过键的类型构建的 {@link EnumMap}</li>
+ *     <li>{@link Collections#unmodifiableMap(Map)} 与 {@link Collections#emptyMap()} 的类型：元素全部添加后通过 {@link Collections#unmodifiableMap(Map)} 包装</li>
+ * </ul>
+ * 其他类型中，{@link HashMap}、{@link Hashtable}、{@link WeakHashMap}、{@link ConcurrentHashMap} 与 {@link IdentityHashMap}
+ * 的子类型如果存在公开的 {@code (int)} 构造，则以足以容纳所有元素的容量（{@link ConcurrentHashMap} 与 {@link IdentityHashMap}
+ * 的参数即为预期的元素数量）作为参数实例化；其余类型的 {@code (int)} 参数不一定是初始容量，因此统一通过缓存的公开无参构造句柄实例化。{@code Map.of(..)} 等结果的实现类型不会被特殊处理，需要不可变的结果时应使用公开的接口类型。
+ *
+ * @author ForteScarlet
+ * @see CollectionInstantiator
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class MapInstantiator {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final Map<Class<?>, MapInstantiator> KNOWN = new HashMap<>();
+
+    static {
+        final MapInstantiator hashMap = sized((size, keyType) -> size < 0 ? new HashMap<>() : new HashMap<>(hashCapacity(size)));
+        for (Class<?> type : new Class<?>[]{Map.class, AbstractMap.class, HashMap.class}) {
+            KNOWN.put(type, hashMap);
+        }
+        final MapInstantiator linkedHashMap = sized((size, keyType) -> size < 0 ? new LinkedHashMap<>() : new LinkedHashMap<>(hashCapacity(size)));
+        KNOWN.put(LinkedHashMap.class, linkedHashMap);
+        final MapInstantiator treeMap = unsized((size, keyType) -> new TreeMap<>());
+        for (Class<?> type : new Class<?>[]{SortedMap.class, NavigableMap.class, TreeMap.class}) {
+            KNOWN.put(type, treeMap);
+        }
+        // ConcurrentHashMap 的初始容量参数即为预期的元素数量
+        final MapInstantiator concurrentHashMap = sized((size, keyType) -> size < 0 ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(size));
+        KNOWN.put(ConcurrentMap.class, concurrentHashMap);
+        KNOWN.put(ConcurrentHashMap.class, concurrentHashMap);
+        final MapInstantiator skipListMap = unsized((size, keyType) -> new ConcurrentSkipListMap<>());
+        KNOWN.put(ConcurrentNavigableMap.class, skipListMap);
+        KNOWN.put(ConcurrentSkipListMap.class, skipListMap);
+        KNOWN.put(EnumMap.class, unsized(MapInstantiator::newEnumMap));
+
+        final MapInstantiator unmodifiableMap = new MapInstantiator(true, linkedHashMap.creator, Collections::unmodifiableMap);
+        KNOWN.put(Collections.unmodifiableMap(new HashMap<>()).getClass(), unmodifiableMap);
+        KNOWN.put(Collections.emptyMap().getClass(), unmodifiableMap);
+    }
+
+    private static final ClassValue<MapInstantiator> INSTANTIATORS = new ClassValue<MapInstantiator>() {
+        @Override
+        protected MapInstantiator computeValue(Class<?> type) {
+            final MapInstantiator known = KNOWN.get(type);
+            if (known != null) {
+                return known;
+            }
+
+            final TypeMeta meta = TypeMeta.of(type);
+            final IntUnaryOperator capacity = initialCapacity(type);
+            if (capacity != null && meta.hasCapacityConstructor()) {
+                final boolean noArg = meta.hasNoArgConstructor();
+                return sized((size, keyType) -> (Map<Object, Object>) (size >= 0 ? meta.newInstance(capacity.applyAsInt(size))
+                        : noArg ? meta.newInstance() : meta.newInstance(0)));
+            }
+            if (meta.hasNoArgConstructor()) {
+                return unsized((size, keyType) -> (Map<Object, Object>) meta.newInstance());
+            }
+            return unsized((size, keyType) -> {
+                throw new ConvertException("Cannot to create instance for map type " + type + ": no accessible no-arg or capacity constructor");
+            });
+        }
+    };
+
+    private final boolean sizeAware;
+    private final Creator creator;
+    @Nullable
+    private final UnaryOperator<Map<Object, Object>> finisher;
+
+    private MapInstantiator(boolean sizeAware, Creator creator, @Nullable UnaryOperator<Map<Object, Object>> finisher) {
+        this.sizeAware = sizeAware;
+        this.creator = creator;
+        this.finisher = finisher;
+    }
+
+    private static MapInstantiator sized(Creator creator) {
+        return new MapInstantiator(true, creator, null);
+    }
+
+    private static MapInstantiator unsized(Creator creator) {
+        return new MapInstantiator(false, creator, null);
+    }
+
+    /**
+     * 得到 Map 类型的实例化策略。
+     *
+     * @param mapType Map 类型
+     * @return 实例化策略
+     */
+    static MapInstantiator of(@NotNull Class<?> mapType) {
+        return INSTANTIATORS.get(mapType);
+    }
+
+    /**
+     * 是否会使用预期的元素数量。为 {@code false} 时调用者不需要预先计算元素数量。
+     */
+    boolean isSizeAware() {
+        return sizeAware;
+    }
+
+    /**
+     * 构建一个用于添加元素的 Map。
+     *
+     * @param expectedSize 预期的元素数量，未知时为 {@code -1}
+     * @param keyType      键的类型，未知时为 {@code null}
+     * @return Map
+     * @throws ConvertException 无法实例化时
+     */
+    Map<Object, Object> newMap(int expectedSize, @Nullable Class<?> keyType) {
+        return creator.create(expectedSize, keyType);
+    }
+
+    /**
+     * 在元素全部添加后得到最终的结果。
+     *
+     * @param map 通过 {@link #newMap(int, Class)} 构建并添加了元素的 Map
+     * @return 结果
+     */
+    Map<?, ?> finish(Map<Object, Object> map) {
+        return finisher == null ? map : finisher.apply(map);
+    }
+
+    /**
+     * 足以容纳 {@code size} 个元素而不需要重新哈希的初始容量。
+     */
+    private static int hashCapacity(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (size / LOAD_FACTOR) + 1);
+    }
+
+    /**
+     * 已知 {@code (int)} 构造参数为初始容量的类型，由预期的元素数量得到该参数的方式；其他类型为 {@code null}。
+     */
+    @Nullable
+    private static IntUnaryOperator initialCapacity(Class<?> type) {
+        if (HashMap.class.isAssignableFrom(type) || Hashtable.class.isAssignableFrom(type) || WeakHashMap.class.isAssignableFrom(type)) {
+            return MapInstantiator::hashCapacity;
+        }
+        if (ConcurrentHashMap.class.isAssignableFrom(type) || IdentityHashMap.class.isAssignableFrom(type)) {
+            return IntUnaryOperator.identity();
+        }
+        return null;
+    }
+
+    private static Map<Object, Object> newEnumMap(int expectedSize, @Nullable Class<?> keyType) {
+        if (keyType == null || !keyType.isEnum()) {
+            throw new ConvertException("Key type of java.util.EnumMap must be an enum type, but " + keyType);
+        }
+        return new EnumMap(keyType);
+    }
+
+    @FunctionalInterface
+    private interface Creator {
+        Map<Object, Object> create(int expectedSize, @Nullable Class<?> keyType);
+    }
+}
@@ -0,0 +1,170 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.NumberParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * 将元素直接解析为基础数据类型并写入按需扩容的数组，最终通过 {@link #toArray()} 得到长度恰好为元素数量的数组。
+ * <p>
+ * 此类不是线程安全的。
+ *
+ * @author ForteScarlet
+ */
+abstract class PrimitiveAccumulator implements StreamingTokenizer.TokenConsumer {
+    static final int INITIAL_CAPACITY = 16;
+    int size;
+
+    @Nullable
+    static PrimitiveAccumulator of(Class<?> elementClass) {
+        if (elementClass == int.class) {
+            return new IntAccumulator();
+        }
+        if (elementClass == long.class) {
+            return new LongAccumulator();
+        }
+        if (elementClass == double.class) {
+            return new DoubleAccumulator();
+        }
+        if (elementClass == float.class) {
+            return new FloatAccumulator();
+        }
+        if (elementClass == short.class) {
+            return new ShortAccumulator();
+        }
+        if (elementClass == byte.class) {
+            return new ByteAccumulator();
+        }
+        if (elementClass == boolean.class) {
+            return new BooleanAccumulator();
+        }
+        return null;
+    }
+
+    static int grow(int capacity) {
+        return capacity + (capacity >> 1) + 1;
+    }
+
+    abstract Object toArray();
+
+    private static final class IntAccumulator extends PrimitiveAccumulator {
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        @Override
+        public void accept(@NotNull CharSequence source, int start, int end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = NumberParser.parseInt(source, start, end);
+        }
+
+        @Override
+        Object toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class LongAccumulator extends PrimitiveAccumulator {
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        @Override
+        public void accept(@NotNull CharSequence source, int start, int end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = NumberParser.parseLong(source, start, end);
+        }
+
+        @Override
+        Object toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class DoubleAccumulator extends PrimitiveAccumulator {
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        @Override
+        public void accept(@NotNull CharSequence source, int start, int end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = NumberParser.parseDouble(source, start, end);
+        }
+
+        @Override
+        Object toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class FloatAccumulator extends PrimitiveAccumulator {
+        private float[] values = new float[INITIAL_CAPACITY];
+
+        @Override
+        public void accept(@NotNull CharSequence source, int start, int end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = NumberParser.parseFloat(source, start, end);
+        }
+
+        @Override
+        Object toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class ShortAccumulator extends PrimitiveAccumulator {
+        private short[] values = new short[INITIAL_CAPACITY];
+
+        @Override
+        public void accept(@NotNull CharSequence source, int start, int end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = NumberParser.parseShort(source, start, end);
+        }
+
+        @Override
+        Object toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class ByteAccumulator extends PrimitiveAccumulator {
+        private byte[] values = new byte[INITIAL_CAPACITY];
+
+        @Override
+        public void accept(@NotNull CharSequence source, int start, int end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = NumberParser.parseByte(source, start, end);
+        }
+
+        @Override
+        Object toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class BooleanAccumulator extends PrimitiveAccumulator {
+        private boolean[] values = new boolean[INITIAL_CAPACITY];
+
+        @Override
+        public void accept(@NotNull CharSequence source, int start, int end) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = StringToBooleanConverter.INSTANCE.convertBoolean(source, start, end);
+        }
+
+        @Override
+        Object toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 将 {@link Reader} 或 {@link ReadableByteChannel} 中的内容转化为数组的转化器。
+ * <p>
+ * 内容的截取规则与 {@link StringToArrayConverter} 一致。内容会通过固定大小的缓冲区逐段读取、截取并转化，
+ * 不会将完整的内容读取为字符串，因此内存占用只与结果的大小有关。
+ * 当元素类型为数字或布尔的基础数据类型时，元素会被直接解析并写入按需扩容的数组中。
+ * <p>
+ * 转化器会读取来源直到其结束，但不会关闭来源。
+ *
+ * @author ForteScarlet
+ * @see StringToArrayConverter
+ * @see ReaderToCollectionConverter
+ */
+public class ReaderToArrayConverter implements Converter {
+    private static final Supplier<ConverterUtil> DEFAULT_CONVERTER_UTIL_FACTORY = ConverterUtil::getDefault;
+
+    private final Supplier<ConverterUtil> otherTypeConverterUtilFactory;
+    private final Charset charset;
+    private final int bufferSize;
+
+    /**
+     * @param otherTypeConverterUtilFactory 对其他未知类型进行转化时使用的转化器工厂，默认情况下使用 {@link ConverterUtil#getDefault()}
+     * @param charset                       读取 {@link ReadableByteChannel} 时使用的字符集，默认为 UTF-8
+     * @param bufferSize                    读取缓冲区的大小
+     */
+    public ReaderToArrayConverter(@Nullable Supplier<ConverterUtil> otherTypeConverterUtilFactory, @Nullable Charset charset, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive, but " + bufferSize);
+        }
+        this.otherTypeConverterUtilFactory = otherTypeConverterUtilFactory == null ? DEFAULT_CONVERTER_UTIL_FACTORY : otherTypeConverterUtilFactory;
+        this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
+        this.bufferSize = bufferSize;
+    }
+
+    public ReaderToArrayConverter(@Nullable Supplier<ConverterUtil> otherTypeConverterUtilFactory) {
+        this(otherTypeConverterUtilFactory, null, StreamingTokenizer.DEFAULT_BUFFER_SIZE);
+    }
+
+    public ReaderToArrayConverter() {
+        this(null);
+    }
+
+    /**
+     * 将 {@link Reader} 或 {@link ReadableByteChannel} 转化为数组。
+     *
+     * @param source 目标对象
+     * @param target 数组类型
+     * @return 数组结果
+     * @throws ConvertException 读取出现异常时
+     */
+    @Override
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        final Reader reader = StreamingTokenizer.readerOf(source, charset);
+        if (reader == null) {
+            throw ConverterExceptionUtil.sourceIllegalArgument("java.io.Reader or java.nio.channels.ReadableByteChannel", source);
+        }
+
+        if (target instanceof Class) {
+            return convert0(reader, (Class<?>) target);
+        } else if (target instanceof ParameterizedType) {
+            final ParameterizedType parameterizedTarget = (ParameterizedType) target;
+            if (TypeUtil.actualTypeArgumentCount(parameterizedTarget) == 0 && parameterizedTarget.getRawType() instanceof Class) {
+                return convert0(reader, (Class<?>) parameterizedTarget.getRawType());
+            }
+            throw ConverterExceptionUtil.targetIllegalArgument("Raw type of 'target'", "Array type", parameterizedTarget.getRawType().toString());
+        }
+
+        throw ConverterExceptionUtil.targetIllegalArgument("Array type(by Class or ParameterizedType)", target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convert0(Reader reader, Class<?> target) {
+        final Class<?> componentType = TypeMeta.of(target).getComponentType();
+        if (componentType != null) {
+            return (T) convertToArray(reader, componentType);
+        }
+
+        throw ConverterExceptionUtil.targetIllegalArgument("Array type", target.toString());
+    }
+
+    /**
+     * 将 {@link ReadableByteChannel} 中的内容转化为数组。
+     *
+     * @param channel     来源
+     * @param elementType 元素类型
+     * @return 数组结果
+     * @throws ConvertException 读取出现异常时
+     * @see #convertToArray(Reader, Type)
+     */
+    public <T> T convertToArray(@NotNull ReadableByteChannel channel, @Nullable Type elementType) {
+        return convertToArray(StreamingTokenizer.readerOf(channel, charset), elementType);
+    }
+
+    /**
+     * 将 {@link Reader} 中的内容转化为数组。
+     * <p>
+     * 列表元素 {@code elementType} 支持的类型与 {@link StringToArrayConverter#convertToArray(String, Type)} 一致。
+     *
+     * @param reader      来源
+     * @param elementType 元素类型
+     * @return 数组结果
+     * @throws ConvertException 读取出现异常时
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convertToArray(@NotNull Reader reader, @Nullable Type elementType) {
+        final Class<?> elementClass;
+        if (null == elementType) {
+            elementClass = String.class;
+        } else if (elementType instanceof Class) {
+            elementClass = (Class<?>) elementType;
+        } else {
+            throw ConverterExceptionUtil.targetIllegalArgument("'Element type'", "", elementType.getClass());
+        }
+
+        final StreamingTokenizer tokenizer = new StreamingTokenizer(reader, bufferSize);
+
+        final PrimitiveAccumulator accumulator = elementClass.isPrimitive() ? PrimitiveAccumulator.of(elementClass) : null;
+        if (accumulator != null) {
+            read(tokenizer, accumulator);
+            return (T) accumulator.toArray();
+        }
+
+        final TokenConverter<?> targetConverter = TokenConverter.of(elementClass, otherTypeConverterUtilFactory);
+        final List<Object> elements = new ArrayList<>();
+        read(tokenizer, (source, start, end) -> elements.add(targetConverter.convert(source, start, end)));
+
+        final Object array = Array.newInstance(elementClass, elements.size());
+        if (elementClass.isPrimitive()) {
+            // 例如 char[]，没有直接解析的实现
+            for (int i = 0; i < elements.size(); i++) {
+                Array.set(array, i, elements.get(i));
+            }
+            return (T) array;
+        }
+
+        return (T) elements.toArray((Object[]) array);
+    }
+
+    private static void read(StreamingTokenizer tokenizer, StreamingTokenizer.TokenConsumer consumer) {
+        try {
+            tokenizer.forEach(consumer);
+        } catch (IOException e) {
+            throw new ConvertException("Read source failed: " + e.getLocalizedMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 将 {@link Reader} 或 {@link ReadableByteChannel} 中的内容转化为集合的转化器。
+ * <p>
+ * 内容的截取规则与 {@link StringToCollectionConverter} 一致。内容会通过固定大小的缓冲区逐段读取、截取并转化后直接添加至集合中，
+ * 不会将完整的内容读取为字符串，因此内存占用只与结果的大小有关。
+ * <p>
+ * 转化器会读取来源直到其结束，但不会关闭来源。
+ *
+ * @author ForteScarlet
+ * @see StringToCollectionConverter
+ * @see ReaderToArrayConverter
+ */
+public class ReaderToCollectionConverter extends CollectionTargetConverter {
+    private static final Supplier<ConverterUtil> DEFAULT_CONVERTER_UTIL_FACTORY = ConverterUtil::getDefault;
+
+    private final Supplier<ConverterUtil> otherTypeConverterUtilFactory;
+    private final Charset charset;
+    private final int bufferSize;
+
+    /**
+     * @param otherTypeConverterUtilFactory 对其他未知类型进行转化时使用的转化器工厂，默认情况下使用 {@link ConverterUtil#getDefault()}
+     * @param charset                       读取 {@link ReadableByteChannel} 时使用的字符集，默认为 UTF-8
+     * @param bufferSize                    读取缓冲区的大小
+     */
+    public ReaderToCollectionConverter(@Nullable Supplier<ConverterUtil> otherTypeConverterUtilFactory, @Nullable Charset charset, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive, but " + bufferSize);
+        }
+        this.otherTypeConverterUtilFactory = otherTypeConverterUtilFactory == null ? DEFAULT_CONVERTER_UTIL_FACTORY : otherTypeConverterUtilFactory;
+        this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
+        this.bufferSize = bufferSize;
+    }
+
+    public ReaderToCollectionConverter(@Nullable Supplier<ConverterUtil> otherTypeConverterUtilFactory) {
+        this(otherTypeConverterUtilFactory, null, StreamingTokenizer.DEFAULT_BUFFER_SIZE);
+    }
+
+    public ReaderToCollectionConverter() {
+        this(null);
+    }
+
+    /**
+     * 将 {@link Reader} 或 {@link ReadableByteChannel} 中的内容转化为集合。
+     * <p>
+     * 列表元素 {@code elementType} 支持的类型与 {@link StringToCollectionConverter#convert(String, Class, Type)} 一致。
+     *
+     * @param source               来源
+     * @param targetCollectionType 集合类型
+     * @param elementType          元素类型
+     * @return 集合结果
+     * @throws ConvertException 读取出现异常时
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T, LT extends Collection<T>> LT convert(@NotNull Object source, @NotNull Class<Collection<?>> targetCollectionType, @Nullable Type elementType) {
+        final Reader reader = StreamingTokenizer.readerOf(source, charset);
+        if (reader == null) {
+            throw ConverterExceptionUtil.sourceIllegalArgument("java.io.Reader or java.nio.channels.ReadableByteChannel", source);
+        }
+        if (elementType != null && !(elementType instanceof Class)) {
+            throw ConverterExceptionUtil.targetIllegalArgument("'Element type'", "", elementType.getClass());
+        }
+
+        final TokenConverter<T> targetConverter = TokenConverter.of(elementType, otherTypeConverterUtilFactory);
+        final CollectionInstantiator instantiator = CollectionInstantiator.of(targetCollectionType);
+        final Collection<Object> collection = instantiator.newCollection(-1, (Class<?>) elementType);
+
+        try {
+            new StreamingTokenizer(reader, bufferSize).forEach((token, start, end) -> collection.add(targetConverter.convert(token, start, end)));
+        } catch (IOException e) {
+            throw new ConvertException("Read source failed: " + e.getLocalizedMessage(), e);
+        }
+
+        return (LT) instantiator.finish(collection);
+    }
+}
@@ -0,0 +1,194 @@
+package love.forte.utils.converter.string;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 从 {@link Reader} 中以固定大小的缓冲区逐段读取内容，并以逗号({@code ,}) 作为分隔符截取元素的扫描器。
+ * <p>
+ * 截取规则与 {@link DelimitedTokenizer} 一致（即与 {@code Pattern.compile(" ?, ?").split(source)} 一致）。
+ * 由于无法向后查看，空元素会先被计数，直到出现下一个非空元素时才会被依次提供，
+ * 当内容结束时仍未提供的空元素即为末尾的空元素，会被忽略。
+ * <p>
+ * 内存占用只与读取缓冲区和单个元素的长度有关，与输入的总长度无关。
+ * <p>
+ * 此类不是线程安全的。
+ *
+ * @author ForteScarlet
+ */
+final class StreamingTokenizer {
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final char DELIMITER = ',';
+    private static final char SPACE = ' ';
+
+    private final Reader reader;
+    private final char[] buffer;
+    private final Token token = new Token();
+
+    StreamingTokenizer(@NotNull Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+    }
+
+    StreamingTokenizer(@NotNull Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 将 {@link Reader} 或 {@link ReadableByteChannel} 作为读取来源。
+     * 对于 {@link ReadableByteChannel}，会通过 {@code charset} 进行解码，无法解码的内容会导致读取异常。
+     *
+     * @param source  来源
+     * @param charset 字符集
+     * @return {@link Reader}，或当 {@code source} 不是支持的类型时得到null。
+     */
+    @Nullable
+    static Reader readerOf(@NotNull Object source, @NotNull Charset charset) {
+        if (source instanceof Reader) {
+            return (Reader) source;
+        }
+        if (source instanceof ReadableByteChannel) {
+            return Channels.newReader((ReadableByteChannel) source, charset.newDecoder(), -1);
+        }
+        return null;
+    }
+
+    /**
+     * 元素的接收函数。
+     */
+    @FunctionalInterface
+    interface TokenConsumer {
+        /**
+         * 接收一个元素。{@code source} 只在此次调用中有效，之后其内容会被复用。
+         *
+         * @param source 元素内容所在的字符序列
+         * @param start  起始索引（包含）
+         * @param end    结束索引（不包含）
+         */
+        void accept(@NotNull CharSequence source, int start, int end);
+    }
+
+    /**
+     * 读取全部内容并依次提供元素。不会关闭 {@link Reader}。
+     *
+     * @param consumer 元素接收函数
+     * @throws IOException 读取异常
+     */
+    void forEach(@NotNull TokenConsumer consumer) throws IOException {
+        final char[] buffer = this.buffer;
+        final Token token = this.token;
+        boolean delimited = false;
+        boolean skipSpace = false;
+        int pendingEmpty = 0;
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            int segmentStart = 0;
+            for (int i = 0; i < read; i++) {
+                final char c = buffer[i];
+                if (skipSpace) {
+                    skipSpace = false;
+                    if (c == SPACE) {
+                        segmentStart = i + 1;
+                        continue;
+                    }
+                }
+                if (c != DELIMITER) {
+                    continue;
+                }
+
+                token.append(buffer, segmentStart, i);
+                segmentStart = i + 1;
+                delimited = true;
+                skipSpace = true;
+
+                int length = token.length;
+                if (length > 0 && token.chars[length - 1] == SPACE) {
+                    length--;
+                }
+                if (length == 0) {
+                    pendingEmpty++;
+                } else {
+                    pendingEmpty = flushEmpty(consumer, pendingEmpty);
+                    consumer.accept(token, 0, length);
+                }
+                token.length = 0;
+            }
+            token.append(buffer, segmentStart, read);
+        }
+
+        if (!delimited) {
+            // 没有分隔符时，内容（包括空内容）作为唯一的元素
+            consumer.accept(token, 0, token.length);
+        } else if (token.length > 0) {
+            flushEmpty(consumer, pendingEmpty);
+            consumer.accept(token, 0, token.length);
+        }
+        token.length = 0;
+    }
+
+    private int flushEmpty(TokenConsumer consumer, int pendingEmpty) {
+        for (; pendingEmpty > 0; pendingEmpty--) {
+            consumer.accept(token, 0, 0);
+        }
+        return 0;
+    }
+
+    /**
+     * 当前元素内容的缓冲区，会在元素之间复用。
+     */
+    private static final class Token implements CharSequence {
+        private char[] chars = new char[32];
+        private int length;
+
+        void append(char[] source, int from, int to) {
+            final int count = to - from;
+            if (count <= 0) {
+                return;
+            }
+            if (length + count > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length << 1, length + count));
+            }
+            System.arraycopy(source, from, chars, length, count);
+            length += count;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index >= length) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+            }
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString(start, end);
+        }
+
+        private String toString(int start, int end) {
+            if (start < 0 || start > end || end > length) {
+                throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+            }
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return toString(0, length);
+        }
+    }
+}
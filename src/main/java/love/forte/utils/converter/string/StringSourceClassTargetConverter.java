@@ -3,13 +3,14 @@ package love.forte.utils.converter.string;
 import love.forte.utils.converter.ClassTargetConverter;
 import love.forte.utils.converter.ConverterExceptionUtil;
 import love.forte.utils.converter.StringSourceConverter;
+import love.forte.utils.converter.TypeUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
 /**
- * 以字符串作为转化对象、以一个具体的类型作为转化目标类型的转化器。
+ * 以字符串（或其他字符序列）作为转化对象、以一个具体的类型作为转化目标类型的转化器。
  *
  * @author ForteScarlet
  */
@@ -20,8 +21,12 @@ public abstract class StringSourceClassTargetConverter extends ClassTargetConver
         if (source instanceof String) {
             return convertStringByClass((String) source, target);
         }
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convertCharSequenceByClass(charSequence, 0, charSequence.length(), target);
+        }
 
-        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.String", source.getClass().toString());
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source.getClass().toString());
     }
 
     @SuppressWarnings("unchecked")
@@ -31,9 +36,9 @@ public abstract class StringSourceClassTargetConverter extends ClassTargetConver
             return convertString(source, (Class<T>) target);
         } else if (target instanceof ParameterizedType) {
             ParameterizedType parameterizedTarget = (ParameterizedType) target;
-            final Type[] arguments = parameterizedTarget.getActualTypeArguments();
-            if (arguments.length > 0) {
-                throw ConverterExceptionUtil.targetIllegalArgument("ActualTypeArguments in parameterized target","empty", arguments.length);
+            final int argumentCount = TypeUtil.actualTypeArgumentCount(parameterizedTarget);
+            if (argumentCount > 0) {
+                throw ConverterExceptionUtil.targetIllegalArgument("ActualTypeArguments in parameterized target","empty", argumentCount);
             }
 
             final Type rawType = parameterizedTarget.getRawType();
@@ -44,6 +49,27 @@ public abstract class StringSourceClassTargetConverter extends ClassTargetConver
         throw ConverterExceptionUtil.targetIllegalArgument("Class or ParameterizedType", target.getClass().toString());
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T convert(@NotNull CharSequence source, int start, int end, @NotNull Type target) {
+        if (target instanceof Class) {
+            final Class<T> targetClass = (Class<T>) target;
+            return targetClass.cast(convertCharSequenceByClass(source, start, end, targetClass));
+        } else if (target instanceof ParameterizedType) {
+            ParameterizedType parameterizedTarget = (ParameterizedType) target;
+            final int argumentCount = TypeUtil.actualTypeArgumentCount(parameterizedTarget);
+            if (argumentCount > 0) {
+                throw ConverterExceptionUtil.targetIllegalArgument("ActualTypeArguments in parameterized target","empty", argumentCount);
+            }
+
+            final Type rawType = parameterizedTarget.getRawType();
+            return convert(source, start, end, rawType);
+        }
+
+
+        throw ConverterExceptionUtil.targetIllegalArgument("Class or ParameterizedType", target.getClass().toString());
+    }
+
 
     /**
      * 将字符串转化为目标类型。
@@ -69,4 +95,23 @@ public abstract class StringSourceClassTargetConverter extends ClassTargetConver
      */
     protected abstract Object convertStringByClass(@NotNull String source, @NotNull Class<?> target);
 
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为指定的具体类型。
+     * <p>
+     * 默认实现会构建对应范围的子字符串并交由 {@link #convertStringByClass(String, Class)} 处理。
+     *
+     * @param source 目标字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @param target 转化目标类型
+     * @return 转化结果，会通过 Class.cast 转化其类型。
+     */
+    protected Object convertCharSequenceByClass(@NotNull CharSequence source, int start, int end, @NotNull Class<?> target) {
+        if (source instanceof String && start == 0 && end == source.length()) {
+            return convertStringByClass((String) source, target);
+        }
+
+        return convertStringByClass(source.subSequence(start, end).toString(), target);
+    }
+
 }
@@ -7,23 +7,23 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Array;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.function.Function;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 /**
  * 将字符串转化为数组的转化器。
  * <p>
  * 当字符串符合 {@code str1,str2,str3} 的规则时，会逗号({@code ,}) 作为分隔符截取元素内容。
  * 此类的实现中，允许逗号({@code ,}) 前后分别额外存在 <b>至多一个</b> 空格字符。
+ * <p>
+ * 元素的截取通过单次扫描完成，不会使用正则、也不会为每个元素构建字符串。
+ * 当元素类型为数字或布尔的基础数据类型时（例如 {@code int[]}），元素会被直接解析并写入数组，不会产生装箱。
  *
  * @author ForteScarlet
  * @see StringToCollectionConverter
  */
 public class StringToArrayConverter implements StringSourceConverter {
-    private static final String DEFAULT_SPLIT_PATTERN = " ?, ?";
-    private static final Pattern SPLIT_PATTERN = Pattern.compile(DEFAULT_SPLIT_PATTERN);
-    private static final Function<String, String> DEFAULT_STR_2_STR_CONVERTER = (str) -> str;
     private static final Supplier<ConverterUtil> DEFAULT_CONVERTER_UTIL_FACTORY = ConverterUtil::getDefault;
 
 
@@ -51,15 +51,12 @@ public class StringToArrayConverter implements StringSourceConverter {
     /**
      * 将目标字符串转化为数组。
      * <p>
-     * <b>需要注意，无法转化为基础数据类型的数组，例如 {@code int[]}.
-     * TODO fix
-     * </b>
-     * <p>
      * 列表元素 {@code elementType} 支持的类型有：
      * <ul>
      *     <li>null / Object (作为字符串处理)</li>
      *     <li>String</li>
      *     <li>Number (会通过 {@link StringToNumberConverter} 下的相关转化器进行转化 )</li>
+     *     <li>基础数据类型 (例如 {@code int[]}，会直接解析并写入数组)</li>
      * </ul>
      *
      * @param source 目标对象
@@ -68,30 +65,36 @@ public class StringToArrayConverter implements StringSourceConverter {
      */
     @Override
     public <T> T convert(@NotNull String source, @NotNull Type target) {
+        return convert(source, 0, source.length(), target);
+    }
+
+    @Override
+    public <T> T convert(@NotNull CharSequence source, int start, int end, @NotNull Type target) {
         if (target instanceof Class) {
-            return convert0(source, (Class<?>) target);
+            return convert0(source, start, end, (Class<?>) target);
         } else if (target instanceof ParameterizedType) {
-            return convert0(source, (ParameterizedType) target);
+            return convert0(source, start, end, (ParameterizedType) target);
         } else {
             throw ConverterExceptionUtil.targetIllegalArgument("java.util.List(by Class or ParameterizedType)", target);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T convert0(String source, Class<?> target) {
-        if (target.isArray()) {
-            return (T) convertToArray(source, target.getComponentType());
+    private <T> T convert0(CharSequence source, int start, int end, Class<?> target) {
+        final Class<?> componentType = TypeMeta.of(target).getComponentType();
+        if (componentType != null) {
+            return (T) convertToArray(source, start, end, componentType);
         }
 
         throw ConverterExceptionUtil.targetIllegalArgument("Array type", target.toString());
     }
 
 
-    private <T> T convert0(String source, ParameterizedType target) {
-        if (target.getActualTypeArguments().length == 0) {
+    private <T> T convert0(CharSequence source, int start, int end, ParameterizedType target) {
+        if (TypeUtil.actualTypeArgumentCount(target) == 0) {
             final Type rawType = target.getRawType();
             if (rawType instanceof Class) {
-                return convert0(source, (Class<?>) rawType);
+                return convert0(source, start, end, (Class<?>) rawType);
             }
         }
 
@@ -102,13 +105,12 @@ public class StringToArrayConverter implements StringSourceConverter {
     /**
      * 将目标字符串转化为数组。
      * <p>
-     * <b>需要注意，无法转化为基础数据类型的数组，例如 {@code int[]}.</b>
-     * <p>
      * 列表元素 {@code elementType} 支持的类型有：
      * <ul>
      *     <li>null / Object (作为字符串处理)</li>
      *     <li>String</li>
      *     <li>Number (会通过 {@link StringToNumberConverter} 下的相关转化器进行转化 )</li>
+     *     <li>基础数据类型 (例如 {@code int[]}，会直接解析并写入数组)</li>
      * </ul>
      *
      * @param source      目标对象
@@ -117,49 +119,12 @@ public class StringToArrayConverter implements StringSourceConverter {
      * @throws ClassCastException 可能出现类型不匹配导致的类型转化异常。
      * @throws ConvertException   可能存在类型转化异常。
      */
-    @SuppressWarnings("unchecked")
     public <T> T convertToArray(@NotNull String source, @Nullable Type elementType) {
-        final Function<String, T> targetConverter;
-        final Class<?> elementClass;
-        if (null == elementType) {
-            elementClass = String.class;
-            targetConverter = str2Str();
-        } else if (elementType instanceof Class) {
-            if (elementType.equals(String.class)) {
-                elementClass = String.class;
-                targetConverter = str2Str();
-            } else if (elementType.equals(Object.class)) {
-                elementClass = Object.class;
-                targetConverter = str2Str();
-            } else {
-                elementClass = (Class<?>) elementType;
-                targetConverter = numberOrOtherConverter(elementType);
-            }
-        } else {
-            throw ConverterExceptionUtil.targetIllegalArgument("'Element type'", "", elementType.getClass());
-        }
-
-        final String[] splitArray = SPLIT_PATTERN.split(source);
-        final Object array = Array.newInstance(elementClass, splitArray.length);
-
-        for (int i = 0; i < splitArray.length; i++) {
-            Array.set(array, i, targetConverter.apply(splitArray[i]));
-        }
-
-        return (T) array;
+        return convertToArray(source, 0, source.length(), elementType);
     }
 
     /**
      * 将目标字符串转化为数组。
-     * <p>
-     * <b>需要注意，无法转化为基础数据类型的数组，例如 {@code int[]}.</b>
-     * <p>
-     * 列表元素 {@code elementType} 支持的类型有：
-     * <ul>
-     *     <li>null / Object (作为字符串处理)</li>
-     *     <li>String</li>
-     *     <li>Number (会通过 {@link StringToNumberConverter} 下的相关转化器进行转化 )</li>
-     * </ul>
      *
      * @param source      目标对象
      * @param elementType 元素类型
@@ -172,67 +137,57 @@ public class StringToArrayConverter implements StringSourceConverter {
         return convertToArray(source, (Type) elementType);
     }
 
-
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为数组。
+     * <p>
+     * 只会扫描一次，元素被依次解析并写入按需扩容的数组，最终得到长度恰好为元素数量的数组。
+     *
+     * @param source      目标字符序列
+     * @param start       起始索引（包含）
+     * @param end         结束索引（不包含）
+     * @param elementType 元素类型
+     * @return 列表结果
+     * @throws ClassCastException        可能出现类型不匹配导致的类型转化异常。
+     * @throws ConvertException          可能存在类型转化异常。
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     * @see #convertToArray(String, Type)
+     */
     @SuppressWarnings("unchecked")
-    private <T> Function<String, T> numberOrOtherConverter(Type elementType) {
-        final TypeUtil.PrimitiveType primitiveType = TypeUtil.PrimitiveType.findByType(elementType);
-        if (primitiveType != null) {
-            if (Number.class.isAssignableFrom(primitiveType.getType())) {
-                // is type of number
-                final StringToNumberConverter<?> toNumberConverter;
-                switch (primitiveType) {
-                    case BYTE:
-                        toNumberConverter = StringToNumberConverter.ToByte.INSTANCE;
-                        break;
-                    case SHORT:
-                        toNumberConverter = StringToNumberConverter.ToShort.INSTANCE;
-                        break;
-                    case INT:
-                        toNumberConverter = StringToNumberConverter.ToInt.INSTANCE;
-                        break;
-                    case LONG:
-                        toNumberConverter = StringToNumberConverter.ToLong.INSTANCE;
-                        break;
-                    case DOUBLE:
-                        toNumberConverter = StringToNumberConverter.ToDouble.INSTANCE;
-                        break;
-                    case FLOAT:
-                        toNumberConverter = StringToNumberConverter.ToFloat.INSTANCE;
-                        break;
-                    default:
-                        toNumberConverter = null;
-                }
-
-                if (toNumberConverter != null) {
-                    return (str) -> (T) toNumberConverter.convertNumber(str);
-                } else {
-                    // not primitive number
-                    return otherConverter(elementType);
-                }
-
-            } else {
-                // not number
-                return otherConverter(elementType);
-            }
+    public <T> T convertToArray(@NotNull CharSequence source, int start, int end, @Nullable Type elementType) {
+        final Class<?> elementClass;
+        if (null == elementType) {
+            elementClass = String.class;
+        } else if (elementType instanceof Class) {
+            elementClass = (Class<?>) elementType;
         } else {
-            // not primitive
-            return otherConverter(elementType);
+            throw ConverterExceptionUtil.targetIllegalArgument("'Element type'", "", elementType.getClass());
         }
-    }
 
+        final DelimitedTokenizer tokenizer = new DelimitedTokenizer(source, start, end);
 
-    private <T> Function<String, T> otherConverter(Type targetType) {
-        final ConverterUtil converterUtil = otherTypeConverterUtilFactory.get();
-        if (converterUtil != null) {
-            return (str) -> converterUtil.convert(str, targetType);
-        } else {
-            throw new NoSuchConverterException("java.lang.String", targetType.getTypeName());
+        final PrimitiveAccumulator accumulator = elementClass.isPrimitive() ? PrimitiveAccumulator.of(elementClass) : null;
+        if (accumulator != null) {
+            while (tokenizer.next()) {
+                accumulator.accept(source, tokenizer.tokenStart(), tokenizer.tokenEnd());
+            }
+            return (T) accumulator.toArray();
         }
-    }
 
+        final TokenConverter<?> targetConverter = TokenConverter.of(elementClass, otherTypeConverterUtilFactory);
+        final List<Object> elements = new ArrayList<>();
+        while (tokenizer.next()) {
+            elements.add(targetConverter.convert(source, tokenizer.tokenStart(), tokenizer.tokenEnd()));
+        }
 
-    @SuppressWarnings("unchecked")
-    private <T> Function<String, T> str2Str() {
-        return (Function<String, T>) DEFAULT_STR_2_STR_CONVERTER;
+        final Object array = Array.newInstance(elementClass, elements.size());
+        if (elementClass.isPrimitive()) {
+            // 例如 char[]，没有直接解析的实现
+            for (int i = 0; i < elements.size(); i++) {
+                Array.set(array, i, elements.get(i));
+            }
+            return (T) array;
+        }
+
+        return (T) elements.toArray((Object[]) array);
     }
 }
@@ -1,7 +1,11 @@
 package love.forte.utils.converter.string;
 
+import love.forte.utils.converter.BindableConverter;
 import love.forte.utils.converter.BooleanConverter;
+import love.forte.utils.converter.BoundConverter;
+import love.forte.utils.converter.ConvertResult;
 import love.forte.utils.converter.ConverterExceptionUtil;
+import love.forte.utils.converter.NumberParser;
 import love.forte.utils.converter.StringSourceConverter;
 import org.jetbrains.annotations.NotNull;
 
@@ -12,8 +16,9 @@ import java.lang.reflect.Type;
  *
  * @author ForteScarlet
  */
-public final class StringToBooleanConverter extends BooleanConverter implements StringSourceConverter {
+public final class StringToBooleanConverter extends BooleanConverter implements StringSourceConverter, BindableConverter {
     public static final StringToBooleanConverter INSTANCE = new StringToBooleanConverter();
+    private static final String TRUE = "true";
 
     private StringToBooleanConverter() {
     }
@@ -23,8 +28,45 @@ public final class StringToBooleanConverter extends BooleanConverter implements
         if (source instanceof String) {
             return convertBoolean((String) source);
         }
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convertBoolean(charSequence, 0, charSequence.length());
+        }
+
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source);
+    }
+
+    @Override
+    public <T> T convert(@NotNull Object source, @NotNull Type target) {
+        if (source instanceof String) {
+            return convert((String) source, target);
+        }
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convert(charSequence, 0, charSequence.length(), target);
+        }
+
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source);
+    }
 
-        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.String", source);
+    /**
+     * 尝试进行转化。任意字符序列均可以被转化为 {@code boolean}，因此只会在来源或目标类型不受支持时失败，且不会构建异常。
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> ConvertResult<T> tryConvert(@NotNull Object source, @NotNull Type target) {
+        if (!(source instanceof CharSequence)) {
+            return ConvertResult.failure(source, target, "The type of 'source' must be java.lang.CharSequence");
+        }
+        if (!(Boolean.class.equals(target) || boolean.class.equals(target))) {
+            return ConvertResult.failure(source, target, "Unsupported target type");
+        }
+
+        final CharSequence charSequence = (CharSequence) source;
+        final boolean value = source instanceof String
+                ? convertBoolean((String) source)
+                : convertBoolean(charSequence, 0, charSequence.length());
+        return ConvertResult.success((T) (Boolean) value);
     }
 
     @SuppressWarnings("unchecked")
@@ -37,8 +79,73 @@ public final class StringToBooleanConverter extends BooleanConverter implements
         throw ConverterExceptionUtil.targetIllegalArgument("Class<Boolean> or Class<boolean>", target.toString());
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T convert(@NotNull CharSequence source, int start, int end, @NotNull Type target) {
+        if (Boolean.class.equals(target) || boolean.class.equals(target)) {
+            return (T) ((Boolean) convertBoolean(source, start, end));
+        }
+
+        throw ConverterExceptionUtil.targetIllegalArgument("Class<Boolean> or Class<boolean>", target.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S, T> BoundConverter<S, T> bind(@NotNull Class<S> sourceType, @NotNull Type target) {
+        if (!CharSequence.class.isAssignableFrom(sourceType)) {
+            throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", sourceType.toString());
+        }
+        if (!(Boolean.class.equals(target) || boolean.class.equals(target))) {
+            throw ConverterExceptionUtil.targetIllegalArgument("Class<Boolean> or Class<boolean>", target.toString());
+        }
+
+        if (String.class.equals(sourceType)) {
+            final BoundConverter<String, Boolean> bound = this::convertBoolean;
+            return (BoundConverter<S, T>) bound;
+        }
+
+        final BoundConverter<CharSequence, Boolean> bound = source -> convertBoolean(source, 0, source.length());
+        return (BoundConverter<S, T>) bound;
+    }
+
 
     public boolean convertBoolean(@NotNull String source) {
         return Boolean.parseBoolean(source);
     }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@code boolean}，
+     * 规则与 {@link Boolean#parseBoolean(String)} 一致：仅当内容忽略大小写后等于 {@code "true"} 时为 {@code true}。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 转化结果
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     */
+    public boolean convertBoolean(@NotNull CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        if (end - start != TRUE.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < TRUE.length(); i++) {
+            if (!equalsIgnoreCase(source.charAt(start + i), TRUE.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 与 {@link String#equalsIgnoreCase(String)} 对单个字符的比较规则一致。
+     */
+    private static boolean equalsIgnoreCase(char c1, char c2) {
+        if (c1 == c2) {
+            return true;
+        }
+        final char u1 = Character.toUpperCase(c1);
+        final char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
 }
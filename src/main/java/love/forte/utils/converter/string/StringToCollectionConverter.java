@@ -4,28 +4,27 @@ import love.forte.utils.converter.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.CharBuffer;
 import java.util.*;
-import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 将字符串转化为集合的转化器。
  * <p>
  * 当字符串符合 {@code str1,str2,str3} 的规则时，会逗号({@code ,}) 作为分隔符截取元素内容。
  * 此类的实现中，允许逗号({@code ,}) 前后分别额外存在 <b>至多一个</b> 空格字符。
+ * <p>
+ * 除了直接构建集合外，也可以通过 {@link #iterator(CharSequence, Type)} 或 {@link #stream(CharSequence, Type)}
+ * 以流式的方式逐个截取并转化元素。
  *
  * @see StringToArrayConverter
  * @author ForteScarlet
  */
 public class StringToCollectionConverter extends CollectionTargetConverter implements StringSourceConverter {
-    private static final String DEFAULT_SPLIT_PATTERN = " ?, ?";
-    private static final Pattern SPLIT_PATTERN = Pattern.compile(DEFAULT_SPLIT_PATTERN);
-    private static final Function<String, String> DEFAULT_STR_2_STR_CONVERTER = (str) -> str;
     private static final Supplier<ConverterUtil> DEFAULT_CONVERTER_UTIL_FACTORY = ConverterUtil::getDefault;
 
 
@@ -52,11 +51,12 @@ public class StringToCollectionConverter extends CollectionTargetConverter imple
 
     @Override
     public <T, LT extends Collection<T>> LT convert(@NotNull Object source, @NotNull Class<Collection<?>> targetCollectionType, @Nullable Type elementType) {
-        if (source instanceof String) {
-            return convert((String) source, targetCollectionType, elementType);
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convert(charSequence, 0, charSequence.length(), targetCollectionType, elementType);
         }
 
-        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.String", source);
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source);
     }
 
     @Override
@@ -70,6 +70,15 @@ public class StringToCollectionConverter extends CollectionTargetConverter imple
         }
     }
 
+    /**
+     * 范围内的内容会通过 {@link CharBuffer#wrap(CharSequence, int, int)} 以视图的形式进行解析，不会复制字符。
+     */
+    @Override
+    public <T> T convert(@NotNull CharSequence source, int start, int end, @NotNull Type target) {
+        NumberParser.checkRange(source, start, end);
+        return convert((Object) CharBuffer.wrap(source, start, end), target);
+    }
+
 
     /**
      * 将目标字符串转化为列表。
@@ -86,113 +95,191 @@ public class StringToCollectionConverter extends CollectionTargetConverter imple
      * @param elementType          元素类型
      * @return 列表结果
      */
-    @SuppressWarnings("unchecked")
     public <T, LT extends Collection<T>> LT convert(@NotNull String source, @NotNull Class<Collection<?>> targetCollectionType, @Nullable Type elementType) {
-        final Function<String, T> targetConverter;
-        if (null == elementType) {
-            targetConverter = str2Str();
-        } else if (elementType instanceof Class) {
-            if (elementType.equals(String.class) || elementType.equals(Object.class)) {
-                targetConverter = str2Str();
-            } else {
-                targetConverter = numberOrOtherConverter(elementType);
-            }
-        } else {
+        return convert(source, 0, source.length(), targetCollectionType, elementType);
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为列表。
+     * <p>
+     * 元素通过单次扫描截取，不会使用正则，元素会直接从范围内解析而不会额外构建字符串（元素类型为字符串时除外）。
+     * <p>
+     * 集合的实例化策略会按类型缓存，常见的集合类型会根据元素数量预先分配容量，
+     * 也支持 {@link IntList}、{@link LongList}、{@link DoubleList}（元素会被直接解析而不会装箱）、{@link EnumSet}、{@link TreeSet}、{@link java.util.concurrent.CopyOnWriteArrayList} 以及不可变的 {@code List}、{@code Set} 等类型。
+     *
+     * @param source               目标字符序列
+     * @param start                起始索引（包含）
+     * @param end                  结束索引（不包含）
+     * @param targetCollectionType 列表类型
+     * @param elementType          元素类型
+     * @return 列表结果
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     * @see #convert(String, Class, Type)
+     */
+    @SuppressWarnings("unchecked")
+    public <T, LT extends Collection<T>> LT convert(@NotNull CharSequence source, int start, int end,
+                                                    @NotNull Class<Collection<?>> targetCollectionType, @Nullable Type elementType) {
+        if (elementType != null && !(elementType instanceof Class)) {
             throw ConverterExceptionUtil.targetIllegalArgument("'Element type'", "", elementType.getClass());
         }
+        final TokenConverter<T> targetConverter = TokenConverter.of(elementType, otherTypeConverterUtilFactory);
 
-        final LT collection;
-        final String[] splitArray;
-
-        if (targetCollectionType.equals(List.class)) {
-            splitArray = SPLIT_PATTERN.split(source);
-            collection = (LT) new ArrayList<>(splitArray.length);
-        } else if (targetCollectionType.equals(Set.class)) {
-            splitArray = SPLIT_PATTERN.split(source);
-            collection = (LT) new HashSet<>(splitArray.length);
-        } else {
-            // try to create instance.
-            try {
-                final Constructor<?> constructor = targetCollectionType.getConstructor();
-                collection = (LT) constructor.newInstance();
-            } catch (ClassCastException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                throw new ConvertException("Cannot to create instance for collection type " + targetCollectionType + ": " + e.getLocalizedMessage(), e);
-            }
-
-            // 在实例化之后split以避免无用功
-            splitArray = SPLIT_PATTERN.split(source);
+        final DelimitedTokenizer tokenizer = new DelimitedTokenizer(source, start, end);
+        final CollectionInstantiator instantiator = CollectionInstantiator.of(targetCollectionType);
+        final Collection<Object> collection = instantiator.newCollection(instantiator.isSizeAware() ? tokenizer.count() : -1, (Class<?>) elementType);
+        if (fillPrimitiveList(collection, tokenizer)) {
+            return (LT) collection;
         }
 
 
-        for (String str : splitArray) {
-            collection.add(targetConverter.apply(str));
+        while (tokenizer.next()) {
+            collection.add(targetConverter.convert(source, tokenizer.tokenStart(), tokenizer.tokenEnd()));
         }
 
 
-        return collection;
+        return (LT) instantiator.finish(collection);
     }
 
 
-    @SuppressWarnings("unchecked")
-    private <T> Function<String, T> numberOrOtherConverter(Type elementType) {
-        final TypeUtil.PrimitiveType primitiveType = TypeUtil.PrimitiveType.findByType(elementType);
-        if (primitiveType != null) {
-            if (Number.class.isAssignableFrom(primitiveType.getType())) {
-                // is type of number
-                final StringToNumberConverter<?> toNumberConverter;
-                switch (primitiveType) {
-                    case BYTE:
-                        toNumberConverter = StringToNumberConverter.ToByte.INSTANCE;
-                        break;
-                    case SHORT:
-                        toNumberConverter = StringToNumberConverter.ToShort.INSTANCE;
-                        break;
-                    case INT:
-                        toNumberConverter = StringToNumberConverter.ToInt.INSTANCE;
-                        break;
-                    case LONG:
-                        toNumberConverter = StringToNumberConverter.ToLong.INSTANCE;
-                        break;
-                    case DOUBLE:
-                        toNumberConverter = StringToNumberConverter.ToDouble.INSTANCE;
-                        break;
-                    case FLOAT:
-                        toNumberConverter = StringToNumberConverter.ToFloat.INSTANCE;
-                        break;
-                    default:
-                        toNumberConverter = null;
-                }
-
-                if (toNumberConverter != null) {
-                    return (str) -> (T) toNumberConverter.convertNumber(str);
-                } else {
-                    // not primitive number
-                    return otherConverter(elementType);
-                }
-
-            } else {
-                // not number
-                return otherConverter(elementType);
+    /**
+     * 当集合为 {@link IntList}、{@link LongList} 或 {@link DoubleList} 时，将元素直接解析并写入。
+     *
+     * @return 是否为上述类型
+     */
+    private static boolean fillPrimitiveList(Collection<?> collection, DelimitedTokenizer tokenizer) {
+        final CharSequence source = tokenizer.source();
+        if (collection instanceof IntList) {
+            final IntList list = (IntList) collection;
+            while (tokenizer.next()) {
+                list.addInt(NumberParser.parseInt(source, tokenizer.tokenStart(), tokenizer.tokenEnd()));
             }
-        } else {
-            // not primitive
-            return otherConverter(elementType);
+            return true;
+        }
+        if (collection instanceof LongList) {
+            final LongList list = (LongList) collection;
+            while (tokenizer.next()) {
+                list.addLong(NumberParser.parseLong(source, tokenizer.tokenStart(), tokenizer.tokenEnd()));
+            }
+            return true;
+        }
+        if (collection instanceof DoubleList) {
+            final DoubleList list = (DoubleList) collection;
+            while (tokenizer.next()) {
+                list.addDouble(NumberParser.parseDouble(source, tokenizer.tokenStart(), tokenizer.tokenEnd()));
+            }
+            return true;
         }
+
+        return false;
     }
 
+    /**
+     * 以流式的方式对目标字符序列进行截取与转化。
+     * <p>
+     * 元素只会在迭代时才被截取和转化，不会预先分割整个字符序列，也不会构建集合。
+     * 适用于内容较大、且调用者只需要对元素进行过滤、短路或聚合等处理的情况。
+     * 截取规则与 {@link #convert(String, Class, Type)} 一致。
+     * <p>
+     * 当 {@code source} 为可变的字符序列（例如 {@link StringBuilder}）时，迭代期间不应修改其内容。
+     *
+     * @param source      目标字符序列
+     * @param elementType 元素类型
+     * @param <T>         元素类型
+     * @return 元素迭代器
+     * @see #stream(CharSequence, Type)
+     */
+    public <T> Iterator<T> iterator(@NotNull CharSequence source, @Nullable Type elementType) {
+        return iterator(source, 0, source.length(), elementType);
+    }
 
-    private <T> Function<String, T> otherConverter(Type targetType) {
-        final ConverterUtil converterUtil = otherTypeConverterUtilFactory.get();
-        if (converterUtil != null) {
-            return (str) -> converterUtil.convert(str, targetType);
-        } else {
-            throw new NoSuchConverterException("java.lang.String", targetType.getTypeName());
+    /**
+     * 以流式的方式对字符序列中 {@code [start, end)} 范围内的内容进行截取与转化。
+     *
+     * @param source      目标字符序列
+     * @param start       起始索引（包含）
+     * @param end         结束索引（不包含）
+     * @param elementType 元素类型
+     * @param <T>         元素类型
+     * @return 元素迭代器
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     * @see #iterator(CharSequence, Type)
+     */
+    public <T> Iterator<T> iterator(@NotNull CharSequence source, int start, int end, @Nullable Type elementType) {
+        if (elementType != null && !(elementType instanceof Class)) {
+            throw ConverterExceptionUtil.targetIllegalArgument("'Element type'", "", elementType.getClass());
         }
+        final TokenConverter<T> targetConverter = TokenConverter.of(elementType, otherTypeConverterUtilFactory);
+        return new TokenIterator<>(new DelimitedTokenizer(source, start, end), targetConverter);
     }
 
+    /**
+     * 以流式的方式对目标字符序列进行截取与转化。
+     *
+     * @param source      目标字符序列
+     * @param elementType 元素类型
+     * @param <T>         元素类型
+     * @return 顺序流
+     * @see #iterator(CharSequence, Type)
+     */
+    public <T> Stream<T> stream(@NotNull CharSequence source, @Nullable Type elementType) {
+        return stream(source, 0, source.length(), elementType);
+    }
 
-    @SuppressWarnings("unchecked")
-    private <T> Function<String, T> str2Str() {
-        return (Function<String, T>) DEFAULT_STR_2_STR_CONVERTER;
+    /**
+     * 以流式的方式对字符序列中 {@code [start, end)} 范围内的内容进行截取与转化。
+     *
+     * @param source      目标字符序列
+     * @param start       起始索引（包含）
+     * @param end         结束索引（不包含）
+     * @param elementType 元素类型
+     * @param <T>         元素类型
+     * @return 顺序流
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     * @see #iterator(CharSequence, int, int, Type)
+     */
+    public <T> Stream<T> stream(@NotNull CharSequence source, int start, int end, @Nullable Type elementType) {
+        final Iterator<T> iterator = iterator(source, start, end, elementType);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+
+    /**
+     * 按需截取并转化元素的迭代器。
+     */
+    private static final class TokenIterator<T> implements Iterator<T> {
+        private final DelimitedTokenizer tokenizer;
+        private final TokenConverter<T> converter;
+
+        /**
+         * 是否已经定位到下一个元素且尚未被消费。
+         */
+        private boolean ready;
+        private boolean finished;
+
+        private TokenIterator(DelimitedTokenizer tokenizer, TokenConverter<T> converter) {
+            this.tokenizer = tokenizer;
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready && !finished) {
+                if (tokenizer.next()) {
+                    ready = true;
+                } else {
+                    finished = true;
+                }
+            }
+            return ready;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return converter.convert(tokenizer.source(), tokenizer.tokenStart(), tokenizer.tokenEnd());
+        }
     }
 }
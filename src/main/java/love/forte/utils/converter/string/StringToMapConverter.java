@@ -0,0 +1,196 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.nio.CharBuffer;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 将字符串转化为 {@link Map} 的转化器。
+ * <p>
+ * 当字符串符合 {@code key1=value1, key2=value2} 的规则时，以逗号({@code ,}) 作为元素的分隔符、
+ * 以每个元素中的第一个等号({@code =}) 作为键与值的分隔符，因此值中可以存在等号，但键与值中均不能存在逗号。
+ * 键与值前后的空格与制表符会被忽略，空的元素会被忽略，不存在等号的元素的值为空内容。当键重复时，以最后一个为准。
+ * <p>
+ * 元素、键与值的范围通过单次扫描确定，键与值会直接从范围内解析（类型为字符串时除外）。
+ * 目标类型可以通过 {@link TypeUtil#map(Type, Type)} 构建，
+ * 支持 {@link java.util.HashMap}、{@link java.util.LinkedHashMap}、{@link java.util.TreeMap}、{@link java.util.EnumMap}、
+ * {@link java.util.concurrent.ConcurrentHashMap} 等常见类型（会根据元素数量预先分配容量）或存在公开无参构造的类型。
+ *
+ * @author ForteScarlet
+ * @see StringToCollectionConverter
+ */
+public class StringToMapConverter extends MapTargetConverter implements StringSourceConverter {
+    private static final Supplier<ConverterUtil> DEFAULT_CONVERTER_UTIL_FACTORY = ConverterUtil::getDefault;
+    private static final char ENTRY_DELIMITER = ',';
+    private static final char KEY_VALUE_DELIMITER = '=';
+
+
+    private final Supplier<ConverterUtil> otherTypeConverterUtilFactory;
+
+    /**
+     * 可以提供一个默认的转化器工厂，转化器会利用此工厂提供的转化器来对其他未知类型的键与值进行转化。
+     * 默认情况下使用 {@link ConverterUtil#getDefault()}
+     *
+     * @param otherTypeConverterUtilFactory factory.
+     */
+    public StringToMapConverter(@Nullable Supplier<ConverterUtil> otherTypeConverterUtilFactory) {
+        this.otherTypeConverterUtilFactory = otherTypeConverterUtilFactory == null ? DEFAULT_CONVERTER_UTIL_FACTORY : otherTypeConverterUtilFactory;
+    }
+
+    public StringToMapConverter() {
+        this(null);
+    }
+
+
+    @Override
+    public <K, V, MT extends Map<K, V>> MT convert(@NotNull Object source, @NotNull Class<Map<?, ?>> targetMapType,
+                                                  @Nullable Type keyType, @Nullable Type valueType) {
+        if (source instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) source;
+            return convert(charSequence, 0, charSequence.length(), targetMapType, keyType, valueType);
+        }
+
+        throw ConverterExceptionUtil.sourceIllegalArgument("java.lang.CharSequence", source);
+    }
+
+    @Override
+    public <T> T convert(@NotNull String source, @NotNull Type target) {
+        return convert((Object) source, target);
+    }
+
+    /**
+     * 范围内的内容会通过 {@link CharBuffer#wrap(CharSequence, int, int)} 以视图的形式进行解析，不会复制字符。
+     */
+    @Override
+    public <T> T convert(@NotNull CharSequence source, int start, int end, @NotNull Type target) {
+        NumberParser.checkRange(source, start, end);
+        return convert((Object) CharBuffer.wrap(source, start, end), target);
+    }
+
+    /**
+     * 将目标字符串转化为 Map。
+     * <p>
+     * 键与值的类型 {@code keyType}、{@code valueType} 支持的类型与 {@link StringToCollectionConverter#convert(String, Class, Type)} 的元素类型一致，
+     * 为 {@code null} 时作为字符串处理。
+     *
+     * @param source        目标对象
+     * @param targetMapType Map 类型
+     * @param keyType       键的类型
+     * @param valueType     值的类型
+     * @return Map 结果
+     */
+    public <K, V, MT extends Map<K, V>> MT convert(@NotNull String source, @NotNull Class<Map<?, ?>> targetMapType,
+                                                  @Nullable Type keyType, @Nullable Type valueType) {
+        return convert(source, 0, source.length(), targetMapType, keyType, valueType);
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 Map。
+     * <p>
+     * 键与值的转化函数在每次调用时只会确定一次。
+     *
+     * @param source        目标字符序列
+     * @param start         起始索引（包含）
+     * @param end           结束索引（不包含）
+     * @param targetMapType Map 类型
+     * @param keyType       键的类型
+     * @param valueType     值的类型
+     * @return Map 结果
+     * @throws IndexOutOfBoundsException 当范围不合法时。
+     * @see #convert(String, Class, Type, Type)
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V, MT extends Map<K, V>> MT convert(@NotNull CharSequence source, int start, int end, @NotNull Class<Map<?, ?>> targetMapType,
+                                                  @Nullable Type keyType, @Nullable Type valueType) {
+        NumberParser.checkRange(source, start, end);
+        if (keyType != null && !(keyType instanceof Class)) {
+            throw ConverterExceptionUtil.targetIllegalArgument("'Key type'", "", keyType.getClass());
+        }
+        if (valueType != null && !(valueType instanceof Class)) {
+            throw ConverterExceptionUtil.targetIllegalArgument("'Value type'", "", valueType.getClass());
+        }
+        final TokenConverter<K> keyConverter = TokenConverter.of(keyType, otherTypeConverterUtilFactory);
+        final TokenConverter<V> valueConverter = TokenConverter.of(valueType, otherTypeConverterUtilFactory);
+
+        final MapInstantiator instantiator = MapInstantiator.of(targetMapType);
+        final Map<Object, Object> map = instantiator.newMap(instantiator.isSizeAware() ? countEntries(source, start, end) : -1, (Class<?>) keyType);
+
+        int entryStart = start;
+        while (entryStart < end) {
+            int entryEnd = entryStart;
+            int delimiter = -1;
+            for (; entryEnd < end; entryEnd++) {
+                final char c = source.charAt(entryEnd);
+                if (c == ENTRY_DELIMITER) {
+                    break;
+                }
+                if (c == KEY_VALUE_DELIMITER && delimiter < 0) {
+                    delimiter = entryEnd;
+                }
+            }
+
+            final int keyStart = skipBlanks(source, entryStart, entryEnd);
+            if (keyStart < entryEnd) {
+                final int keyEnd;
+                final int valueStart;
+                final int valueEnd;
+                if (delimiter < 0) {
+                    keyEnd = trimBlanks(source, keyStart, entryEnd);
+                    valueStart = valueEnd = entryEnd;
+                } else {
+                    keyEnd = trimBlanks(source, keyStart, delimiter);
+                    valueStart = skipBlanks(source, delimiter + 1, entryEnd);
+                    valueEnd = trimBlanks(source, valueStart, entryEnd);
+                }
+
+                map.put(keyConverter.convert(source, keyStart, keyEnd), valueConverter.convert(source, valueStart, valueEnd));
+            }
+
+            entryStart = entryEnd + 1;
+        }
+
+        return (MT) instantiator.finish(map);
+    }
+
+    /**
+     * 元素数量的上限，即分隔符的数量加一。
+     */
+    private static int countEntries(CharSequence source, int start, int end) {
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            if (source.charAt(i) == ENTRY_DELIMITER) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * @return {@code [start, end)} 中第一个不是空白的位置，不存在时为 {@code end}
+     */
+    private static int skipBlanks(CharSequence source, int start, int end) {
+        while (start < end && isBlank(source.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @return 去除 {@code [start, end)} 末尾的空白后的结束位置
+     */
+    private static int trimBlanks(CharSequence source, int start, int end) {
+        while (end > start && isBlank(source.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+}
@@ -1,17 +1,40 @@
 package love.forte.utils.converter.string;
 
 import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.ConvertResult;
+import love.forte.utils.converter.NumberParser;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Type;
+import java.nio.CharBuffer;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -35,44 +58,206 @@ import java.util.concurrent.TimeUnit;
  *     <li>{@link java.time.Period}</li>
  *     <li>{@link java.time.Year}</li>
  *     <li>{@link java.time.Month}</li>
- *     <li>{@link java.time.YearMonth}</li>
  *     <li>{@link java.time.DayOfWeek}</li>
  * </ul>
+ * <p>
+ * {@link LocalDate}、{@link LocalTime}、{@link LocalDateTime}、{@link OffsetDateTime}、{@link ZonedDateTime}、{@link Instant}
+ * 的常见 ISO-8601 格式（例如 {@code 2022-01-02T03:04:05.678+08:00}）会被直接解析，
+ * 其他格式才会交由 {@link DateTimeFormatter} 处理。
+ * <p>
+ * 通过 {@link #create(DateTimeFormatter, TimeUnit)} 指定时间戳的单位后，{@link Instant}、{@link OffsetDateTime}、{@link ZonedDateTime}、
+ * {@link Date}、{@link Clock} 还支持该单位的时间戳（例如单位为毫秒时的 {@code 1641063845678}）。
+ * 由于仅凭内容无法区分秒与毫秒，没有指定单位时（例如 {@link #INSTANCE}）不会将数字内容视为时间戳，而是交由 {@link DateTimeFormatter} 等进行解析。
+ * <p>
+ * 此类是线程安全的。
  *
  * @author ForteScarlet
  */
-public class StringToTimeConverter extends StringSourceClassTargetConverter {
+public final class StringToTimeConverter extends StringSourceClassTargetConverter {
+    public static final StringToTimeConverter INSTANCE = new StringToTimeConverter(null, null);
 
-    // todo
+    private static final DateFormat DATE_FORMAT = DateFormat.getDateInstance();
 
-    private DateFormat dateFormat = DateFormat.getDateInstance();
+    @Nullable
+    private final DateTimeFormatter formatter;
 
-    private DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    @Nullable
+    private final TimeUnit epochUnit;
 
+    private final Map<Class<?>, TimeParser> convertersMap;
 
-    private final Map<Class<?>, ThrowableFunction<String, Object>> convertersMap;
+    private StringToTimeConverter(@Nullable DateTimeFormatter formatter, @Nullable TimeUnit epochUnit) {
+        this.formatter = formatter;
+        this.epochUnit = epochUnit;
 
-    private StringToTimeConverter() {
+        Map<Class<?>, TimeParser> convertersMap = new HashMap<>();
+        convertersMap.put(TimeUnit.class, (source, start, end) -> TimeUnit.valueOf(range(source, start, end).toString()));
+        convertersMap.put(Date.class, (source, start, end) -> convertToDate(range(source, start, end).toString()));
+        convertersMap.put(LocalDate.class, this::convertToLocalDate);
+        convertersMap.put(LocalTime.class, this::convertToLocalTime);
+        convertersMap.put(LocalDateTime.class, this::convertToLocalDateTime);
+        convertersMap.put(OffsetDateTime.class, this::convertToOffsetDateTime);
+        convertersMap.put(ZonedDateTime.class, this::convertToZonedDateTime);
+        convertersMap.put(Instant.class, this::convertToInstant);
+        convertersMap.put(Clock.class, (source, start, end) -> Clock.fixed(convertToInstant(source, start, end), ZoneOffset.UTC));
+        convertersMap.put(OffsetTime.class, (source, start, end) -> parse(source, start, end, OffsetTime::from, OffsetTime::parse));
+        convertersMap.put(MonthDay.class, (source, start, end) -> parse(source, start, end, MonthDay::from, MonthDay::parse));
+        convertersMap.put(YearMonth.class, (source, start, end) -> parse(source, start, end, YearMonth::from, YearMonth::parse));
+        convertersMap.put(Year.class, (source, start, end) -> parse(source, start, end, Year::from, Year::parse));
+        convertersMap.put(Duration.class, (source, start, end) -> Duration.parse(range(source, start, end)));
+        convertersMap.put(Period.class, (source, start, end) -> Period.parse(range(source, start, end)));
+        convertersMap.put(Month.class, (source, start, end) -> Month.valueOf(range(source, start, end).toString()));
+        convertersMap.put(DayOfWeek.class, (source, start, end) -> DayOfWeek.valueOf(range(source, start, end).toString()));
 
+        this.convertersMap = convertersMap;
+    }
 
-        Map<Class<?>, ThrowableFunction<String, Object>> convertersMap = new HashMap<>();
-        convertersMap.put(Date.class, this::convertToDate);
-        convertersMap.put(TimeUnit.class, this::convertToTimeUnit);
+    /**
+     * 构建一个转化器。当内容不是 ISO-8601 格式时，会使用 {@code formatter} 进行解析。
+     *
+     * @param formatter 用于非 ISO-8601 格式的解析器
+     * @return {@link StringToTimeConverter}
+     */
+    public static StringToTimeConverter create(@NotNull DateTimeFormatter formatter) {
+        return new StringToTimeConverter(Objects.requireNonNull(formatter, "formatter"), null);
+    }
 
+    /**
+     * 构建一个支持时间戳的转化器。数字内容（可以带有小数）会被视为以 {@code epochUnit} 为单位的时间戳。
+     *
+     * @param formatter 用于非 ISO-8601 格式的解析器，为null时使用对应类型的默认解析函数
+     * @param epochUnit 时间戳的单位，只能为 {@link TimeUnit#SECONDS} 或更精细的单位
+     * @return {@link StringToTimeConverter}
+     * @throws IllegalArgumentException 当 {@code epochUnit} 比秒更粗略时
+     */
+    public static StringToTimeConverter create(@Nullable DateTimeFormatter formatter, @NotNull TimeUnit epochUnit) {
+        if (Objects.requireNonNull(epochUnit, "epochUnit").compareTo(TimeUnit.SECONDS) > 0) {
+            throw new IllegalArgumentException("epochUnit must not be coarser than SECONDS, but " + epochUnit);
+        }
+        return new StringToTimeConverter(formatter, epochUnit);
+    }
 
-        this.convertersMap = convertersMap;
+    /**
+     * 得到所有支持的目标类型。
+     *
+     * @return 目标类型
+     */
+    public Set<Class<?>> getSupportedTypes() {
+        return Collections.unmodifiableSet(convertersMap.keySet());
     }
 
     @Override
     protected Object convertStringByClass(@NotNull String source, @NotNull Class<?> target) {
-        final ThrowableFunction<String, Object> converter = convertersMap.get(target);
+        return convertTime(source, 0, source.length(), target);
+    }
+
+    /**
+     * 范围内的内容会直接进行解析，当需要交由 {@link DateTimeFormatter} 处理时，
+     * 会通过 {@link CharBuffer#wrap(CharSequence, int, int)} 以视图的形式提供，不会复制字符。
+     */
+    @Override
+    protected Object convertCharSequenceByClass(@NotNull CharSequence source, int start, int end, @NotNull Class<?> target) {
+        return convertTime(source, start, end, target);
+    }
+
+    /**
+     * 尝试进行转化。{@link TimeUnit}、{@link Month}、{@link DayOfWeek} 会直接判断名称，
+     * 常见的 ISO-8601 格式与（指定了单位时的）时间戳会直接解析，这些情况下失败时不会在内部构建异常。
+     * 其他内容需要交由 {@link DateTimeFormatter} 等进行解析，此时会捕获解析时出现的异常。
+     */
+    @Override
+    public <T> ConvertResult<T> tryConvert(@NotNull Object source, @NotNull Type target) {
+        if (!(source instanceof CharSequence)) {
+            return ConvertResult.failure(source, target, "The type of 'source' must be java.lang.CharSequence");
+        }
+        if (!(target instanceof Class)) {
+            return super.tryConvert(source, target);
+        }
+        if (!convertersMap.containsKey(target)) {
+            return ConvertResult.failure(source, target, "Unsupported target type");
+        }
+
+        final CharSequence charSequence = (CharSequence) source;
+        final Class<?> targetClass = (Class<?>) target;
+        if (targetClass.isEnum()) {
+            final Object constant = enumConstant(targetClass, charSequence);
+            return constant == null
+                    ? ConvertResult.failure(source, target, "No enum constant")
+                    : ConvertResult.success(cast(constant));
+        }
+
+        final Object fast = parseFast(charSequence, 0, charSequence.length(), targetClass);
+        if (fast != null) {
+            return ConvertResult.success(cast(fast));
+        }
+
+        return super.tryConvert(source, target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    /**
+     * 不构建异常地查找名称与内容相同的枚举常量，规则与 {@link Enum#valueOf(Class, String)} 一致。
+     */
+    @Nullable
+    private static Object enumConstant(Class<?> enumType, CharSequence name) {
+        for (Object constant : enumType.getEnumConstants()) {
+            final String constantName = ((Enum<?>) constant).name();
+            if (constantName.contentEquals(name)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 通过 {@link IsoTimeParser} 直接解析常见的格式。
+     *
+     * @return 解析结果，当目标类型没有直接解析的实现或内容不符合时得到null。
+     */
+    @Nullable
+    private Object parseFast(CharSequence source, int start, int end, Class<?> target) {
+        if (target == LocalDate.class) {
+            return IsoTimeParser.parseLocalDate(source, start, end);
+        }
+        if (target == LocalTime.class) {
+            return IsoTimeParser.parseLocalTime(source, start, end);
+        }
+        if (target == LocalDateTime.class) {
+            return IsoTimeParser.parseLocalDateTime(source, start, end);
+        }
+        if (target == OffsetDateTime.class) {
+            return offsetDateTimeFast(source, start, end);
+        }
+        if (target == ZonedDateTime.class) {
+            return zonedDateTimeFast(source, start, end);
+        }
+        if (target == Instant.class) {
+            return instantFast(source, start, end);
+        }
+        if (target == Clock.class) {
+            final Instant instant = instantFast(source, start, end);
+            return instant == null ? null : Clock.fixed(instant, ZoneOffset.UTC);
+        }
+        if (target == Date.class) {
+            final Instant instant = dateInstantFast(source, start, end);
+            return instant == null ? null : Date.from(instant);
+        }
+        return null;
+    }
+
+    private Object convertTime(@NotNull CharSequence source, int start, int end, @NotNull Class<?> target) {
+        final TimeParser converter = convertersMap.get(target);
         if (converter == null) {
             throw new ConvertException("Convert type not supported: " + target);
         }
 
 
         try {
-            return converter.apply(source);
+            return converter.parse(source, start, end);
         } catch (Exception e) {
             throw new ConvertException("Convert failed.", e);
         }
@@ -92,57 +277,255 @@ public class StringToTimeConverter extends StringSourceClassTargetConverter {
 
     /**
      * {@link String} 转化为 {@link Date}.
+     * <p>
+     * 支持 ISO-8601 格式与（指定了单位时的）时间戳，没有时区偏移的日期时间会使用系统默认时区。
+     * 其他格式会通过 {@link DateFormat#getDateInstance()} 进行解析。
      *
      * @param source string source
      * @return date
      * @throws ParseException 日期转化异常。
      */
     public Date convertToDate(String source) throws ParseException {
-        return dateFormat.parse(source);
+        final Instant instant = dateInstantFast(source, 0, source.length());
+        if (instant != null) {
+            return Date.from(instant);
+        }
+
+        // DateFormat 不是线程安全的
+        return ((DateFormat) DATE_FORMAT.clone()).parse(source);
+    }
+
+    @Nullable
+    private Instant dateInstantFast(CharSequence source, int start, int end) {
+        final Instant epoch = parseEpoch(source, start, end);
+        if (epoch != null) {
+            return epoch;
+        }
+        final OffsetDateTime offsetDateTime = IsoTimeParser.parseOffsetDateTime(source, start, end);
+        if (offsetDateTime != null) {
+            return offsetDateTime.toInstant();
+        }
+
+        LocalDateTime localDateTime = IsoTimeParser.parseLocalDateTime(source, start, end);
+        if (localDateTime == null) {
+            final LocalDate localDate = IsoTimeParser.parseLocalDate(source, start, end);
+            localDateTime = localDate == null ? null : localDate.atStartOfDay();
+        }
+        return localDateTime == null ? null : localDateTime.atZone(ZoneId.systemDefault()).toInstant();
     }
 
     //region Local date time
     /**
-     * {@link String} 转化为 {@link LocalDateTime}.
+     * {@link CharSequence} 转化为 {@link LocalDateTime}.
      *
      * @param source source string.
      * @return local date time.
      */
-    public LocalDateTime convertToLocalDateTime(String source) {
-        return LocalDateTime.parse(source, dateTimeFormatter);
+    public LocalDateTime convertToLocalDateTime(CharSequence source) {
+        return convertToLocalDateTime(source, 0, source.length());
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@link LocalDateTime}.
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return local date time.
+     */
+    public LocalDateTime convertToLocalDateTime(CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        final LocalDateTime result = IsoTimeParser.parseLocalDateTime(source, start, end);
+        return result != null ? result : parse(source, start, end, LocalDateTime::from, LocalDateTime::parse);
     }
 
     /**
-     * {@link String} 转化为 {@link LocalDate}.
+     * {@link CharSequence} 转化为 {@link LocalDate}.
      *
      * @param source source string.
      * @return local date.
      */
-    public LocalDate convertToLocalDate(String source) {
-        return LocalDate.parse(source, dateTimeFormatter);
+    public LocalDate convertToLocalDate(CharSequence source) {
+        return convertToLocalDate(source, 0, source.length());
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@link LocalDate}.
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return local date.
+     */
+    public LocalDate convertToLocalDate(CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        final LocalDate result = IsoTimeParser.parseLocalDate(source, start, end);
+        return result != null ? result : parse(source, start, end, LocalDate::from, LocalDate::parse);
     }
 
     /**
-     * {@link String} 转化为 {@link LocalTime}.
+     * {@link CharSequence} 转化为 {@link LocalTime}.
      *
      * @param source source string.
      * @return local time.
      */
-    public LocalTime convertToLocalTime(String source) {
-        return LocalTime.parse(source, dateTimeFormatter);
+    public LocalTime convertToLocalTime(CharSequence source) {
+        return convertToLocalTime(source, 0, source.length());
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@link LocalTime}.
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return local time.
+     */
+    public LocalTime convertToLocalTime(CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        final LocalTime result = IsoTimeParser.parseLocalTime(source, start, end);
+        return result != null ? result : parse(source, start, end, LocalTime::from, LocalTime::parse);
+    }
+    //endregion
+
+    //region Offset date time
+    /**
+     * {@link CharSequence} 转化为 {@link OffsetDateTime}，（指定了单位时的）时间戳会使用 UTC 时区偏移。
+     *
+     * @param source source string.
+     * @return offset date time.
+     */
+    public OffsetDateTime convertToOffsetDateTime(CharSequence source) {
+        return convertToOffsetDateTime(source, 0, source.length());
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@link OffsetDateTime}，（指定了单位时的）时间戳会使用 UTC 时区偏移。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return offset date time.
+     */
+    public OffsetDateTime convertToOffsetDateTime(CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        final OffsetDateTime result = offsetDateTimeFast(source, start, end);
+        return result != null ? result : parse(source, start, end, OffsetDateTime::from, OffsetDateTime::parse);
+    }
+
+    @Nullable
+    private OffsetDateTime offsetDateTimeFast(CharSequence source, int start, int end) {
+        final OffsetDateTime result = IsoTimeParser.parseOffsetDateTime(source, start, end);
+        if (result != null) {
+            return result;
+        }
+        final Instant epoch = parseEpoch(source, start, end);
+        return epoch == null ? null : epoch.atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * {@link CharSequence} 转化为 {@link ZonedDateTime}，（指定了单位时的）时间戳会使用 UTC 时区偏移。
+     *
+     * @param source source string.
+     * @return zoned date time.
+     */
+    public ZonedDateTime convertToZonedDateTime(CharSequence source) {
+        return convertToZonedDateTime(source, 0, source.length());
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@link ZonedDateTime}，（指定了单位时的）时间戳会使用 UTC 时区偏移。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return zoned date time.
+     */
+    public ZonedDateTime convertToZonedDateTime(CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        final ZonedDateTime result = zonedDateTimeFast(source, start, end);
+        return result != null ? result : parse(source, start, end, ZonedDateTime::from, ZonedDateTime::parse);
+    }
+
+    @Nullable
+    private ZonedDateTime zonedDateTimeFast(CharSequence source, int start, int end) {
+        final OffsetDateTime result = IsoTimeParser.parseOffsetDateTime(source, start, end);
+        if (result != null) {
+            return result.toZonedDateTime();
+        }
+        final Instant epoch = parseEpoch(source, start, end);
+        return epoch == null ? null : epoch.atZone(ZoneOffset.UTC);
+    }
+
+    /**
+     * {@link CharSequence} 转化为 {@link Instant}.
+     *
+     * @param source source string.
+     * @return instant.
+     */
+    public Instant convertToInstant(CharSequence source) {
+        return convertToInstant(source, 0, source.length());
+    }
+
+    /**
+     * 将字符序列中 {@code [start, end)} 范围内的内容转化为 {@link Instant}.
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return instant.
+     */
+    public Instant convertToInstant(CharSequence source, int start, int end) {
+        NumberParser.checkRange(source, start, end);
+        final Instant result = instantFast(source, start, end);
+        return result != null ? result : parse(source, start, end, Instant::from, Instant::parse);
+    }
+
+    @Nullable
+    private Instant instantFast(CharSequence source, int start, int end) {
+        final Instant epoch = parseEpoch(source, start, end);
+        return epoch != null ? epoch : IsoTimeParser.parseInstant(source, start, end);
     }
     //endregion
 
+    @Nullable
+    private Instant parseEpoch(CharSequence source, int start, int end) {
+        return epochUnit == null ? null : IsoTimeParser.parseEpoch(source, start, end, epochUnit);
+    }
+
+    /**
+     * 通过 {@link #formatter} 进行解析，不存在时使用对应类型的默认解析函数。
+     */
+    private <T> T parse(CharSequence source, int start, int end, TemporalQuery<T> query, DefaultParser<T> defaultParser) {
+        final CharSequence text = range(source, start, end);
+        return formatter != null ? formatter.parse(text, query) : defaultParser.parse(text);
+    }
+
+    private static CharSequence range(CharSequence source, int start, int end) {
+        if (start == 0 && end == source.length()) {
+            return source;
+        }
+
+        return CharBuffer.wrap(source, start, end);
+    }
+
 
     @FunctionalInterface
-    private interface ThrowableFunction<T, R> {
+    private interface TimeParser {
         /**
-         * 执行
+         * 解析 {@code [start, end)} 范围内的内容。
          *
-         * @param t param
+         * @param source 字符序列
+         * @param start  起始索引（包含）
+         * @param end    结束索引（不包含）
          * @return result
          * @throws Exception any exception
          */
-        R apply(T t) throws Exception;
+        Object parse(CharSequence source, int start, int end) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface DefaultParser<T> {
+        T parse(CharSequence text);
     }
 }
@@ -0,0 +1,98 @@
+package love.forte.utils.converter.string;
+
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.NoSuchConverterException;
+import love.forte.utils.converter.StringToNumberConverter;
+import love.forte.utils.converter.TypeMeta;
+import love.forte.utils.converter.TypeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+/**
+ * 将字符序列中某一范围内的元素内容转化为目标元素类型的转化函数。
+ *
+ * @param <T> 元素类型
+ * @author ForteScarlet
+ * @see DelimitedTokenizer
+ */
+@FunctionalInterface
+interface TokenConverter<T> {
+
+    /**
+     * 转化 {@code [start, end)} 范围内的元素。
+     *
+     * @param source 字符序列
+     * @param start  起始索引（包含）
+     * @param end    结束索引（不包含）
+     * @return 转化结果
+     */
+    T convert(@NotNull CharSequence source, int start, int end);
+
+    /**
+     * 得到元素类型所对应的转化函数。
+     * <ul>
+     *     <li>null / Object / String：作为字符串处理</li>
+     *     <li>Number / Boolean（包括基础数据类型）：由 {@link StringToNumberConverter} 与 {@link StringToBooleanConverter} 直接解析范围</li>
+     *     <li>枚举：通过 {@link Enum#valueOf(Class, String)} 根据名称得到常量</li>
+     *     <li>其他类型：由 {@code converterUtilFactory} 提供的 {@link ConverterUtil} 进行转化</li>
+     * </ul>
+     *
+     * @param elementType          元素类型
+     * @param converterUtilFactory 其他类型所使用的转化器工厂
+     * @param <T>                  元素类型
+     * @return 转化函数
+     */
+    @SuppressWarnings("unchecked")
+    static <T> TokenConverter<T> of(@Nullable Type elementType, @NotNull Supplier<ConverterUtil> converterUtilFactory) {
+        if (elementType == null || String.class.equals(elementType) || Object.class.equals(elementType)) {
+            return (TokenConverter<T>) TO_STRING;
+        }
+
+        if (elementType instanceof Class) {
+            final TokenConverter<?> defaultConverter = DEFAULT_CONVERTERS.get((Class<?>) elementType);
+            if (defaultConverter != null) {
+                return (TokenConverter<T>) defaultConverter;
+            }
+        }
+
+        final ConverterUtil converterUtil = converterUtilFactory.get();
+        if (converterUtil == null) {
+            throw new NoSuchConverterException("java.lang.String", elementType.getTypeName());
+        }
+        return (source, start, end) -> converterUtil.convert(source.subSequence(start, end).toString(), elementType);
+    }
+
+    /**
+     * 将元素作为字符串。
+     */
+    TokenConverter<String> TO_STRING = (source, start, end) -> source.subSequence(start, end).toString();
+
+    /**
+     * 以元素类型缓存的、不需要 {@link ConverterUtil} 的转化函数，值为 {@code null} 时表示需要交由 {@link ConverterUtil} 进行转化。
+     *
+     * @see TypeMeta#getNumberConverter()
+     */
+    ClassValue<TokenConverter<?>> DEFAULT_CONVERTERS = new ClassValue<TokenConverter<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected TokenConverter<?> computeValue(Class<?> type) {
+            final TypeMeta meta = TypeMeta.of(type);
+            final StringToNumberConverter<?> numberConverter = meta.getNumberConverter();
+            if (numberConverter != null) {
+                return numberConverter::convertNumber;
+            }
+            if (meta.getPrimitiveType() == TypeUtil.PrimitiveType.BOOLEAN) {
+                return (source, start, end) -> StringToBooleanConverter.INSTANCE.convertBoolean(source, start, end);
+            }
+            if (type.isEnum()) {
+                final Class<Enum> enumType = (Class<Enum>) type;
+                return (source, start, end) -> Enum.valueOf(enumType, source.subSequence(start, end).toString());
+            }
+            return null;
+        }
+    };
+
+}
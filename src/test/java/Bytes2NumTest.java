@@ -0,0 +1,87 @@
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.bytes.BytesToNumberConverter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * @author ForteScarlet
+ */
+public class Bytes2NumTest {
+    private static final ConverterUtil CONVERTER_UTIL = ConverterUtil.getDefault();
+
+    @Test
+    public void bytes2Num() {
+        assert CONVERTER_UTIL.<Integer>convert("114".getBytes(StandardCharsets.US_ASCII), int.class) == 114;
+        assert CONVERTER_UTIL.<Long>convert(ByteBuffer.wrap("-514".getBytes(StandardCharsets.US_ASCII)), Long.class) == -514L;
+        assert CONVERTER_UTIL.<Double>convert(ByteBuffer.wrap("1.5e3".getBytes(StandardCharsets.US_ASCII)), double.class) == 1500.0;
+
+        final byte[] frame = "[114,-514,1919810]".getBytes(StandardCharsets.US_ASCII);
+        assert BytesToNumberConverter.ToInt.INSTANCE.convertToInt(frame, 5, 4) == -514;
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(frame.length);
+        direct.put(frame).flip();
+        assert BytesToNumberConverter.ToLong.INSTANCE.convertToLong(direct, 10, 7) == 1919810L;
+        direct.position(1).limit(4);
+        assert CONVERTER_UTIL.<Integer>convert(direct, Integer.class) == 114;
+        assert direct.position() == 1;
+
+        try {
+            BytesToNumberConverter.ToInt.INSTANCE.convertToInt(frame, 10, 9);
+            assert false;
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Test
+    public void sameAsJdk() {
+        final Random random = new Random(114514);
+        final String[] fixed = {"", "-", "+", "0", "-0", "+1", "007", "2147483647", "2147483648", "-2147483648", "-2147483649",
+                "9223372036854775807", "9223372036854775808", "-9223372036854775808", "9999999999999999999", "1 ", " 1", "1a", "٣", "数1", "1.0",
+                "1e10", "-.5", "NaN", "Infinity", "0x1p3", "1.5f", "1e400", "4.9e-324", "123456789012345678901234567890"};
+        for (String value : fixed) {
+            check(value);
+        }
+        for (int i = 0; i < 5000; i++) {
+            check(String.valueOf(random.nextInt()));
+            check(String.valueOf(random.nextLong()));
+            check(String.valueOf(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+        }
+    }
+
+    private static void check(String value) {
+        final byte[] bytes = ("<" + value + ">").getBytes(StandardCharsets.UTF_8);
+        final int length = bytes.length - 2;
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        assert same(Integer::parseInt, value, v -> BytesToNumberConverter.ToInt.INSTANCE.convertToInt(bytes, 1, length)) : value;
+        assert same(Integer::parseInt, value, v -> BytesToNumberConverter.ToInt.INSTANCE.convertToInt(direct, 1, length)) : value;
+        assert same(Long::parseLong, value, v -> BytesToNumberConverter.ToLong.INSTANCE.convertToLong(bytes, 1, length)) : value;
+        assert same(Long::parseLong, value, v -> BytesToNumberConverter.ToLong.INSTANCE.convertToLong(direct, 1, length)) : value;
+        assert same(v -> Double.doubleToRawLongBits(Double.parseDouble(v)), value,
+                v -> Double.doubleToRawLongBits(BytesToNumberConverter.ToDouble.INSTANCE.convertToDouble(bytes, 1, length))) : value;
+        assert same(v -> Double.doubleToRawLongBits(Double.parseDouble(v)), value,
+                v -> Double.doubleToRawLongBits(BytesToNumberConverter.ToDouble.INSTANCE.convertToDouble(direct, 1, length))) : value;
+    }
+
+    private static boolean same(Function<String, Object> expected, String value, Function<String, Object> actual) {
+        Object expectedResult;
+        Object actualResult;
+        try {
+            expectedResult = expected.apply(value);
+        } catch (NumberFormatException e) {
+            expectedResult = e.getClass().getName() + ": " + e.getMessage();
+        }
+        try {
+            actualResult = actual.apply(value);
+        } catch (NumberFormatException e) {
+            actualResult = e.getClass().getName() + ": " + e.getMessage();
+        }
+        return Objects.equals(expectedResult, actualResult);
+    }
+}
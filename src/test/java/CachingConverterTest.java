@@ -0,0 +1,118 @@
+import love.forte.utils.converter.CacheStats;
+import love.forte.utils.converter.CachingConverter;
+import love.forte.utils.converter.CachingConverterUtil;
+import love.forte.utils.converter.ConvertResult;
+import love.forte.utils.converter.Converter;
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.TypeUtil;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author ForteScarlet
+ */
+public class CachingConverterTest {
+
+    @Test
+    public void hits() {
+        final CachingConverterUtil converterUtil = CachingConverterUtil.create(ConverterUtil.getDefault(), 16);
+        assert converterUtil.convert("114", int.class) == 114;
+        assert converterUtil.convert("114", int.class) == 114;
+        assert converterUtil.convert("1.5", BigDecimal.class).equals(new BigDecimal("1.5"));
+        assert converterUtil.tryConvert("1.5", BigDecimal.class).getValue().equals(new BigDecimal("1.5"));
+
+        CacheStats stats = converterUtil.getStats();
+        assert stats.getHitCount() == 2 : stats;
+        assert stats.getMissCount() == 2 : stats;
+        assert stats.getSize() == 2 : stats;
+
+        // 失败不会被缓存
+        assert !converterUtil.tryConvert("abc", int.class).isSuccess();
+        assert !converterUtil.tryConvert("abc", int.class).isSuccess();
+        assert converterUtil.getStats().getSize() == 2;
+
+        // 批量转化共享缓存
+        final List<Integer> list = converterUtil.convertAll(Arrays.asList("114", "114", "514"), Integer.class);
+        assert list.equals(Arrays.asList(114, 114, 514));
+        assert converterUtil.getStats().getSize() == 4;
+    }
+
+    @Test
+    public void eviction() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final CachingConverter converter = CachingConverter.create(new Converter() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T convert(Object source, Type target) {
+                invocations.incrementAndGet();
+                return (T) Integer.valueOf(source.toString());
+            }
+        }, 4);
+
+        for (int i = 0; i < 4; i++) {
+            converter.convert("0", Integer.class);
+        }
+        for (int i = 1; i <= 8; i++) {
+            converter.convert(String.valueOf(i), Integer.class);
+        }
+
+        final CacheStats stats = converter.getStats();
+        assert stats.getSize() == 4 : stats;
+        assert stats.getEvictionCount() == 5 : stats;
+
+        // 频繁访问的条目被保留
+        final int before = invocations.get();
+        assert converter.<Integer>convert("0", Integer.class) == 0;
+        assert invocations.get() == before;
+    }
+
+    @Test
+    public void dateCopy() {
+        final long time = 1_700_000_000_000L;
+        final CachingConverter converter = CachingConverter.create(new Converter() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T convert(Object source, Type target) {
+                return (T) new Date(Long.parseLong(source.toString()));
+            }
+        }, 4);
+
+        final Date first = converter.convert(String.valueOf(time), Date.class);
+        first.setTime(0);
+        final Date second = converter.convert(String.valueOf(time), Date.class);
+        assert second.getTime() == time;
+        assert second != first;
+        assert converter.getStats().getHitCount() == 1;
+    }
+
+    @Test
+    public void bypass() {
+        final CachingConverterUtil converterUtil = CachingConverterUtil.create(ConverterUtil.getDefault(), 16);
+
+        // 可变的 source 与非 Class 的目标类型不会被缓存
+        assert converterUtil.convert(new StringBuilder("1"), int.class) == 1;
+        final ConvertResult<List<Integer>> list = converterUtil.tryConvert("1, 2", TypeUtil.list(Integer.class));
+        assert list.getValue().equals(Arrays.asList(1, 2));
+        final int[] array = converterUtil.convert("1, 2", int[].class);
+        assert Arrays.equals(array, new int[]{1, 2});
+
+        // Clock 等 java.time 中的类型不一定是不可变的
+        final Clock clock = converterUtil.convert("1970-01-01T00:00:01Z", Clock.class);
+        assert clock.millis() == 1000;
+
+        final CacheStats stats = converterUtil.getStats();
+        assert stats.getHitCount() == 0 && stats.getMissCount() == 0 && stats.getSize() == 0 : stats;
+
+        assert converterUtil.convert("2022-01-02", LocalDate.class).equals(LocalDate.of(2022, 1, 2));
+        assert converterUtil.getStats().getSize() == 1;
+    }
+
+}
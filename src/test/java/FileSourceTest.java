@@ -0,0 +1,113 @@
+import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.bytes.PathToArrayConverter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * @author ForteScarlet
+ */
+public class FileSourceTest {
+    private static final ConverterUtil CONVERTER_UTIL = ConverterUtil.getDefault();
+
+    @Test
+    public void file2Array() throws IOException {
+        final Random random = new Random(114514);
+        final long[] longs = new long[5000];
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = random.nextLong();
+            builder.append(longs[i]).append(i % 7 == 0 ? "\r\n" : " , ");
+        }
+        final Path file = write(builder.toString());
+        try {
+            assert Arrays.equals(CONVERTER_UTIL.convert(file, long[].class), longs);
+            assert Arrays.equals(CONVERTER_UTIL.convert(file.toFile(), long[].class), longs);
+            // 元素跨越映射区间
+            for (int windowSize : new int[]{24, 32, 100, 4096}) {
+                assert Arrays.equals(new PathToArrayConverter(windowSize).convert(file, long[].class), longs);
+            }
+            final double[] doubles = CONVERTER_UTIL.convert(file, double[].class);
+            for (int i = 0; i < longs.length; i++) {
+                assert doubles[i] == Double.parseDouble(String.valueOf(longs[i]));
+            }
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                assert Arrays.equals(CONVERTER_UTIL.convert(channel, long[].class), longs);
+            }
+
+            try {
+                CONVERTER_UTIL.convert(file, int[].class);
+                assert false;
+            } catch (NumberFormatException ignored) {
+            }
+
+            try {
+                new PathToArrayConverter(8).convert(file, long[].class);
+                assert false;
+            } catch (ConvertException ignored) {
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void fileChunkBoundary() throws IOException {
+        for (int count : new int[]{1023, 1024, 1025, 3072, 3073}) {
+            final int[] ints = new int[count];
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                ints[i] = i - 500;
+                builder.append(ints[i]).append('\n');
+            }
+            final Path file = write(builder.toString());
+            try {
+                assert Arrays.equals(CONVERTER_UTIL.convert(file, int[].class), ints) : count;
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void fileFailure() throws IOException {
+        final Path file = write("1,\n\n 2 ,3,\t4,\n1.5e3,-0.25\n");
+        try {
+            assert Arrays.equals(CONVERTER_UTIL.convert(file, double[].class), new double[]{1, 2, 3, 4, 1500, -0.25});
+
+            Files.write(file, "1,2,数3".getBytes(StandardCharsets.UTF_8));
+            String expected = null;
+            try {
+                Integer.parseInt("数3");
+            } catch (NumberFormatException e) {
+                expected = e.getMessage();
+            }
+            try {
+                CONVERTER_UTIL.convert(file, int[].class);
+                assert false;
+            } catch (NumberFormatException e) {
+                assert e.getMessage().equals(expected) : e.getMessage();
+            }
+
+            Files.write(file, new byte[0]);
+            assert CONVERTER_UTIL.<int[]>convert(file, int[].class).length == 0;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static Path write(String content) throws IOException {
+        final Path file = Files.createTempFile("converter", ".txt");
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+}
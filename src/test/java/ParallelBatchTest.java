@@ -0,0 +1,64 @@
+import love.forte.utils.converter.BatchResult;
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.NoSuchConverterException;
+import love.forte.utils.converter.ParallelBatchConverter;
+import love.forte.utils.converter.SimpleConverterUtil;
+import love.forte.utils.converter.StringToNumberConverter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author ForteScarlet
+ */
+public class ParallelBatchTest {
+
+    @Test
+    public void parallelConvert() {
+        final int size = 100_000;
+        final Object[] sources = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sources[i] = String.valueOf(i);
+        }
+        // 无法转化的元素
+        sources[7] = "x";
+        sources[size - 1] = 1;
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final ParallelBatchConverter converter = ParallelBatchConverter.create(ConverterUtil.getDefault(), 1000, pool);
+        final BatchResult<long[]> result;
+        try {
+            result = converter.convertAllToLong(sources);
+        } finally {
+            pool.shutdown();
+        }
+        final long[] longs = result.getResults();
+        for (int i = 0; i < size - 1; i++) {
+            assert i == 7 || longs[i] == i;
+        }
+
+        assert result.getFailures().size() == 2;
+        assert result.getFailures().get(0).getIndex() == 7;
+        assert result.getFailures().get(0).getCause() instanceof NumberFormatException;
+        assert result.getFailures().get(1).getIndex() == size - 1;
+        assert result.getFailures().get(1).getCause() instanceof NoSuchConverterException;
+
+        final BatchResult<BigDecimal[]> decimals = ParallelBatchConverter.create(ConverterUtil.getDefault()).convertAll(new Object[]{"1.5", "2"}, BigDecimal.class);
+        assert decimals.isSuccess();
+        assert decimals.getResults()[0].equals(new BigDecimal("1.5"));
+    }
+
+    @Test
+    public void customConverterUtil() {
+        final SimpleConverterUtil converterUtil = SimpleConverterUtil.createInstance();
+        converterUtil.getPrecisionConverterLocator().set(String.class.getName(), Integer.class.getName(), StringToNumberConverter.ToInt.INSTANCE);
+
+        final ParallelBatchConverter converter = ParallelBatchConverter.create(converterUtil, 2, null);
+        final BatchResult<Integer[]> result = converter.convertAll(new Object[]{"1", "2", "3", "4", "5"}, Integer.class);
+        assert result.isSuccess();
+        assert java.util.Arrays.equals(result.getResults(), new Integer[]{1, 2, 3, 4, 5});
+
+        assert !converter.convertAll(new Object[]{"1"}, Long.class).isSuccess();
+    }
+}
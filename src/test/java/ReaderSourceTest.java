@@ -0,0 +1,64 @@
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.TypeUtil;
+import love.forte.utils.converter.string.ReaderToArrayConverter;
+import love.forte.utils.converter.string.ReaderToCollectionConverter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * @author ForteScarlet
+ */
+public class ReaderSourceTest {
+    private static final ConverterUtil CONVERTER_UTIL = ConverterUtil.getDefault();
+
+    @Test
+    public void reader2Array() {
+        final int[] ints = CONVERTER_UTIL.convert(new StringReader("1,2 ,3, 4 , 5"), int[].class);
+        assert Arrays.equals(ints, new int[]{1, 2, 3, 4, 5});
+
+        final StringBuilder builder = new StringBuilder();
+        final long[] expected = new long[10000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 1000003L;
+            builder.append(i == 0 ? "" : ", ").append(expected[i]);
+        }
+        final ReaderToArrayConverter converter = new ReaderToArrayConverter(null, null, 7);
+        final long[] longs = converter.convertToArray(new StringReader(builder.toString()), long.class);
+        assert Arrays.equals(longs, expected);
+
+        final String[] strings = CONVERTER_UTIL.convert(new StringReader("a,b"), String[].class);
+        assert Arrays.equals(strings, new String[]{"a", "b"});
+    }
+
+    @Test
+    public void channel2Collection() {
+        final byte[] bytes = "你好, 世界 ,1".getBytes(StandardCharsets.UTF_8);
+        final List<String> list = CONVERTER_UTIL.convert(Channels.newChannel(new ByteArrayInputStream(bytes)), TypeUtil.list(String.class));
+        assert list.equals(Arrays.asList("你好", "世界", "1")) : list;
+
+        final Set<Integer> set = CONVERTER_UTIL.convert(new StringReader("1, 2, 2"), TypeUtil.set(Integer.class));
+        assert set.size() == 2;
+    }
+
+    @Test
+    public void splitCompatibility() {
+        final Pattern pattern = Pattern.compile(" ?, ?");
+        final String[] sources = {"", " ", ",", ",,", " , ", "a", ",a", " ,a", "a,", "a, ", "a,,", ",,a,,",
+                "a , , b", "a ,  b", "  ,", "a,b,c", "a ,b, c , d", " a , b ", ",, ,a, ,", "a,,,b", ", ,", ",  ,"};
+        for (int bufferSize = 1; bufferSize <= 4; bufferSize++) {
+            final ReaderToCollectionConverter converter = new ReaderToCollectionConverter(null, null, bufferSize);
+            for (String source : sources) {
+                final List<String> list = converter.convert(new StringReader(source), TypeUtil.list(String.class));
+                assert list.equals(Arrays.asList(pattern.split(source))) : "[" + source + "] -> " + list;
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+import love.forte.utils.converter.BoundConverter;
+import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.ConvertResult;
+import love.forte.utils.converter.Converter;
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.NoSuchConverterException;
+import love.forte.utils.converter.SimpleConverterUtil;
+import love.forte.utils.converter.StringToNumberConverter;
+import love.forte.utils.converter.TypeUtil;
+import love.forte.utils.converter.string.StringToArrayConverter;
+import love.forte.utils.converter.string.StringToBooleanConverter;
+import love.forte.utils.converter.string.StringToCollectionConverter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author ForteScarlet
+ */
+public class SimpleConverterUtilTest {
+
+    @Test
+    public void resolutionCacheInvalidate() {
+        final SimpleConverterUtil converterUtil = SimpleConverterUtil.createInstance();
+        final SimpleConverterUtil.PrecisionConverterLocator locator = converterUtil.getPrecisionConverterLocator();
+
+        assert isNoSuchConverter(converterUtil, "1", Integer.class);
+
+        locator.set(String.class.getName(), Integer.class.getName(), StringToNumberConverter.ToInt.INSTANCE);
+        assert converterUtil.convert("1", Integer.class) == 1;
+        assert converterUtil.convert("2", Integer.class) == 2;
+
+        locator.remove(String.class.getName(), Integer.class.getName());
+        assert isNoSuchConverter(converterUtil, "1", Integer.class);
+    }
+
+    @Test
+    public void calculationLocator() {
+        final SimpleConverterUtil converterUtil = SimpleConverterUtil.createInstance();
+        converterUtil.getCalculationConverterLocator().set("toLong", StringToNumberConverter.ToLong.INSTANCE,
+                (source, target) -> source instanceof String && Long.class.equals(target));
+
+        assert converterUtil.convert("114514", Long.class) == 114514L;
+    }
+
+    @Test
+    public void instanceCheckerNotCached() {
+        final SimpleConverterUtil converterUtil = SimpleConverterUtil.createInstance();
+        final SimpleConverterUtil.CalculationConverterLocator locator = converterUtil.getCalculationConverterLocator();
+        final Converter hex = new Converter() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convert(Object source, Type target) {
+                return (T) Long.valueOf(source.toString().substring(2), 16);
+            }
+        };
+        locator.set("hex", hex,
+                (source, target) -> Long.class.equals(target) && source.toString().startsWith("0x"));
+        locator.set("toLong", StringToNumberConverter.ToLong.INSTANCE,
+                SimpleConverterUtil.CalculationConverterLocator.IndexHint.of(String.class, Long.class, null), null);
+
+        // 提示匹配的条件优先于没有提示的条件，结果可以缓存
+        assert converterUtil.convert("10", Long.class) == 10L;
+        assert converterUtil.convert("10", Long.class) == 10L;
+
+        locator.remove("toLong");
+        assert converterUtil.convert("0x10", Long.class) == 16L;
+        // 相同的 (source class, target)，结果由 checker 决定
+        assert isNoSuchConverter(converterUtil, "10", Long.class);
+        assert converterUtil.convert("0xff", Long.class) == 255L;
+        assert converterUtil.convert(new StringBuilder("0x1f"), Long.class) == 31L;
+    }
+
+    @Test
+    public void indexedCalculationLocator() {
+        final SimpleConverterUtil converterUtil = SimpleConverterUtil.createInstance();
+        final SimpleConverterUtil.CalculationConverterLocator locator = converterUtil.getCalculationConverterLocator();
+        locator.set("unhinted", StringToNumberConverter.ToLong.INSTANCE, (source, target) -> Long.class.equals(target));
+        locator.set("toArray", new StringToArrayConverter(),
+                SimpleConverterUtil.CalculationConverterLocator.IndexHint.of(CharSequence.class, TypeUtil.ContainerKind.ARRAY), null);
+        locator.set("toCollection", new StringToCollectionConverter(),
+                SimpleConverterUtil.CalculationConverterLocator.IndexHint.of(null, TypeUtil.ContainerKind.COLLECTION), null);
+
+        final int[] array = converterUtil.convert("1, 2, 3", int[].class);
+        assert Arrays.equals(array, new int[]{1, 2, 3});
+
+        final List<String> list = converterUtil.convert("1, 2, 3", TypeUtil.list(String.class));
+        assert list.equals(Arrays.asList("1", "2", "3"));
+
+        assert converterUtil.convert("1", Long.class) == 1L;
+        assert locator.matchConverter(1, int[].class) == null;
+    }
+
+    @Test
+    public void hierarchyResolution() {
+        final SimpleConverterUtil converterUtil = SimpleConverterUtil.createInstance();
+        final SimpleConverterUtil.PrecisionConverterLocator locator = converterUtil.getPrecisionConverterLocator();
+        locator.set(CharSequence.class.getName(), Integer.class.getName(), StringToNumberConverter.ToInt.INSTANCE);
+        locator.set(Object.class.getName(), Integer.class.getName(), StringToNumberConverter.ToLong.INSTANCE);
+
+        assert locator.matchConverter(StringBuilder.class, Integer.class) == StringToNumberConverter.ToInt.INSTANCE;
+        assert locator.matchConverter(String.class, Integer.class) == StringToNumberConverter.ToInt.INSTANCE;
+        assert locator.matchConverter(Integer.class, Integer.class) == StringToNumberConverter.ToLong.INSTANCE;
+
+        // exact match first
+        locator.set(String.class.getName(), Integer.class.getName(), StringToNumberConverter.ToShort.INSTANCE);
+        assert locator.matchConverter(String.class, Integer.class) == StringToNumberConverter.ToShort.INSTANCE;
+    }
+
+    @Test
+    public void concurrentRegistry() throws InterruptedException {
+        final SimpleConverterUtil converterUtil = SimpleConverterUtil.createInstance();
+        final SimpleConverterUtil.PrecisionConverterLocator locator = converterUtil.getPrecisionConverterLocator();
+        final int threadCount = 8;
+        final int perThread = 200;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>(threadCount);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        locator.set(String.class.getName(), Integer.class.getName(), StringToNumberConverter.ToInt.INSTANCE);
+
+        for (int t = 0; t < threadCount; t++) {
+            final int threadIndex = t;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    locator.set("source-" + threadIndex, "target-" + i, StringToNumberConverter.ToInt.INSTANCE);
+                    // 并发读取
+                    assert converterUtil.convert(String.valueOf(i), Integer.class) == i;
+                }
+            });
+            thread.setUncaughtExceptionHandler((th, e) -> failure.compareAndSet(null, e));
+            threads.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assert failure.get() == null : failure.get();
+
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 0; i < perThread; i++) {
+                assert locator.remove("source-" + t, "target-" + i) != null;
+            }
+        }
+    }
+
+    @Test
+    public void defaultInstance() {
+        final ConverterUtil converterUtil = ConverterUtil.getDefault();
+        assert converterUtil.convert("1", int.class) == 1;
+        assert converterUtil.convert("1", Long.class) == 1L;
+        assert converterUtil.convert("true", boolean.class);
+        assert converterUtil.convert(new StringBuilder("abc"), String.class).equals("abc");
+
+        final List<Boolean> list = converterUtil.convert("true, false", TypeUtil.list(Boolean.class));
+        assert list.equals(Arrays.asList(true, false));
+    }
+
+    @Test
+    public void instancesCollected() throws InterruptedException {
+        final List<WeakReference<ConverterUtil>> references = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final ConverterUtil converterUtil = SimpleConverterUtil.createDefaultInstance();
+            assert Arrays.equals(converterUtil.convert("1, 2", int[].class), new int[]{1, 2});
+            references.add(new WeakReference<>(converterUtil));
+        }
+
+        for (int i = 0; i < 50 && references.stream().anyMatch(reference -> reference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        // 解析缓存不会使实例在 source 类型上保持可达
+        assert references.stream().allMatch(reference -> reference.get() == null);
+    }
+
+    @Test
+    public void bind() {
+        final ConverterUtil converterUtil = ConverterUtil.getDefault();
+        final BoundConverter<String, Integer> toInt = converterUtil.bind(String.class, int.class);
+        assert toInt.convert("114") == 114;
+
+        final BoundConverter<String, int[]> toIntArray = converterUtil.bind(String.class, int[].class);
+        assert Arrays.equals(toIntArray.convert("1, 2"), new int[]{1, 2});
+
+        final BoundConverter<int[], String> toStr = converterUtil.bind(int[].class, String.class);
+        assert toStr.convert(new int[]{1, 2}).equals("[1, 2]");
+
+        try {
+            converterUtil.bind(Integer.class, int[].class);
+            assert false;
+        } catch (NoSuchConverterException ignored) {
+        }
+    }
+
+    @Test
+    public void convertAll() {
+        final ConverterUtil converterUtil = ConverterUtil.getDefault();
+        final List<String> sources = Arrays.asList("1", "2", "3");
+
+        final List<Long> longs = converterUtil.convertAll(sources, Long.class);
+        assert longs.equals(Arrays.asList(1L, 2L, 3L));
+
+        final Object[] mixed = {"1", new StringBuilder("2"), "3"};
+        assert Arrays.equals(converterUtil.convertAllToInt(mixed), new int[]{1, 2, 3});
+        assert Arrays.equals(converterUtil.convertAllToLong(mixed), new long[]{1, 2, 3});
+        assert Arrays.equals(converterUtil.convertAllToDouble(mixed), new double[]{1, 2, 3});
+
+        final Integer[] boxed = converterUtil.convertAll(mixed, int.class);
+        assert Arrays.equals(boxed, new Integer[]{1, 2, 3});
+
+        final Object[] output = new Object[4];
+        converterUtil.convertAll(mixed, 1, 3, Integer.class, output, 2);
+        assert Arrays.equals(output, new Object[]{null, null, 2, 3});
+
+        try {
+            converterUtil.convertAll(Arrays.asList("1", 2), int[].class);
+            assert false;
+        } catch (NoSuchConverterException ignored) {
+        }
+    }
+
+    @Test
+    public void tryConvert() {
+        final ConverterUtil converterUtil = ConverterUtil.getDefault();
+        assert converterUtil.tryConvert("114", int.class, -1) == 114;
+        assert converterUtil.tryConvert("abc", int.class, -1) == -1;
+        assert converterUtil.tryConvert(new StringBuilder("1.5"), Double.class, 0.0) == 1.5;
+        assert converterUtil.tryConvert(1, int[].class, null) == null;
+
+        final ConvertResult<Long> failure = converterUtil.tryConvert("9223372036854775808", Long.class);
+        assert !failure.isSuccess();
+        assert failure.getCause() == null;
+        assert failure.getMessage().contains("9223372036854775808");
+        try {
+            failure.getValue();
+            assert false;
+        } catch (ConvertException ignored) {
+        }
+
+        final ConvertResult<List<Integer>> list = converterUtil.tryConvert("1, 2", TypeUtil.list(Integer.class));
+        assert list.isSuccess() && list.getValue().equals(Arrays.asList(1, 2));
+
+        final ConvertResult<List<Integer>> failedList = converterUtil.tryConvert("1, a", TypeUtil.list(Integer.class));
+        assert !failedList.isSuccess() && failedList.getCause() instanceof NumberFormatException;
+
+        final ConvertResult<Integer> bytes = converterUtil.tryConvert("12a".getBytes(), int.class);
+        assert !bytes.isSuccess() && bytes.getCause() == null;
+
+        final ConvertResult<Boolean> bool = converterUtil.tryConvert(new StringBuilder("TRUE"), boolean.class);
+        assert bool.isSuccess() && bool.getValue();
+        assert !StringToBooleanConverter.INSTANCE.tryConvert(1, boolean.class).isSuccess();
+
+        final ConvertResult<LocalDate> date = converterUtil.tryConvert("2022-01-02", LocalDate.class);
+        assert date.isSuccess() && date.getValue().equals(LocalDate.of(2022, 1, 2));
+        final ConvertResult<TimeUnit> unit = converterUtil.tryConvert("DAYS", TimeUnit.class);
+        assert unit.isSuccess() && unit.getValue() == TimeUnit.DAYS;
+        final ConvertResult<TimeUnit> failedUnit = converterUtil.tryConvert("days", TimeUnit.class);
+        assert !failedUnit.isSuccess() && failedUnit.getCause() == null;
+        final ConvertResult<LocalDate> failedDate = converterUtil.tryConvert("2022-02-30", LocalDate.class);
+        assert !failedDate.isSuccess() && failedDate.getCause() instanceof ConvertException;
+    }
+
+    private static boolean isNoSuchConverter(SimpleConverterUtil converterUtil, Object source, Class<?> target) {
+        try {
+            converterUtil.convert(source, target);
+            return false;
+        } catch (NoSuchConverterException e) {
+            return true;
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ import love.forte.utils.converter.string.StringToArrayConverter;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
  * @author ForteScarlet
@@ -45,5 +46,29 @@ public class Str2ArrayTest {
         assert array.length == 7;
     }
 
+    @Test
+    public void str2PrimitiveArray() {
+        assert Arrays.equals(STRING_TO_ARRAY_CONVERTER.convert("1, -2 ,3", long[].class), new long[]{1, -2, 3});
+        assert Arrays.equals(STRING_TO_ARRAY_CONVERTER.convert("1.5,2", double[].class), new double[]{1.5, 2});
+        assert Arrays.equals(STRING_TO_ARRAY_CONVERTER.convert("1.5,2", float[].class), new float[]{1.5F, 2});
+        assert Arrays.equals(STRING_TO_ARRAY_CONVERTER.convert("1,-2", short[].class), new short[]{1, -2});
+        assert Arrays.equals(STRING_TO_ARRAY_CONVERTER.convert("1,-2", byte[].class), new byte[]{1, -2});
+        assert Arrays.equals(STRING_TO_ARRAY_CONVERTER.convert("true, false ,TRUE", boolean[].class), new boolean[]{true, false, true});
+
+        final int[] range = STRING_TO_ARRAY_CONVERTER.convertToArray(new StringBuilder("[1, 2, 3]"), 1, 8, int.class);
+        assert Arrays.equals(range, new int[]{1, 2, 3});
+    }
+
+    @Test
+    public void splitCompatibility() {
+        final Pattern pattern = Pattern.compile(" ?, ?");
+        final String[] sources = {"", " ", ",", ",,", " , ", "a", ",a", " ,a", "a,", "a, ", "a,,", ",,a,,",
+                "a , , b", "a ,  b", "  ,", "a,b,c", "a ,b, c , d", " a , b ", ",, ,a, ,", "a,,,b"};
+        for (String source : sources) {
+            final String[] array = STRING_TO_ARRAY_CONVERTER.convert(source, String[].class);
+            assert Arrays.equals(array, pattern.split(source)) : "[" + source + "] -> " + Arrays.toString(array);
+        }
+    }
+
 
 }
@@ -1,9 +1,29 @@
+import love.forte.utils.converter.ConvertException;
 import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.DoubleList;
+import love.forte.utils.converter.IntList;
+import love.forte.utils.converter.LongList;
 import love.forte.utils.converter.TypeUtil;
 import love.forte.utils.converter.string.StringToCollectionConverter;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author ForteScarlet
@@ -37,5 +57,142 @@ public class Str2ListTest {
         }
     }
 
+    @Test
+    public void str2Stream() {
+        final String str = "1,2,3,4 , 5, 6 ,7,,";
+        final int sum = STRING_TO_LIST_CONVERTER.<Integer>stream(str, Integer.class).mapToInt(Integer::intValue).sum();
+        assert sum == 28;
+
+        final List<String> list = STRING_TO_LIST_CONVERTER.<String>stream(new StringBuilder(",a, ,b,"), String.class)
+                .collect(Collectors.toList());
+        assert list.equals(Arrays.asList("", "a", "", "b")) : list;
+
+        // 短路时不会解析后续的元素
+        final Iterator<Integer> iterator = STRING_TO_LIST_CONVERTER.iterator("1, 2, x", Integer.class);
+        assert iterator.next() == 1;
+        assert iterator.hasNext();
+        assert iterator.next() == 2;
+    }
+
+
+    @Test
+    public void str2CollectionTypes() {
+        final String str = "3, 1, 2, 1";
+        final NavigableSet<Integer> treeSet = CONVERTER_UTIL.convert(str, TypeUtil.collection(NavigableSet.class, Integer.class));
+        assert treeSet instanceof TreeSet && treeSet.equals(new TreeSet<>(Arrays.asList(1, 2, 3)));
+
+        final LinkedHashSet<Integer> linkedHashSet = CONVERTER_UTIL.convert(str, TypeUtil.set(LinkedHashSet.class, Integer.class));
+        assert new ArrayList<>(linkedHashSet).equals(Arrays.asList(3, 1, 2));
+
+        final Deque<Integer> deque = CONVERTER_UTIL.convert(str, TypeUtil.collection(Deque.class, Integer.class));
+        assert deque instanceof ArrayDeque && deque.peekFirst() == 3 && deque.size() == 4;
+
+        final CopyOnWriteArrayList<Integer> cow = CONVERTER_UTIL.convert(str, TypeUtil.list(CopyOnWriteArrayList.class, Integer.class));
+        assert cow.equals(Arrays.asList(3, 1, 2, 1));
+
+        final EnumSet<TimeUnit> enumSet = CONVERTER_UTIL.convert("SECONDS, DAYS", TypeUtil.set(EnumSet.class, TimeUnit.class));
+        assert enumSet.equals(EnumSet.of(TimeUnit.SECONDS, TimeUnit.DAYS));
+
+        final EnumSet<Color> colors = CONVERTER_UTIL.convert("BLUE, RED", TypeUtil.set(EnumSet.class, Color.class));
+        assert colors.equals(EnumSet.of(Color.RED, Color.BLUE));
+
+        @SuppressWarnings("unchecked")
+        final Class<List<?>> unmodifiableListType = (Class<List<?>>) Collections.unmodifiableList(new ArrayList<>()).getClass();
+        final List<Integer> unmodifiable = CONVERTER_UTIL.convert(str, TypeUtil.list(unmodifiableListType, Integer.class));
+        assert unmodifiable.equals(Arrays.asList(3, 1, 2, 1));
+        try {
+            unmodifiable.add(0);
+            assert false;
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        try {
+            CONVERTER_UTIL.convert(str, TypeUtil.collection(Collections.singletonList(1).getClass().asSubclass(Collection.class), Integer.class));
+            assert false;
+        } catch (ConvertException ignored) {
+        }
+    }
+
+    @Test
+    public void str2CapacityCollection() {
+        final CapacityList list = CONVERTER_UTIL.convert("3, 1, 2, 1", TypeUtil.list(CapacityList.class, Integer.class));
+        assert list.equals(Arrays.asList(3, 1, 2, 1)) && list.capacity == 4 : list.capacity;
+
+        final CapacitySet set = CONVERTER_UTIL.convert("3, 1, 2, 1", TypeUtil.set(CapacitySet.class, Integer.class));
+        assert set.size() == 3 && set.capacity > 4 : set.capacity;
+
+        // (int) 构造参数为容量上限的类型仍通过无参构造实例化
+        final LinkedBlockingQueue<Integer> queue = CONVERTER_UTIL.convert("1, 2, 3", TypeUtil.collection(LinkedBlockingQueue.class, Integer.class));
+        assert queue.size() == 3 && queue.offer(4) && queue.remainingCapacity() == Integer.MAX_VALUE - 4;
+        try {
+            CONVERTER_UTIL.convert(",", TypeUtil.collection(ArrayBlockingQueue.class, Integer.class));
+            assert false;
+        } catch (ConvertException ignored) {
+        }
+    }
 
+    @Test
+    public void str2PrimitiveList() {
+        final IntList ints = CONVERTER_UTIL.convert("1, 2 ,3", IntList.class);
+        assert ints.equals(Arrays.asList(1, 2, 3)) && Arrays.asList(1, 2, 3).equals(ints);
+        assert ints.hashCode() == Arrays.asList(1, 2, 3).hashCode();
+        assert Arrays.equals(ints.toIntArray(), new int[]{1, 2, 3});
+
+        final LongList longs = CONVERTER_UTIL.convert(new StringBuilder("9223372036854775807, -1"), TypeUtil.list(LongList.class, Long.class));
+        assert longs.getLong(0) == Long.MAX_VALUE && longs.getLong(1) == -1;
+
+        final DoubleList doubles = STRING_TO_LIST_CONVERTER.convert("1.5, NaN", TypeUtil.list(DoubleList.class, double.class));
+        assert doubles.getDouble(0) == 1.5 && doubles.containsDouble(Double.NaN) && doubles.contains(Double.NaN);
+
+        try {
+            CONVERTER_UTIL.convert("1, 2", TypeUtil.list(IntList.class, String.class));
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        final IntList list = IntList.of(1, 2, 3);
+        list.addInt(1, 5);
+        list.remove(Integer.valueOf(3));
+        list.add(4);
+        assert list.equals(Arrays.asList(1, 5, 2, 4)) : list;
+        assert list.removeIntAt(0) == 1 && list.indexOfInt(4) == 2 && list.indexOf("4") == -1;
+        list.trimToSize();
+        assert list.size() == 3;
+
+        final LongList range = LongList.of(1, 2, 3, 4, 5);
+        range.subList(1, 3).clear();
+        assert range.equals(Arrays.asList(1L, 4L, 5L)) && range.getLong(2) == 5;
+        final DoubleList nan = DoubleList.of(Double.NaN, 0.0);
+        assert nan.equals(DoubleList.of(Double.NaN, 0.0)) && !nan.equals(DoubleList.of(Double.NaN, -0.0));
+    }
+
+    public static class CapacityList extends ArrayList<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        public CapacityList(int capacity) {
+            super(capacity);
+            this.capacity = capacity;
+        }
+    }
+
+    public static class CapacitySet extends LinkedHashSet<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        public CapacitySet() {
+            this(-1);
+        }
+
+        public CapacitySet(int capacity) {
+            super(Math.max(capacity, 0));
+            this.capacity = capacity;
+        }
+    }
+
+    private enum Color {
+        RED, GREEN, BLUE
+    }
 }
@@ -0,0 +1,86 @@
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.TypeUtil;
+import love.forte.utils.converter.string.StringToMapConverter;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ForteScarlet
+ */
+public class Str2MapTest {
+    private static final ConverterUtil CONVERTER_UTIL = ConverterUtil.getDefault();
+    private static final StringToMapConverter STRING_TO_MAP_CONVERTER = new StringToMapConverter();
+
+    @Test
+    public void str2Map() {
+        final Map<String, Integer> map = CONVERTER_UTIL.convert(" a=1, b = 2 ,,c=3,", TypeUtil.map(String.class, Integer.class));
+        final Map<String, Integer> expected = new HashMap<>();
+        expected.put("a", 1);
+        expected.put("b", 2);
+        expected.put("c", 3);
+        assert map instanceof HashMap && map.equals(expected) : map;
+
+        final Map<?, ?> raw = CONVERTER_UTIL.convert("token=YWJj==, flag", castMapType(Map.class));
+        assert raw.get("token").equals("YWJj==") && raw.get("flag").equals("") : raw;
+
+        final Map<Integer, Boolean> duplicated = STRING_TO_MAP_CONVERTER.convert(new StringBuilder("x1=true, 1=false, 1=TRUE"), 1, 24,
+                castMapType(Map.class), Integer.class, Boolean.class);
+        assert duplicated.size() == 1 && duplicated.get(1) : duplicated;
+    }
+
+    @Test
+    public void str2MapTypes() {
+        final String str = "c=3, a=1, b=2";
+        final LinkedHashMap<String, Long> linked = CONVERTER_UTIL.convert(str, TypeUtil.map(LinkedHashMap.class, String.class, Long.class));
+        assert linked.keySet().toString().equals("[c, a, b]") && linked.get("a") == 1L;
+
+        final TreeMap<String, Double> tree = CONVERTER_UTIL.convert(str, TypeUtil.map(TreeMap.class, String.class, Double.class));
+        assert tree.firstKey().equals("a") && tree.get("c") == 3.0;
+
+        final EnumMap<TimeUnit, Integer> enumMap = CONVERTER_UTIL.convert("SECONDS=1, DAYS=2",
+                TypeUtil.map(EnumMap.class, TimeUnit.class, Integer.class));
+        assert enumMap.get(TimeUnit.DAYS) == 2 && enumMap.size() == 2;
+
+        final EnumMap<Color, String> colors = CONVERTER_UTIL.convert("GREEN=g, RED=r",
+                TypeUtil.map(EnumMap.class, Color.class, String.class));
+        assert colors.keySet().toString().equals("[RED, GREEN]") && colors.get(Color.GREEN).equals("g");
+
+        try {
+            CONVERTER_UTIL.convert("a=x", TypeUtil.map(String.class, Integer.class));
+            assert false;
+        } catch (NumberFormatException ignored) {
+        }
+    }
+
+    @Test
+    public void str2CapacityMap() {
+        final CapacityMap map = CONVERTER_UTIL.convert("c=3, a=1, b=2", TypeUtil.map(CapacityMap.class, String.class, Integer.class));
+        assert map.get("b") == 2 && map.size() == 3 && map.capacity > 3 : map.capacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Map<?, ?>> castMapType(Class<?> type) {
+        return (Class<Map<?, ?>>) type;
+    }
+
+    public static class CapacityMap extends HashMap<String, Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        public CapacityMap(int capacity) {
+            super(capacity);
+            this.capacity = capacity;
+        }
+    }
+
+    private enum Color {
+        RED, GREEN, BLUE
+    }
+}
@@ -1,8 +1,18 @@
 import love.forte.utils.converter.ConverterUtil;
 import love.forte.utils.converter.StringToNumberConverter;
+import love.forte.utils.converter.ToDoubleConverter;
+import love.forte.utils.converter.ToIntConverter;
+import love.forte.utils.converter.ToLongConverter;
 import love.forte.utils.converter.string.StringToBooleanConverter;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
 /**
  * @author ForteScarlet
  */
@@ -31,6 +41,194 @@ public class Str2NumTest {
         assert number == StringToNumberConverter.ToDouble.INSTANCE.convertNumber(numberStr);
     }
 
+    @Test
+    public void string2PrimitiveTest() {
+        final ToIntConverter toInt = CONVERTER_UTIL.bindInt(String.class);
+        final ToLongConverter toLong = CONVERTER_UTIL.bindLong(String.class);
+        final ToDoubleConverter toDouble = CONVERTER_UTIL.bindDouble(String.class);
+
+        assert toInt.convertToInt("-114") == -114;
+        assert toLong.convertToLong(new StringBuilder("1145141919810")) == 1145141919810L;
+        assert toDouble.convertToDouble("6658.4457") == 6658.4457;
+    }
+
+    @Test
+    public void charSequenceRangeTest() {
+        final String source = "[114,-514,+1919810]";
+        assert StringToNumberConverter.ToInt.INSTANCE.convertToInt(source, 1, 4) == 114;
+        assert StringToNumberConverter.ToInt.INSTANCE.convertToInt(source, 5, 9) == -514;
+        assert StringToNumberConverter.ToLong.INSTANCE.convertToLong(source, 10, 18) == 1919810L;
+        assert StringToBooleanConverter.INSTANCE.convertBoolean("xTrUex", 1, 5);
+        assert !StringToBooleanConverter.INSTANCE.convertBoolean("xTrUex", 1, 4);
+
+        assert CONVERTER_UTIL.<Integer>convert(new StringBuilder("114"), int.class) == 114;
+        assert CONVERTER_UTIL.<Boolean>convert(new StringBuilder("true"), Boolean.class);
+
+        // 与 JDK 的异常信息保持一致
+        for (String invalid : new String[]{"", "-", "+", "1a", "2147483648", "-2147483649", "1 "}) {
+            assert sameFailure(() -> Integer.parseInt(invalid),
+                    () -> StringToNumberConverter.ToInt.INSTANCE.convertToInt("<" + invalid + ">", 1, invalid.length() + 1));
+        }
+        for (String invalid : new String[]{"9223372036854775808", "-9223372036854775809", "--1"}) {
+            assert sameFailure(() -> Long.parseLong(invalid),
+                    () -> StringToNumberConverter.ToLong.INSTANCE.convertToLong("<" + invalid + ">", 1, invalid.length() + 1));
+        }
+        assert sameFailure(() -> Byte.parseByte("128"),
+                () -> StringToNumberConverter.ToByte.INSTANCE.convertNumber("<128>", 1, 4));
+        assert Long.MIN_VALUE == StringToNumberConverter.ToLong.INSTANCE.convertToLong("-9223372036854775808", 0, 20);
+
+        try {
+            StringToNumberConverter.ToInt.INSTANCE.convertToInt("1", 0, 2);
+            assert false;
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Test
+    public void decimalRangeTest() {
+        final Random random = new Random(114514);
+        final String[] fixed = {"0", "-0", "+0.0", "1.", ".5", "-.5e-3", "1e22", "1e23", "9007199254740993", "9223372036854775808", "9999999999999999999", "123456789012345678901",
+                "0.1", "3.14159", "1E-22", "1e+10", "0e999999", "1e-400", "NaN", "-Infinity", "0x1p3", "1.5d", "2f"};
+        for (String value : fixed) {
+            assert Double.doubleToRawLongBits(Double.parseDouble(value))
+                    == Double.doubleToRawLongBits(StringToNumberConverter.ToDouble.INSTANCE.convertToDouble("<" + value + ">", 1, value.length() + 1)) : value;
+            assert Float.floatToRawIntBits(Float.parseFloat(value))
+                    == Float.floatToRawIntBits(StringToNumberConverter.ToFloat.INSTANCE.convertNumber("<" + value + ">", 1, value.length() + 1)) : value;
+        }
+        for (int i = 0; i < 10000; i++) {
+            final String value = (random.nextBoolean() ? "-" : "") + random.nextInt(100000000) + "." + random.nextInt(1000) + "e" + (random.nextInt(50) - 25);
+            assert Double.parseDouble(value) == StringToNumberConverter.ToDouble.INSTANCE.convertToDouble(value, 0, value.length()) : value;
+            assert Float.parseFloat(value) == StringToNumberConverter.ToFloat.INSTANCE.convertNumber(value, 0, value.length()) : value;
+        }
+        for (String invalid : new String[]{"", ".", "e1", "1e", "1e+", "-", "1.2.3"}) {
+            assert sameFailure(() -> Double.parseDouble(invalid),
+                    () -> StringToNumberConverter.ToDouble.INSTANCE.convertToDouble("<" + invalid + ">", 1, invalid.length() + 1));
+        }
+    }
+
+    @Test
+    public void decimalDifferentialTest() {
+        final Random random = new Random(1919810);
+        final String[] hard = {"9007199254740993", "9007199254740995", "16777217", "16777219", "33554435",
+                "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "3.4028235e38", "3.4028236e38",
+                "2.2250738585072011e-308", "2.2250738585072014e-308", "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324",
+                "1.4e-45", "7.006492321624085e-46", "1.17549435e-38", "1e-342", "1e-343", "9999999999999999999e-343",
+                "1e308", "1e309", "8.98846567431158e307", "4.940656458412465441765687928682213723651e-324",
+                "7.3177701707893310e+15", "2.2250738585072012e-308", "0.000000000000000000000000000000000001"};
+        for (String value : hard) {
+            checkDecimal(value);
+        }
+        for (int i = 0; i < 100000; i++) {
+            checkDecimal(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            checkDecimal(Float.toString(Float.intBitsToFloat(random.nextInt())));
+            final int digits = 1 + random.nextInt(19);
+            final StringBuilder builder = new StringBuilder();
+            for (int d = 0; d < digits; d++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            checkDecimal(builder.append('e').append(random.nextInt(700) - 360).toString());
+        }
+    }
+
+    @Test
+    public void integralDifferentialTest() {
+        final Random random = new Random(114514);
+        final List<String> values = new ArrayList<>(Arrays.asList(
+                "", "+", "-", "0", "-0", "+0", "00000000000000000000000000001", "-000000000000000000000000000009223372036854775808",
+                "127", "128", "-128", "-129", "32767", "32768", "-32768", "-32769",
+                "2147483647", "2147483648", "-2147483648", "-2147483649", "4294967296", "12345678", "123456789", "1234567890",
+                "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+                "9999999999999999999", "18446744073709551616", "99999999999999999999", "1234567:", "12345678/", "1234/678",
+                "٣", "١٢٣٤٥٦٧٨٩", "12345６78", "+-1", "--1", " 1", "1 ", "1_000", "0x10", "\u0131"));
+        for (int i = 0; i < 20000; i++) {
+            values.add(String.valueOf(random.nextInt()));
+            values.add(String.valueOf(random.nextLong()));
+            values.add(String.valueOf(random.nextInt(100000)));
+            values.add(Long.toString(random.nextLong() >>> random.nextInt(64)));
+        }
+        for (String value : values) {
+            final String wrapped = "<" + value + ">";
+            final int end = value.length() + 1;
+            assert sameResult(() -> Byte.parseByte(value), () -> StringToNumberConverter.ToByte.INSTANCE.convertNumber(wrapped, 1, end)) : value;
+            assert sameResult(() -> Short.parseShort(value), () -> StringToNumberConverter.ToShort.INSTANCE.convertNumber(wrapped, 1, end)) : value;
+            assert sameResult(() -> Integer.parseInt(value), () -> StringToNumberConverter.ToInt.INSTANCE.convertToInt(wrapped, 1, end)) : value;
+            assert sameResult(() -> Long.parseLong(value), () -> StringToNumberConverter.ToLong.INSTANCE.convertToLong(wrapped, 1, end)) : value;
+            assert sameResult(() -> Integer.parseInt(value), () -> StringToNumberConverter.ToAtomicInteger.INSTANCE.convertNumber(value).get()) : value;
+            assert sameResult(() -> Long.parseLong(value), () -> StringToNumberConverter.ToLongAdder.INSTANCE.convertNumber(value).sum()) : value;
+        }
+    }
+
+    @Test
+    public void tryConvertNumberTest() {
+        final Random random = new Random(810);
+        final String alphabet = "0123456789.eE+-xXpPfFdDaNI \t٣";
+        final List<String> values = new ArrayList<>(Arrays.asList("NaN", "-Infinity", "+Infinity ", " 1.5f", "0x1p3", "0x.8p1d",
+                "0x1.p-2", "0x1", "0xp1", "1e", "e1", ".", ".e1", "1.e1", "1d", "1fd", "Infinityf", "nan", "-9223372036854775808"));
+        for (int i = 0; i < 100000; i++) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = random.nextInt(8);
+            for (int c = 0; c < length; c++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            values.add(builder.toString());
+        }
+
+        for (String value : values) {
+            final int end = value.length();
+            assert sameResult(() -> Double.doubleToRawLongBits(Double.parseDouble(value)),
+                    () -> Double.doubleToRawLongBits(StringToNumberConverter.ToDouble.INSTANCE.tryConvertNumber(value, 0, end))) : value;
+            assert sameResult(() -> Float.floatToRawIntBits(Float.parseFloat(value)),
+                    () -> Float.floatToRawIntBits(StringToNumberConverter.ToFloat.INSTANCE.tryConvertNumber(value, 0, end))) : value;
+            assert sameResult(() -> Integer.parseInt(value), () -> StringToNumberConverter.ToInt.INSTANCE.tryConvertNumber(value, 0, end)) : value;
+            assert sameResult(() -> Long.parseLong(value), () -> StringToNumberConverter.ToLong.INSTANCE.tryConvertNumber(value, 0, end)) : value;
+            assert sameResult(() -> Byte.parseByte(value), () -> StringToNumberConverter.ToByte.INSTANCE.tryConvertNumber(value, 0, end)) : value;
+        }
+    }
+
+    private static boolean sameResult(Supplier<Object> expected, Supplier<Object> actual) {
+        Object expectedResult;
+        Object actualResult;
+        try {
+            expectedResult = ((Number) expected.get()).longValue();
+        } catch (NumberFormatException e) {
+            expectedResult = e.getMessage();
+        }
+        try {
+            actualResult = ((Number) actual.get()).longValue();
+        } catch (NumberFormatException e) {
+            actualResult = e.getMessage();
+        } catch (NullPointerException e) {
+            // 不抛出异常的转化失败时得到 null
+            return expectedResult instanceof String;
+        }
+        return Objects.equals(expectedResult, actualResult);
+    }
+
+    private static void checkDecimal(String value) {
+        if (value.contains("N") || value.contains("I")) {
+            return;
+        }
+        assert Double.doubleToRawLongBits(Double.parseDouble(value))
+                == Double.doubleToRawLongBits(StringToNumberConverter.ToDouble.INSTANCE.convertToDouble(value)) : value;
+        assert Float.floatToRawIntBits(Float.parseFloat(value))
+                == Float.floatToRawIntBits(StringToNumberConverter.ToFloat.INSTANCE.convertToFloat(value)) : value;
+    }
+
+    private static boolean sameFailure(Runnable expected, Runnable actual) {
+        String expectedMessage = null;
+        try {
+            expected.run();
+        } catch (NumberFormatException e) {
+            expectedMessage = e.getMessage();
+        }
+        try {
+            actual.run();
+        } catch (NumberFormatException e) {
+            return e.getMessage().equals(expectedMessage);
+        }
+        return false;
+    }
+
     @Test
     public void string2BooleanTest() {
         final boolean bool = true;
@@ -0,0 +1,153 @@
+import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.ConverterUtil;
+import love.forte.utils.converter.string.StringToTimeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * @author ForteScarlet
+ */
+public class Str2TimeTest {
+
+    @Test
+    public void isoSameAsJdk() {
+        final StringToTimeConverter converter = StringToTimeConverter.INSTANCE;
+        final String[] localDates = {"2022-01-02", "2000-02-29", "0000-01-01", "9999-12-31",
+                "2022-02-29", "2022-13-01", "2022-00-10", "2022-1-02", "+12345-01-01", "2022/01/02", "2022-01-32"};
+        for (String text : localDates) {
+            sameResult(text, LocalDate::parse, converter::convertToLocalDate);
+        }
+
+        final String[] localTimes = {"03:04", "03:04:05", "03:04:05.6", "03:04:05.123456789", "23:59:59.999",
+                "24:00", "03:60", "03:04:05.", "03:04:05.1234567890", "3:04", "03:04:5", "03:04:05,6"};
+        for (String text : localTimes) {
+            sameResult(text, LocalTime::parse, converter::convertToLocalTime);
+        }
+
+        final String[] dateTimes = {"2022-01-02T03:04", "2022-01-02t03:04:05.678", "2022-01-02 03:04", "2022-01-02T",
+                "2022-02-30T00:00"};
+        for (String text : dateTimes) {
+            sameResult(text, LocalDateTime::parse, converter::convertToLocalDateTime);
+        }
+
+        final String[] offsetDateTimes = {"2022-01-02T03:04:05Z", "2022-01-02T03:04:05.678+08:00", "2022-01-02T03:04-05:30",
+                "2022-01-02T03:04:05+18:00", "2022-01-02T03:04:05+8:00", "2022-01-02T03:04:05+08:00:30", "2022-01-02T03:04:05"};
+        for (String text : offsetDateTimes) {
+            sameResult(text, OffsetDateTime::parse, converter::convertToOffsetDateTime);
+            sameResult(text, ZonedDateTime::parse, converter::convertToZonedDateTime);
+        }
+        sameResult("2022-01-02T03:04:05+08:00[Asia/Shanghai]", ZonedDateTime::parse, converter::convertToZonedDateTime);
+        // ISO_INSTANT 要求秒
+        final String[] instants = {"2022-01-02T03:04:05.678Z", "2022-01-02t03:04:05Z", "2022-01-02T03:04Z", "2022-01-02T03:04+08:00",
+                "2022-01-02T03:04:05+08:00"};
+        for (String text : instants) {
+            sameResult(text, Instant::parse, converter::convertToInstant);
+        }
+
+        // 范围
+        assert converter.convertToLocalDate("[2022-01-02]", 1, 11).equals(LocalDate.of(2022, 1, 2));
+        assert converter.convertToLocalTime("at 03:04:05Z", 3, 11).equals(LocalTime.of(3, 4, 5));
+    }
+
+    @Test
+    public void epoch() {
+        final StringToTimeConverter millis = StringToTimeConverter.create(null, TimeUnit.MILLISECONDS);
+        assert millis.convertToInstant("1641063845678").equals(Instant.ofEpochMilli(1641063845678L));
+        assert millis.convertToInstant("-1").equals(Instant.ofEpochMilli(-1));
+        assert millis.convertToInstant("1641063845678.5").equals(Instant.ofEpochSecond(1641063845L, 678_500_000));
+        assert millis.convertToInstant("-1.5").equals(Instant.ofEpochSecond(0, -1_500_000));
+        assert millis.convertToOffsetDateTime("0").toString().equals("1970-01-01T00:00Z");
+        assert millis.convertToInstant("2022-01-02T03:04:05.678Z").equals(Instant.parse("2022-01-02T03:04:05.678Z"));
+
+        final StringToTimeConverter seconds = StringToTimeConverter.create(null, TimeUnit.SECONDS);
+        assert seconds.convertToInstant("1641063845").equals(Instant.ofEpochSecond(1641063845L));
+        assert seconds.convertToInstant("1641063845.5").equals(Instant.ofEpochSecond(1641063845L, 500_000_000));
+        assert seconds.convertToInstant("-1.5").equals(Instant.ofEpochMilli(-1500));
+        assert seconds.convertToZonedDateTime("1641063845").equals(Instant.ofEpochSecond(1641063845L).atZone(ZoneOffset.UTC));
+        assert seconds.convertString("1641063845", Date.class).getTime() == 1641063845000L;
+        assert seconds.convertString("60", Clock.class).millis() == 60_000L;
+
+        final StringToTimeConverter nanos = StringToTimeConverter.create(null, TimeUnit.NANOSECONDS);
+        assert nanos.convertToInstant("1641063845000000001").equals(Instant.ofEpochSecond(1641063845L, 1));
+        sameResult("1.5", Instant::parse, nanos::convertToInstant);
+
+        try {
+            StringToTimeConverter.create(null, TimeUnit.MINUTES);
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        // 没有指定单位时不会将数字视为时间戳
+        sameResult("1641063845678", Instant::parse, StringToTimeConverter.INSTANCE::convertToInstant);
+        sameResult("1641063845", OffsetDateTime::parse, StringToTimeConverter.INSTANCE::convertToOffsetDateTime);
+        final StringToTimeConverter compact = StringToTimeConverter.create(DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC));
+        assert compact.convertToInstant("20220102030405").equals(Instant.parse("2022-01-02T03:04:05Z"));
+
+        final ConverterUtil converterUtil = ConverterUtil.getDefault();
+        final Date isoDate = converterUtil.convert("2022-01-02T03:04:05.678Z", Date.class);
+        assert isoDate.getTime() == Instant.parse("2022-01-02T03:04:05.678Z").toEpochMilli();
+        final Date localDate = converterUtil.convert("2022-01-02", Date.class);
+        assert localDate.getTime() == LocalDate.of(2022, 1, 2).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assert !converterUtil.tryConvert("1641063845678", Date.class).isSuccess();
+    }
+
+    @Test
+    public void defaultTargets() {
+        final ConverterUtil converterUtil = ConverterUtil.getDefault();
+        for (Class<?> type : StringToTimeConverter.INSTANCE.getSupportedTypes()) {
+            assert converterUtil.findConverter(String.class, type) == StringToTimeConverter.INSTANCE : type;
+        }
+
+        assert converterUtil.convert("SECONDS", TimeUnit.class) == TimeUnit.SECONDS;
+        assert converterUtil.convert("MARCH", Month.class) == Month.MARCH;
+        assert converterUtil.convert("PT1M", Duration.class).equals(Duration.ofMinutes(1));
+        final Clock clock = converterUtil.convert("1970-01-01T00:00:01Z", Clock.class);
+        assert clock.millis() == 1000;
+
+        try {
+            converterUtil.convert("2022-02-30", LocalDate.class);
+            assert false;
+        } catch (ConvertException ignored) {
+        }
+    }
+
+    @Test
+    public void formatter() {
+        final StringToTimeConverter converter = StringToTimeConverter.create(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm"));
+        assert converter.convertToLocalDateTime("2022/01/02 03:04").equals(LocalDateTime.of(2022, 1, 2, 3, 4));
+        assert converter.convertToLocalDateTime("2022-01-02T03:04").equals(LocalDateTime.of(2022, 1, 2, 3, 4));
+        assert converter.convertToLocalDate("2022/01/02 03:04").equals(LocalDate.of(2022, 1, 2));
+    }
+
+    private static <T> void sameResult(String text, Function<String, T> expected, Function<String, T> actual) {
+        Object expectedResult;
+        try {
+            expectedResult = expected.apply(text);
+        } catch (RuntimeException e) {
+            expectedResult = e.getClass();
+        }
+        Object actualResult;
+        try {
+            actualResult = actual.apply(text);
+        } catch (RuntimeException e) {
+            actualResult = e.getClass();
+        }
+        assert expectedResult.equals(actualResult) : text + ": " + expectedResult + " != " + actualResult;
+    }
+
+}
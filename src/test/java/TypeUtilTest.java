@@ -0,0 +1,102 @@
+import love.forte.utils.converter.ConvertException;
+import love.forte.utils.converter.GenericReferenceType;
+import love.forte.utils.converter.StringToNumberConverter;
+import love.forte.utils.converter.TypeMeta;
+import love.forte.utils.converter.TypeUtil;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author ForteScarlet
+ */
+public class TypeUtilTest {
+
+    private List<Integer> integerList;
+    private Map<String, List<Long>> nestedMap;
+    private Map.Entry<String, Integer> entry;
+    private List<Integer>[] listArray;
+
+    @Test
+    public void interned() {
+        assert TypeUtil.list(Integer.class) == TypeUtil.list(Integer.class);
+        assert TypeUtil.map(String.class, TypeUtil.list(Long.class)) == TypeUtil.map(String.class, TypeUtil.list(Long.class));
+        assert TypeUtil.array(TypeUtil.list(Integer.class)) == TypeUtil.array(TypeUtil.list(Integer.class));
+        assert TypeUtil.list(Integer.class) != TypeUtil.list(Long.class);
+
+        final Type[] arguments = {Integer.class};
+        final GenericReferenceType type = GenericReferenceType.resolve(List.class, null, arguments);
+        arguments[0] = Long.class;
+        assert type.getActualTypeArguments()[0] == Integer.class;
+        assert TypeUtil.actualTypeArgumentCount(type) == 1;
+    }
+
+    @Test
+    public void internedWeakly() throws InterruptedException {
+        GenericReferenceType type = GenericReferenceType.resolve(Map.class, null, Short.class, TypeUtil.array(Byte.class));
+        assert type.getTypeName().equals("java.util.Map<java.lang.Short, java.lang.Byte[]>");
+        final WeakReference<GenericReferenceType> reference = new WeakReference<>(type);
+        type = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        // 规范化的实例不会被强引用
+        assert reference.get() == null;
+    }
+
+    @Test
+    public void sameAsJdk() throws NoSuchFieldException {
+        sameAsJdk("integerList", TypeUtil.list(Integer.class));
+        sameAsJdk("nestedMap", TypeUtil.map(String.class, TypeUtil.list(Long.class)));
+        sameAsJdk("entry", GenericReferenceType.resolve(Map.Entry.class, null, String.class, Integer.class));
+        sameAsJdk("listArray", TypeUtil.array(TypeUtil.list(Integer.class)));
+    }
+
+    @Test
+    public void typeMeta() {
+        final TypeMeta intMeta = TypeMeta.of(int.class);
+        assert intMeta == TypeMeta.of(int.class);
+        assert intMeta.getPrimitiveType() == TypeUtil.PrimitiveType.INT;
+        assert intMeta.getBoxedType() == Integer.class;
+        assert intMeta.isNumber();
+        assert intMeta.getNumberConverter() == StringToNumberConverter.ToInt.INSTANCE;
+        assert TypeMeta.of(Integer.class).getNumberConverter() == StringToNumberConverter.ToInt.INSTANCE;
+        assert TypeUtil.PrimitiveType.findByType(Long.class) == TypeUtil.PrimitiveType.LONG;
+        assert TypeUtil.PrimitiveType.findByType(String.class) == null;
+
+        assert TypeMeta.of(long[].class).getComponentType() == long.class;
+        assert TypeMeta.of(long[].class).getContainerKind() == TypeUtil.ContainerKind.ARRAY;
+        assert TypeMeta.of(ArrayList.class).getContainerKind() == TypeUtil.ContainerKind.COLLECTION;
+        assert TypeMeta.of(HashMap.class).getContainerKind() == TypeUtil.ContainerKind.MAP;
+        assert TypeMeta.of(String.class).getContainerKind() == TypeUtil.ContainerKind.NONE;
+
+        assert TypeMeta.of(ArrayList.class).newInstance() instanceof ArrayList;
+        assert !TypeMeta.of(List.class).hasNoArgConstructor();
+        try {
+            TypeMeta.of(Integer.class).newInstance();
+            assert false;
+        } catch (ConvertException ignored) {
+        }
+    }
+
+    private static void sameAsJdk(String fieldName, Type type) throws NoSuchFieldException {
+        final Type jdkType = TypeUtilTest.class.getDeclaredField(fieldName).getGenericType();
+        assert type.equals(jdkType) : type;
+        assert jdkType.equals(type) : type;
+        assert type.hashCode() == jdkType.hashCode() : type;
+        assert type.getTypeName().equals(jdkType.getTypeName()) : type.getTypeName() + " != " + jdkType.getTypeName();
+        assert type.toString().equals(jdkType.toString()) : type;
+        if (type instanceof ParameterizedType) {
+            assert ((ParameterizedType) type).getOwnerType() == ((ParameterizedType) jdkType).getOwnerType();
+        }
+    }
+
+}